@@ -1,29 +1,96 @@
 package io.github.junhkang.springboottesting.controller;
 
+import io.github.junhkang.springboottesting.domain.IdempotencyKey;
 import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderLine;
+import io.github.junhkang.springboottesting.domain.OrderLineResult;
+import io.github.junhkang.springboottesting.domain.OrderPage;
+import io.github.junhkang.springboottesting.domain.OrderSummaryPage;
+import io.github.junhkang.springboottesting.domain.OrderTicket;
+import io.github.junhkang.springboottesting.domain.RevenueBucket;
+import io.github.junhkang.springboottesting.domain.RevenueGroup;
+import io.github.junhkang.springboottesting.exception.IdempotencyKeyConflictException;
+import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
 import io.github.junhkang.springboottesting.service.OrderService;
+import io.github.junhkang.springboottesting.service.idempotency.IdempotencyCache;
+import io.github.junhkang.springboottesting.service.intake.OrderIntake;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 
 
 @RestController
 @RequestMapping("/orders")
 public class OrderController {
     private final OrderService orderService;
+    private final OrderIntake orderIntake;
+    private final IdempotencyCache idempotencyCache;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, ObjectMapper objectMapper, ObjectProvider<OrderIntake> orderIntake,
+                           ObjectProvider<IdempotencyCache> idempotencyCache,
+                           @Value("${orders.page.default-size:20}") int defaultPageSize,
+                           @Value("${orders.page.max-size:100}") int maxPageSize) {
         this.orderService = orderService;
+        this.objectMapper = objectMapper;
+        this.orderIntake = orderIntake.getIfAvailable();
+        this.idempotencyCache = idempotencyCache.getIfAvailable();
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
     }
 
-    @GetMapping
-    public List<Order> getAllOrders() {
-        return orderService.getAllOrders();
+    // after/limit이 없으면 기존처럼 전체 주문 배열로 응답 (대량 조회는 아래 키셋 페이지나 /export 스트리밍 사용)
+    @GetMapping(params = {"!after", "!limit", "view!=summary"})
+    public ResponseEntity<List<Order>> getAllOrders(@RequestParam(required = false) String view) {
+        requireFullView(view);
+        return ResponseEntity.ok(orderService.getAllOrders());
+    }
+
+    // 키셋 페이지로 응답: after는 이전 페이지의 next 토큰, limit은 생략하면 기본 크기이며 최대 크기를 넘지 않음
+    @GetMapping(params = "view!=summary")
+    public ResponseEntity<OrderPage> getOrders(@RequestParam(required = false) String after,
+                                               @RequestParam(required = false) Integer limit,
+                                               @RequestParam(required = false) String view) {
+        requireFullView(view);
+        return ResponseEntity.ok(orderService.getOrders(OrderPage.decodeToken(after), pageSize(limit)));
+    }
+
+    // view=summary: ID/주문일/상태/금액만 반환하며, 전체 보기의 페이지와 같은 토큰과 limit 규칙으로 항상 페이지 단위 응답
+    @GetMapping(params = "view=summary")
+    public ResponseEntity<OrderSummaryPage> getOrderSummaries(@RequestParam(required = false) String after,
+                                                              @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(orderService.getOrderSummaries(OrderPage.decodeToken(after), pageSize(limit)));
+    }
+
+    // 전체 주문을 NDJSON(한 줄에 주문 하나)으로 내보냄: 읽는 대로 응답에 써서 행 수와 무관하게 메모리 사용량이 일정함
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportOrders() {
+        StreamingResponseBody body = out -> orderService.exportOrders(order -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(order));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @GetMapping("/{id}")
@@ -33,8 +100,52 @@ public class OrderController {
     }
 
     @PostMapping
-    public Order createOrder(@RequestParam Long userId, @RequestParam Long productId, @RequestParam Integer quantity) {
-        return orderService.createOrder(userId, productId, quantity);
+    public ResponseEntity<?> createOrder(@RequestParam Long userId, @RequestParam Long productId, @RequestParam Integer quantity,
+                                         @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        if (idempotencyKey != null) {
+            return ResponseEntity.ok(createOrderIdempotently(userId, productId, quantity, idempotencyKey));
+        }
+        // 비동기 접수가 켜져 있으면 큐에 넣고 티켓만 반환 (202 Accepted)
+        if (orderIntake != null) {
+            OrderTicket ticket = orderIntake.submit(new OrderLine(userId, productId, quantity));
+            return ResponseEntity.accepted().body(ticket);
+        }
+        return ResponseEntity.ok(orderService.createOrder(userId, productId, quantity));
+    }
+
+    // 재전송된 요청은 캐시(없으면 DB의 키 테이블)로 최초 주문을 찾아 반환하고 트랜잭션을 다시 실행하지 않는다
+    // 같은 키가 다른 파라미터로 들어오면 최초 주문을 돌려주지 않고 422로 거부
+    private Order createOrderIdempotently(Long userId, Long productId, Integer quantity, String idempotencyKey) {
+        String requestHash = IdempotencyKey.hashRequest(userId, productId, quantity);
+        Long cachedOrderId = idempotencyCache != null ? idempotencyCache.get(idempotencyKey, requestHash) : null;
+        if (cachedOrderId != null) {
+            return orderService.getOrderById(cachedOrderId);
+        }
+
+        Order order;
+        try {
+            order = orderService.createOrder(userId, productId, quantity, idempotencyKey);
+        } catch (IdempotencyKeyConflictException e) {
+            // 같은 키의 동시 요청이 먼저 커밋된 경우: 다시 호출하면 저장된 키로 최초 주문을 반환 (그 외 무결성 위반은 그대로 409)
+            order = orderService.createOrder(userId, productId, quantity, idempotencyKey);
+        }
+        if (idempotencyCache != null) {
+            idempotencyCache.put(idempotencyKey, order.getId(), requestHash);
+        }
+        return order;
+    }
+
+    @GetMapping("/tickets/{id}")
+    public ResponseEntity<OrderTicket> getTicket(@PathVariable String id) {
+        if (orderIntake == null) {
+            throw new ResourceNotFoundException("Ticket not found with id " + id);
+        }
+        return ResponseEntity.ok(orderIntake.getTicket(id));
+    }
+
+    @PostMapping("/batch")
+    public List<OrderLineResult> createOrders(@RequestBody List<OrderLine> lines) {
+        return orderService.createOrders(lines);
     }
 
     @DeleteMapping("/{id}/cancel")
@@ -49,9 +160,45 @@ public class OrderController {
         return ResponseEntity.ok(updatedOrder);
     }
 
-    @GetMapping("/user/{userId}")
-    public List<Order> getOrdersByUserId(@PathVariable Long userId) {
-        return orderService.getOrdersByUserId(userId);
+    // after/limit이 없으면 기존처럼 사용자의 전체 주문 배열로 응답 (주문 이력 캐시가 켜져 있으면 캐시에서 응답)
+    @GetMapping(value = "/user/{userId}", params = {"!after", "!limit", "view!=summary"})
+    public ResponseEntity<List<Order>> getOrdersByUserId(@PathVariable Long userId,
+                                                         @RequestParam(required = false) String view) {
+        requireFullView(view);
+        return ResponseEntity.ok(orderService.getOrdersByUserId(userId));
+    }
+
+    @GetMapping(value = "/user/{userId}", params = "view!=summary")
+    public ResponseEntity<OrderPage> getOrdersPageByUserId(@PathVariable Long userId,
+                                                       @RequestParam(required = false) String after,
+                                                       @RequestParam(required = false) Integer limit,
+                                                       @RequestParam(required = false) String view) {
+        requireFullView(view);
+        return ResponseEntity.ok(orderService.getOrdersByUserId(userId, OrderPage.decodeToken(after), pageSize(limit)));
+    }
+
+    @GetMapping(value = "/user/{userId}", params = "view=summary")
+    public ResponseEntity<OrderSummaryPage> getOrderSummariesByUserId(@PathVariable Long userId,
+                                                                      @RequestParam(required = false) String after,
+                                                                      @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(orderService.getOrderSummariesByUserId(userId, OrderPage.decodeToken(after), pageSize(limit)));
+    }
+
+    // view=full(기본값)은 사용자/상품 정보를 포함한 전체 주문, summary는 별도 핸들러가 처리
+    private void requireFullView(String view) {
+        if (view != null && !view.equals("full")) {
+            throw new IllegalArgumentException("Unknown view: " + view);
+        }
+    }
+
+    private int pageSize(Integer limit) {
+        if (limit == null) {
+            return Math.min(defaultPageSize, maxPageSize);
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be greater than zero.");
+        }
+        return Math.min(limit, maxPageSize);
     }
 
     @GetMapping("/date")
@@ -61,6 +208,18 @@ public class OrderController {
         return orderService.getOrdersByDateRange(start, end);
     }
 
+    // 기간 내 매출 집계: groupBy는 day, product, user, status 중 하나
+    @GetMapping("/revenue/{groupBy}")
+    public List<RevenueBucket> getRevenue(@PathVariable String groupBy, @RequestParam String startDate, @RequestParam String endDate) {
+        RevenueGroup group;
+        try {
+            group = RevenueGroup.valueOf(groupBy.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown revenue grouping: " + groupBy);
+        }
+        return orderService.getRevenue(group, LocalDateTime.parse(startDate), LocalDateTime.parse(endDate));
+    }
+
     @GetMapping("/{id}/totalAmount")
     public ResponseEntity<Double> calculateTotalAmount(@PathVariable Long id) {
         Double totalAmount = orderService.calculateTotalAmount(id);
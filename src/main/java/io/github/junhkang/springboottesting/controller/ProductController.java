@@ -1,19 +1,38 @@
 package io.github.junhkang.springboottesting.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.ProductImportReport;
+import io.github.junhkang.springboottesting.domain.ProductNameMatch;
 import io.github.junhkang.springboottesting.service.ProductService;
+import io.github.junhkang.springboottesting.service.catalog.ProductImportReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/products")
 public class ProductController {
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
     private final ProductService productService;
+    private final ObjectMapper objectMapper;
+    private final int defaultSearchLimit;
+    private final int maxSearchLimit;
 
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, ObjectMapper objectMapper,
+                             @Value("${products.search.default-limit:20}") int defaultSearchLimit,
+                             @Value("${products.search.max-limit:100}") int maxSearchLimit) {
         this.productService = productService;
+        this.objectMapper = objectMapper;
+        this.defaultSearchLimit = defaultSearchLimit;
+        this.maxSearchLimit = maxSearchLimit;
     }
 
     @GetMapping
@@ -21,6 +40,30 @@ public class ProductController {
         return productService.getAllProducts();
     }
 
+    // 상품 이름 검색: match는 exact, prefix(기본값), token 중 하나이고 limit은 max-limit을 넘지 않도록 잘라냄
+    @GetMapping("/search")
+    public List<Product> searchProducts(@RequestParam String q,
+                                        @RequestParam(defaultValue = "prefix") String match,
+                                        @RequestParam(required = false) Integer limit) {
+        ProductNameMatch nameMatch;
+        try {
+            nameMatch = ProductNameMatch.valueOf(match.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown match: " + match);
+        }
+        return productService.searchProducts(q, nameMatch, searchLimit(limit));
+    }
+
+    private int searchLimit(Integer limit) {
+        if (limit == null) {
+            return Math.min(defaultSearchLimit, maxSearchLimit);
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be greater than zero.");
+        }
+        return Math.min(limit, maxSearchLimit);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Product> getProductById(@PathVariable Long id) {
         Product product = productService.getProductById(id);
@@ -32,4 +75,18 @@ public class ProductController {
         return productService.createProduct(product);
     }
 
+    // CSV(text/csv) 또는 NDJSON 본문을 버퍼링하지 않고 한 줄씩 읽어 등록하고, 실패한 줄은 보고서로 반환
+    @PostMapping(value = "/import", consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ProductImportReport importProducts(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) {
+        ProductImportReader.Format format = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? ProductImportReader.Format.NDJSON
+                : ProductImportReader.Format.CSV;
+        return productService.importProducts(new ProductImportReader(body, format, objectMapper));
+    }
+
+    @PostMapping("/{id}/stock-buckets")
+    public ResponseEntity<Product> splitStock(@PathVariable Long id) {
+        return ResponseEntity.ok(productService.splitStock(id));
+    }
+
 }
\ No newline at end of file
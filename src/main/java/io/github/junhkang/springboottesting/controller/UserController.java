@@ -30,6 +30,11 @@ public class UserController {
         return ResponseEntity.ok(user);
     }
 
+    @GetMapping("/by-username/{name}")
+    public ResponseEntity<User> getUserByUsername(@PathVariable String name) {
+        return ResponseEntity.ok(userService.getUserByUsername(name));
+    }
+
     @PostMapping
     public User createUser(@RequestBody User user) {
         return userService.createUser(user);
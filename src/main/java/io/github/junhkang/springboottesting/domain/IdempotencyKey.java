@@ -0,0 +1,39 @@
+package io.github.junhkang.springboottesting.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+// 멱등 키별로 최초 생성된 주문 ID와 요청 파라미터 해시를 보관 (캐시에서 만료된 키의 재요청 판별용, TTL이 지난 행은 IdempotencyKeyPurger가 삭제)
+@Entity
+@Table(name = "idempotency_keys", indexes = @Index(name = "idx_idempotency_keys_created_at", columnList = "created_at"))
+@Data
+public class IdempotencyKey {
+    @Id
+    private String idempotencyKey;
+
+    private Long orderId;
+
+    private String requestHash;
+
+    private LocalDateTime createdAt;
+
+    // 재요청이 최초 요청과 같은 주문을 가리키는지 비교하기 위한 (userId, productId, quantity)의 SHA-256 해시
+    public static String hashRequest(Long userId, Long productId, Integer quantity) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest((userId + ":" + productId + ":" + quantity).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
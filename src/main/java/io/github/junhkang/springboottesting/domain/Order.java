@@ -1,24 +1,31 @@
 package io.github.junhkang.springboottesting.domain;
 
+import io.github.junhkang.springboottesting.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.Data;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // 사용자별 조회(user_id =)와 사용자별 기간 조회를 함께 처리
+        @Index(name = "idx_orders_user_date", columnList = "user_id, order_date"),
+        @Index(name = "idx_orders_order_date", columnList = "order_date"),
+        @Index(name = "idx_orders_status", columnList = "status")
+})
 @Data // 교육용이니까 getter setter 사용 하신듯?
 public class Order {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     private LocalDateTime orderDate;
 
-    @ManyToOne
+    // 지연 로딩: 사용자/상품이 필요한 조회는 OrderRepository의 fetch join/@EntityGraph 조회를 사용
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id")
     private Product product;
 
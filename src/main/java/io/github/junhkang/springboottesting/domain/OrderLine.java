@@ -0,0 +1,14 @@
+package io.github.junhkang.springboottesting.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderLine {
+    private Long userId;
+    private Long productId;
+    private Integer quantity;
+}
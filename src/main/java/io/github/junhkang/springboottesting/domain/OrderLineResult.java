@@ -0,0 +1,27 @@
+package io.github.junhkang.springboottesting.domain;
+
+import lombok.Data;
+
+@Data
+public class OrderLineResult {
+    private int index;
+    private boolean success;
+    private Long orderId;
+    private String error;
+
+    public static OrderLineResult succeeded(int index, Long orderId) {
+        OrderLineResult result = new OrderLineResult();
+        result.setIndex(index);
+        result.setSuccess(true);
+        result.setOrderId(orderId);
+        return result;
+    }
+
+    public static OrderLineResult failed(int index, String error) {
+        OrderLineResult result = new OrderLineResult();
+        result.setIndex(index);
+        result.setSuccess(false);
+        result.setError(error);
+        return result;
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.junhkang.springboottesting.domain;
+
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+// 키셋(id 기준) 페이지: next는 다음 페이지 요청의 after 값으로 그대로 넘기는 불투명 토큰 (마지막 페이지면 null)
+@Data
+public class OrderPage {
+    private static final String TOKEN_PREFIX = "order:";
+
+    private List<Order> orders;
+    private String next;
+
+    public static OrderPage of(List<Order> orders, boolean hasNext) {
+        OrderPage page = new OrderPage();
+        page.setOrders(orders);
+        page.setNext(hasNext && !orders.isEmpty() ? encodeToken(orders.get(orders.size() - 1).getId()) : null);
+        return page;
+    }
+
+    public static String encodeToken(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((TOKEN_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰에서 마지막으로 반환한 주문 ID를 꺼냅니다. 토큰이 없으면 null (첫 페이지).
+     *
+     * @throws IllegalArgumentException 이 API가 발급하지 않은 토큰인 경우
+     */
+    public static Long decodeToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (decoded.startsWith(TOKEN_PREFIX)) {
+                return Long.parseLong(decoded.substring(TOKEN_PREFIX.length()));
+            }
+        } catch (IllegalArgumentException e) {
+            // 아래에서 공통 메시지로 처리
+        }
+        throw new IllegalArgumentException("Invalid page token.");
+    }
+}
@@ -0,0 +1,14 @@
+package io.github.junhkang.springboottesting.domain;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// 목록 화면용 요약 (orders 테이블 컬럼만 사용하므로 users/product 조인과 User/Product 객체 생성이 없음)
+@Data
+public class OrderSummary {
+    private Long id;
+    private LocalDateTime orderDate;
+    private OrderStatus status;
+    private Double totalAmount;
+}
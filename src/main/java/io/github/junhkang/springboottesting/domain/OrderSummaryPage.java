@@ -0,0 +1,19 @@
+package io.github.junhkang.springboottesting.domain;
+
+import lombok.Data;
+
+import java.util.List;
+
+// 요약 보기의 키셋 페이지: next 토큰은 OrderPage와 같은 형식이라 두 보기 사이에서 그대로 이어 쓸 수 있음
+@Data
+public class OrderSummaryPage {
+    private List<OrderSummary> summaries;
+    private String next;
+
+    public static OrderSummaryPage of(List<OrderSummary> summaries, boolean hasNext) {
+        OrderSummaryPage page = new OrderSummaryPage();
+        page.setSummaries(summaries);
+        page.setNext(hasNext && !summaries.isEmpty() ? OrderPage.encodeToken(summaries.get(summaries.size() - 1).getId()) : null);
+        return page;
+    }
+}
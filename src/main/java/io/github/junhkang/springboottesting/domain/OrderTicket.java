@@ -0,0 +1,39 @@
+package io.github.junhkang.springboottesting.domain;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class OrderTicket {
+    private String id;
+    private TicketStatus status;
+    private Long orderId;
+    private String error;
+    private LocalDateTime acceptedAt;
+
+    public enum TicketStatus {
+        PENDING,
+        COMPLETED,
+        FAILED
+    }
+
+    public static OrderTicket pending(String id) {
+        OrderTicket ticket = new OrderTicket();
+        ticket.setId(id);
+        ticket.setStatus(TicketStatus.PENDING);
+        ticket.setAcceptedAt(LocalDateTime.now());
+        return ticket;
+    }
+
+    // 처리 결과는 새 인스턴스로 만들어 교체 (요청 스레드가 읽는 도중 값이 바뀌지 않도록)
+    public OrderTicket complete(OrderLineResult result) {
+        OrderTicket ticket = new OrderTicket();
+        ticket.setId(id);
+        ticket.setAcceptedAt(acceptedAt);
+        ticket.setStatus(result.isSuccess() ? TicketStatus.COMPLETED : TicketStatus.FAILED);
+        ticket.setOrderId(result.getOrderId());
+        ticket.setError(result.getError());
+        return ticket;
+    }
+}
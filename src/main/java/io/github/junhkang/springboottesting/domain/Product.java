@@ -1,18 +1,22 @@
 package io.github.junhkang.springboottesting.domain;
 
+import io.github.junhkang.springboottesting.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.Data;
 
 @Entity
-@Table(name = "product")
+@Table(name = "product", indexes = @Index(name = "idx_product_name", columnList = "name"))
 @Data
 public class Product {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     private String name;
     private String description;
     private Double price;
     private Integer stock;
+
+    @Version
+    private Long version;
 }
\ No newline at end of file
@@ -9,4 +9,5 @@ public class ProductDTO {
     private String description;
     private Double price;
     private Integer stock;
+    private Long version = 0L;
 }
\ No newline at end of file
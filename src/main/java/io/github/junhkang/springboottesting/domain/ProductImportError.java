@@ -0,0 +1,13 @@
+package io.github.junhkang.springboottesting.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportError {
+    private long line;
+    private String error;
+}
@@ -0,0 +1,15 @@
+package io.github.junhkang.springboottesting.domain;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 대량 상품 등록 결과: 실패한 줄은 모두 failed에 세고, errors에는 앞에서부터 max-errors건까지만 담는다
+@Data
+public class ProductImportReport {
+    private long imported;
+    private long failed;
+    private long elapsedMillis;
+    private List<ProductImportError> errors = new ArrayList<>();
+}
@@ -0,0 +1,25 @@
+package io.github.junhkang.springboottesting.domain;
+
+import lombok.Data;
+
+// 대량 상품 등록 본문의 한 줄: 읽어 낸 상품 또는 읽지 못한 이유
+@Data
+public class ProductImportRow {
+    private long line;
+    private Product product;
+    private String error;
+
+    public static ProductImportRow parsed(long line, Product product) {
+        ProductImportRow row = new ProductImportRow();
+        row.setLine(line);
+        row.setProduct(product);
+        return row;
+    }
+
+    public static ProductImportRow invalid(long line, String error) {
+        ProductImportRow row = new ProductImportRow();
+        row.setLine(line);
+        row.setError(error);
+        return row;
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.junhkang.springboottesting.domain;
+
+// 상품 이름 검색 방식 (대소문자 무시): EXACT는 이름 전체, PREFIX는 이름의 앞부분, TOKEN은 검색어의 모든 단어가 이름의 단어와 일치
+public enum ProductNameMatch {
+    EXACT,
+    PREFIX,
+    TOKEN
+}
@@ -0,0 +1,10 @@
+package io.github.junhkang.springboottesting.domain;
+
+import lombok.Data;
+
+@Data
+public class RevenueBucket {
+    private String key;
+    private Long orderCount;
+    private Double revenue;
+}
@@ -0,0 +1,9 @@
+package io.github.junhkang.springboottesting.domain;
+
+// 매출 집계 기준 (RevenueBucket.key: DAY는 yyyy-MM-dd, PRODUCT/USER는 ID, STATUS는 상태명)
+public enum RevenueGroup {
+    DAY,
+    PRODUCT,
+    USER,
+    STATUS
+}
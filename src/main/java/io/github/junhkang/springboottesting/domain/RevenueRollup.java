@@ -0,0 +1,46 @@
+package io.github.junhkang.springboottesting.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+// 기간(일/월) × 상품 × 상태별 주문 건수/수량/매출 누계 (주문 생성/취소/수량 변경과 같은 트랜잭션에서 증감)
+@Entity
+@Table(name = "revenue_rollups")
+@IdClass(RevenueRollup.Key.class)
+@Data
+public class RevenueRollup {
+    @Id
+    @Enumerated(EnumType.STRING)
+    private RollupGranularity granularity;
+
+    @Id
+    private LocalDate periodStart;
+
+    @Id
+    private Long productId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+
+    private Long orderCount;
+
+    private Long quantity;
+
+    private Double revenue;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private RollupGranularity granularity;
+        private LocalDate periodStart;
+        private Long productId;
+        private OrderStatus status;
+    }
+}
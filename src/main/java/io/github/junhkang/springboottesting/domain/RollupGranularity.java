@@ -0,0 +1,7 @@
+package io.github.junhkang.springboottesting.domain;
+
+// 매출 롤업 단위 (DAY는 일자별, MONTH는 월 첫날 기준 월별 행)
+public enum RollupGranularity {
+    DAY,
+    MONTH
+}
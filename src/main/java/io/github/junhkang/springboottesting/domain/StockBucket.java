@@ -0,0 +1,23 @@
+package io.github.junhkang.springboottesting.domain;
+
+import io.github.junhkang.springboottesting.id.TimeOrderedId;
+import jakarta.persistence.*;
+import lombok.Data;
+
+// 재고 분할 모드에서 상품 재고의 일부를 나눠 담는 행 (상품 재고 = product.stock + 버킷 재고의 합)
+@Entity
+@Table(name = "stock_buckets", uniqueConstraints = @UniqueConstraint(columnNames = {"product_id", "bucket_index"}))
+@Data
+public class StockBucket {
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "bucket_index")
+    private Integer bucketIndex;
+
+    private Integer stock;
+}
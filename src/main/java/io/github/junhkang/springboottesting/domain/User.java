@@ -1,14 +1,15 @@
 package io.github.junhkang.springboottesting.domain;
 
+import io.github.junhkang.springboottesting.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.Data;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = @UniqueConstraint(name = "uk_users_username", columnNames = "username"))
 @Data
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     private String username;
@@ -1,5 +1,6 @@
 package io.github.junhkang.springboottesting.exception;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -12,6 +13,22 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(404).body(ex.getMessage());
     }
 
+    @ExceptionHandler(OrderIntakeRejectedException.class)
+    public ResponseEntity<String> handleOrderIntakeRejectedException(OrderIntakeRejectedException ex) {
+        return ResponseEntity.status(503).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<String> handleIdempotencyKeyMismatchException(IdempotencyKeyMismatchException ex) {
+        return ResponseEntity.status(422).body(ex.getMessage());
+    }
+
+    // 유니크 제약(예: 중복 username) 위반
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<String> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
+        return ResponseEntity.status(409).body("Request conflicts with existing data.");
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<String> handleIllegalArgumentException(IllegalArgumentException ex) {
         return ResponseEntity.badRequest().body(ex.getMessage());
@@ -0,0 +1,11 @@
+package io.github.junhkang.springboottesting.exception;
+
+import org.springframework.dao.DuplicateKeyException;
+
+// 같은 멱등 키로 동시에 들어온 요청이 먼저 커밋되어 idempotency_keys의 PK INSERT가 실패한 경우
+public class IdempotencyKeyConflictException extends DuplicateKeyException {
+
+    public IdempotencyKeyConflictException(String idempotencyKey, Throwable cause) {
+        super("Idempotency key already used: " + idempotencyKey, cause);
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.junhkang.springboottesting.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+    public IdempotencyKeyMismatchException(String idempotencyKey) {
+        super("Idempotency key was already used with different request parameters: " + idempotencyKey);
+    }
+}
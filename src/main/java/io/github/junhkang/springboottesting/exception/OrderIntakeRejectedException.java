@@ -0,0 +1,12 @@
+package io.github.junhkang.springboottesting.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class OrderIntakeRejectedException extends RuntimeException {
+
+    public OrderIntakeRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.junhkang.springboottesting.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔티티 ID를 {@link TimeOrderedIdGenerator}로 생성하도록 지정합니다.
+ */
+@IdGeneratorType(TimeOrderedIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
@@ -0,0 +1,44 @@
+package io.github.junhkang.springboottesting.id;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * JSON 응답의 ID 필드(이름이 id이거나 Id로 끝나는 Long 속성)를 문자열로 직렬화하는 Jackson 모듈
+ *
+ * 시간순 ID는 JavaScript Number가 정확히 표현하는 범위(2^53 - 1)를 넘으므로 브라우저 클라이언트가 필요하면 켭니다.
+ * 기존 클라이언트가 숫자 ID를 기대하므로 기본값은 꺼져 있습니다. (id.json-as-string=true로 켬)
+ */
+@Component
+@ConditionalOnProperty(name = "id.json-as-string", havingValue = "true")
+public class TimeOrderedIdJsonModule extends SimpleModule {
+
+    public TimeOrderedIdJsonModule() {
+        super("TimeOrderedIdJsonModule");
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc,
+                                                             List<BeanPropertyWriter> properties) {
+                for (BeanPropertyWriter property : properties) {
+                    if (isId(property)) {
+                        property.assignSerializer(ToStringSerializer.instance);
+                    }
+                }
+                return properties;
+            }
+        });
+    }
+
+    private static boolean isId(BeanPropertyWriter property) {
+        String name = property.getName();
+        return property.getType().getRawClass() == Long.class && (name.equals("id") || name.endsWith("Id"));
+    }
+}
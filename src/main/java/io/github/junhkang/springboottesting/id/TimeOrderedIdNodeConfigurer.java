@@ -0,0 +1,15 @@
+package io.github.junhkang.springboottesting.id;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 설정된 노드 ID(id.node-id)를 공유 ID 생성기에 반영합니다. 인스턴스마다 다른 값을 지정해야 합니다.
+ */
+@Component
+public class TimeOrderedIdNodeConfigurer {
+
+    public TimeOrderedIdNodeConfigurer(@Value("${id.node-id:0}") int nodeId) {
+        TimeOrderedIdGenerator.shared().setNodeId(nodeId);
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.junhkang.springboottesting.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+import java.util.EnumSet;
+
+import static org.hibernate.generator.EventTypeSets.INSERT_ONLY;
+
+/**
+ * Hibernate가 INSERT 전에 공유 {@link TimeOrderedIdGenerator}에서 ID를 받아오도록 연결합니다.
+ */
+public class TimeOrderedIdentifierGenerator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return TimeOrderedIdGenerator.shared().nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return INSERT_ONLY;
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.junhkang.springboottesting.repository.jpa;
+
+import io.github.junhkang.springboottesting.domain.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    // save()는 키가 할당된 엔티티를 merge(SELECT 후 INSERT)하므로, 중복 키가 PK 위반으로 드러나도록 직접 INSERT
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO IdempotencyKey (idempotencyKey, orderId, requestHash, createdAt) VALUES (:key, :orderId, :requestHash, :createdAt)")
+    int insert(@Param("key") String key, @Param("orderId") Long orderId, @Param("requestHash") String requestHash,
+               @Param("createdAt") LocalDateTime createdAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
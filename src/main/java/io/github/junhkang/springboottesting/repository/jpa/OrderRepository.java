@@ -1,13 +1,183 @@
 package io.github.junhkang.springboottesting.repository.jpa;
 
 import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderStatus;
 import io.github.junhkang.springboottesting.domain.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
+    // user/product는 LAZY이므로 주문을 반환하는 조회는 한 번의 조인으로 함께 읽어 N+1 조회를 막는다
+    @Override
+    @EntityGraph(attributePaths = {"user", "product"})
+    List<Order> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = {"user", "product"})
+    Optional<Order> findById(Long id);
+
+    // 총액만 필요할 때는 엔티티/연관관계를 읽지 않고 한 컬럼만 조회
+    @Query("SELECT o.totalAmount FROM Order o WHERE o.id = :id")
+    Optional<Double> findTotalAmountById(@Param("id") Long id);
+
+    @EntityGraph(attributePaths = {"user", "product"})
     List<Order> findByUser(User user);
-    List<Order> findByOrderDateBetween(LocalDateTime startDate, LocalDateTime endDate);
+
+    // 사용자 엔티티(또는 참조 프록시) 없이 user_id로 ID 순 조회하고, user/product는 fetch join으로 초기화된 상태로 반환
+    @Query("SELECT o FROM Order o JOIN FETCH o.user JOIN FETCH o.product WHERE o.user.id = :userId ORDER BY o.id")
+    List<Order> findByUserIdFetchingUserAndProduct(@Param("userId") Long userId);
+
+    @EntityGraph(attributePaths = {"user", "product"})
+    List<Order> findByIdInOrderByIdAsc(Collection<Long> ids);
+
+    @Query("SELECT o FROM Order o JOIN FETCH o.user JOIN FETCH o.product WHERE o.orderDate BETWEEN :startDate AND :endDate")
+    List<Order> findByOrderDateBetween(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    // 요약 조회: 인터페이스 프로젝션이라 orders 테이블의 네 컬럼만 SELECT 하고 엔티티를 만들지 않음
+    @Query("SELECT o.id AS id, o.orderDate AS orderDate, o.status AS status, o.totalAmount AS totalAmount FROM Order o")
+    List<OrderSummaryView> findAllSummaries();
+
+    @Query("SELECT o.id AS id, o.orderDate AS orderDate, o.status AS status, o.totalAmount AS totalAmount "
+            + "FROM Order o WHERE o.user.id = :userId ORDER BY o.id")
+    List<OrderSummaryView> findSummariesByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT o.id AS id, o.orderDate AS orderDate, o.status AS status, o.totalAmount AS totalAmount "
+            + "FROM Order o WHERE o.id > :afterId ORDER BY o.id")
+    Slice<OrderSummaryView> findSummaryPage(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT o.id AS id, o.orderDate AS orderDate, o.status AS status, o.totalAmount AS totalAmount "
+            + "FROM Order o WHERE o.user.id = :userId AND o.id > :afterId ORDER BY o.id")
+    Slice<OrderSummaryView> findSummaryPageByUserId(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 매출 집계: GROUP BY 결과(기준 값, 건수, 합계)만 반환
+    @Query("SELECT cast(o.orderDate AS LocalDate) AS bucketKey, count(o) AS orderCount, sum(o.totalAmount) AS revenue "
+            + "FROM Order o WHERE o.orderDate BETWEEN :startDate AND :endDate "
+            + "GROUP BY cast(o.orderDate AS LocalDate) ORDER BY cast(o.orderDate AS LocalDate)")
+    List<RevenueView> revenueByDay(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT o.product.id AS bucketKey, count(o) AS orderCount, sum(o.totalAmount) AS revenue "
+            + "FROM Order o WHERE o.orderDate BETWEEN :startDate AND :endDate "
+            + "GROUP BY o.product.id ORDER BY o.product.id")
+    List<RevenueView> revenueByProduct(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT o.user.id AS bucketKey, count(o) AS orderCount, sum(o.totalAmount) AS revenue "
+            + "FROM Order o WHERE o.orderDate BETWEEN :startDate AND :endDate "
+            + "GROUP BY o.user.id ORDER BY o.user.id")
+    List<RevenueView> revenueByUser(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT o.status AS bucketKey, count(o) AS orderCount, sum(o.totalAmount) AS revenue "
+            + "FROM Order o WHERE o.orderDate BETWEEN :startDate AND :endDate "
+            + "GROUP BY o.status ORDER BY o.status")
+    List<RevenueView> revenueByStatus(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    // 내보내기용 스트림: 호출 측 트랜잭션 안에서 fetch size 단위로 읽으며, 사용 후 반드시 close 해야 한다
+    @Query("SELECT o FROM Order o JOIN FETCH o.user JOIN FETCH o.product ORDER BY o.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Order> streamAll();
+
+    // 키셋 페이지네이션 (Slice는 limit + 1건을 조회해 다음 페이지 여부만 판단하고 count 쿼리는 실행하지 않는다)
+    @EntityGraph(attributePaths = {"user", "product"})
+    Slice<Order> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"user", "product"})
+    Slice<Order> findByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long afterId, Pageable pageable);
+
+    // 사용자 확인, 조건부 재고 차감, 주문 INSERT를 한 번의 왕복으로 처리 (H2 data change delta table)
+    // UPDATE가 0건이면(사용자/상품 없음, 재고 부족) 빈 결과. 바깥 SELECT의 product는 차감 전 값이므로 재고는 반환하지 않는다.
+    @Query(nativeQuery = true, value = """
+            SELECT o.id, o.order_date AS orderDate, o.user_id AS userId, u.username, u.email AS userEmail,
+                   o.product_id AS productId, p.name AS productName, p.description AS productDescription,
+                   p.price AS productPrice, CAST(NULL AS INTEGER) AS productStock, o.quantity, o.status, o.total_amount AS totalAmount
+            FROM FINAL TABLE (
+                INSERT INTO orders (id, order_date, user_id, product_id, quantity, status, total_amount)
+                SELECT :id, :orderDate, :userId, updated.id, :quantity, 'PENDING', updated.price * :quantity
+                FROM FINAL TABLE (
+                    UPDATE product SET stock = stock - :quantity, version = version + 1
+                    WHERE id = :productId AND stock >= :quantity
+                      AND EXISTS (SELECT 1 FROM users WHERE id = :userId)
+                ) updated
+            ) o
+            JOIN users u ON o.user_id = u.id
+            JOIN product p ON o.product_id = p.id
+            """)
+    Optional<OrderRow> placeOrder(@Param("id") Long id, @Param("orderDate") LocalDateTime orderDate, @Param("userId") Long userId,
+                                     @Param("productId") Long productId, @Param("quantity") Integer quantity);
+
+    // 취소 전이: PENDING인 경우에만 CANCELED로 바꾸고 바뀐 행을 같은 왕복에서 반환 (이미 취소/변경된 주문이면 빈 결과)
+    @Query(nativeQuery = true, value = """
+            SELECT o.id, o.order_date AS orderDate, o.user_id AS userId, u.username, u.email AS userEmail,
+                   o.product_id AS productId, p.name AS productName, p.description AS productDescription,
+                   p.price AS productPrice, p.stock AS productStock, o.quantity, o.status, o.total_amount AS totalAmount
+            FROM FINAL TABLE (
+                UPDATE orders SET status = 'CANCELED'
+                WHERE id = :id AND status = 'PENDING'
+            ) o
+            JOIN users u ON o.user_id = u.id
+            JOIN product p ON o.product_id = p.id
+            """)
+    Optional<OrderRow> cancelIfPending(@Param("id") Long id);
+
+    // 수량 변경: 읽었던 수량 그대로 PENDING인 경우에만 변경하고 바뀐 행을 반환 (그 사이 변경/취소되었으면 빈 결과)
+    @Query(nativeQuery = true, value = """
+            SELECT o.id, o.order_date AS orderDate, o.user_id AS userId, u.username, u.email AS userEmail,
+                   o.product_id AS productId, p.name AS productName, p.description AS productDescription,
+                   p.price AS productPrice, p.stock AS productStock, o.quantity, o.status, o.total_amount AS totalAmount
+            FROM FINAL TABLE (
+                UPDATE orders
+                SET quantity = :newQuantity,
+                    total_amount = (SELECT price FROM product WHERE id = orders.product_id) * :newQuantity
+                WHERE id = :id AND status = 'PENDING' AND quantity = :expectedQuantity
+            ) o
+            JOIN users u ON o.user_id = u.id
+            JOIN product p ON o.product_id = p.id
+            """)
+    Optional<OrderRow> updateQuantityIfUnchanged(@Param("id") Long id, @Param("expectedQuantity") Integer expectedQuantity,
+                                                 @Param("newQuantity") Integer newQuantity);
+
+    // bucketKey는 기준에 따라 LocalDate / Long / OrderStatus
+    interface RevenueView {
+        Object getBucketKey();
+        Long getOrderCount();
+        Double getRevenue();
+    }
+
+    interface OrderSummaryView {
+        Long getId();
+        LocalDateTime getOrderDate();
+        OrderStatus getStatus();
+        Double getTotalAmount();
+    }
+
+    // 네이티브 구문이 반환하는 주문 행 (사용자/상품 컬럼 포함)
+    interface OrderRow {
+        Long getId();
+        LocalDateTime getOrderDate();
+        Long getUserId();
+        String getUsername();
+        String getUserEmail();
+        Long getProductId();
+        String getProductName();
+        String getProductDescription();
+        Double getProductPrice();
+        Integer getProductStock();
+        Integer getQuantity();
+        String getStatus();
+        Double getTotalAmount();
+    }
 }
\ No newline at end of file
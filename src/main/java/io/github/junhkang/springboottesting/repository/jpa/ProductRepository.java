@@ -1,7 +1,46 @@
 package io.github.junhkang.springboottesting.repository.jpa;
 
 import io.github.junhkang.springboottesting.domain.Product;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
-}
\ No newline at end of file
+
+    // 이름 검색 인덱스 적재용 (ID, 이름만 조회)
+    @Query("SELECT p.id AS id, p.name AS name FROM Product p")
+    List<ProductNameView> findAllNames();
+
+    // 이름 검색 인덱스를 끈 경우의 조회. 인덱스와 같이 앞뒤 공백/대소문자를 무시하도록 정규화한 이름과 비교하므로
+    // idx_product_name을 타지 않음 (name은 정규화해서, prefix는 %, _, !를 !로 이스케이프하고 %를 붙여 전달)
+    @Query("SELECT p FROM Product p WHERE LOWER(TRIM(p.name)) = :name ORDER BY p.id")
+    List<Product> findByNormalizedName(@Param("name") String name, Pageable pageable);
+
+    @Query("SELECT p FROM Product p WHERE LOWER(TRIM(p.name)) LIKE :prefix ESCAPE '!' ORDER BY LOWER(TRIM(p.name)), p.id")
+    List<Product> findByNormalizedNamePrefix(@Param("prefix") String prefix, Pageable pageable);
+
+    // 재고 차감/복구는 SQL 안에서 원자적으로 처리하고, 영속성 컨텍스트의 stale 엔티티는 비운다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stock = p.stock - :quantity, p.version = p.version + 1 WHERE p.id = :id AND p.stock >= :quantity")
+    int decreaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stock = p.stock + :quantity, p.version = p.version + 1 WHERE p.id = :id")
+    int increaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    // 재고 원장의 변경분 반영용 (호출 측 트랜잭션이 없어도 동작)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock + :delta, p.version = p.version + 1 WHERE p.id = :id")
+    int adjustStock(@Param("id") Long id, @Param("delta") int delta);
+
+    interface ProductNameView {
+        Long getId();
+        String getName();
+    }
+}
@@ -0,0 +1,138 @@
+package io.github.junhkang.springboottesting.repository.jpa;
+
+import io.github.junhkang.springboottesting.domain.OrderStatus;
+import io.github.junhkang.springboottesting.domain.RevenueRollup;
+import io.github.junhkang.springboottesting.domain.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevenueRollupRepository extends JpaRepository<RevenueRollup, RevenueRollup.Key> {
+
+    @Modifying
+    @Query("""
+            UPDATE RevenueRollup r
+            SET r.orderCount = r.orderCount + :orderCount, r.quantity = r.quantity + :quantity, r.revenue = r.revenue + :revenue
+            WHERE r.granularity = :granularity AND r.periodStart = :periodStart AND r.productId = :productId AND r.status = :status
+            """)
+    int increment(@Param("granularity") RollupGranularity granularity, @Param("periodStart") LocalDate periodStart,
+                  @Param("productId") Long productId, @Param("status") OrderStatus status,
+                  @Param("orderCount") long orderCount, @Param("quantity") long quantity, @Param("revenue") double revenue);
+
+    // save()는 키가 할당된 엔티티를 merge(SELECT 후 INSERT)하므로, 동시에 만든 행이 PK 위반으로 드러나도록 직접 INSERT
+    @Modifying
+    @Query("""
+            INSERT INTO RevenueRollup (granularity, periodStart, productId, status, orderCount, quantity, revenue)
+            VALUES (:granularity, :periodStart, :productId, :status, :orderCount, :quantity, :revenue)
+            """)
+    int insert(@Param("granularity") RollupGranularity granularity, @Param("periodStart") LocalDate periodStart,
+               @Param("productId") Long productId, @Param("status") OrderStatus status,
+               @Param("orderCount") long orderCount, @Param("quantity") long quantity, @Param("revenue") double revenue);
+
+    // bucketKey는 기준에 따라 LocalDate / Long / OrderStatus
+    interface RollupView {
+        Object getBucketKey();
+        Long getOrderCount();
+        Double getRevenue();
+    }
+
+    @Query("""
+            SELECT r.periodStart AS bucketKey, SUM(r.orderCount) AS orderCount, SUM(r.revenue) AS revenue
+            FROM RevenueRollup r
+            WHERE r.granularity = :granularity AND r.periodStart BETWEEN :from AND :to
+            GROUP BY r.periodStart
+            HAVING SUM(r.orderCount) > 0
+            ORDER BY r.periodStart
+            """)
+    List<RollupView> sumByDay(@Param("granularity") RollupGranularity granularity, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("""
+            SELECT r.productId AS bucketKey, SUM(r.orderCount) AS orderCount, SUM(r.revenue) AS revenue
+            FROM RevenueRollup r
+            WHERE r.granularity = :granularity AND r.periodStart BETWEEN :from AND :to
+            GROUP BY r.productId
+            HAVING SUM(r.orderCount) > 0
+            ORDER BY r.productId
+            """)
+    List<RollupView> sumByProduct(@Param("granularity") RollupGranularity granularity, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("""
+            SELECT r.status AS bucketKey, SUM(r.orderCount) AS orderCount, SUM(r.revenue) AS revenue
+            FROM RevenueRollup r
+            WHERE r.granularity = :granularity AND r.periodStart BETWEEN :from AND :to
+            GROUP BY r.status
+            HAVING SUM(r.orderCount) > 0
+            ORDER BY r.status
+            """)
+    List<RollupView> sumByStatus(@Param("granularity") RollupGranularity granularity, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT MIN(o.orderDate) FROM Order o")
+    LocalDateTime findFirstOrderDate();
+
+    @Query("SELECT MAX(o.orderDate) FROM Order o")
+    LocalDateTime findLastOrderDate();
+
+    @Query("SELECT MIN(r.periodStart) FROM RevenueRollup r")
+    LocalDate findFirstPeriodStart();
+
+    @Query("SELECT MAX(r.periodStart) FROM RevenueRollup r")
+    LocalDate findLastPeriodStart();
+
+    // 마지막으로 검사한 주문 ID 이후에 들어온 주문의 주문일 범위 (시간순 ID라 PK 범위 조회)
+    @Query("SELECT MAX(o.id) FROM Order o")
+    Long findMaxOrderId();
+
+    @Query("SELECT MIN(o.orderDate) FROM Order o WHERE o.id > :afterId AND o.id <= :throughId")
+    LocalDateTime findFirstOrderDateBetweenIds(@Param("afterId") long afterId, @Param("throughId") long throughId);
+
+    @Query("SELECT MAX(o.orderDate) FROM Order o WHERE o.id > :afterId AND o.id <= :throughId")
+    LocalDateTime findLastOrderDateBetweenIds(@Param("afterId") long afterId, @Param("throughId") long throughId);
+
+    interface TotalsView {
+        Long getOrderCount();
+        Double getRevenue();
+    }
+
+    @Query("""
+            SELECT COUNT(o) AS orderCount, COALESCE(SUM(o.totalAmount), 0.0) AS revenue
+            FROM Order o
+            WHERE o.orderDate >= :from AND o.orderDate < :to
+            """)
+    TotalsView orderTotals(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("""
+            SELECT COALESCE(SUM(r.orderCount), 0) AS orderCount, COALESCE(SUM(r.revenue), 0.0) AS revenue
+            FROM RevenueRollup r
+            WHERE r.granularity = :granularity AND r.periodStart BETWEEN :from AND :to
+            """)
+    TotalsView rollupTotals(@Param("granularity") RollupGranularity granularity, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Query("DELETE FROM RevenueRollup r WHERE r.periodStart BETWEEN :from AND :to")
+    int deleteByPeriodStartBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO revenue_rollups (granularity, period_start, product_id, status, order_count, quantity, revenue)
+            SELECT 'DAY', CAST(o.order_date AS DATE), o.product_id, o.status, COUNT(*), SUM(o.quantity), SUM(o.total_amount)
+            FROM orders o
+            WHERE o.order_date >= :from AND o.order_date < :to
+            GROUP BY CAST(o.order_date AS DATE), o.product_id, o.status
+            """)
+    int insertDailyFromOrders(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO revenue_rollups (granularity, period_start, product_id, status, order_count, quantity, revenue)
+            SELECT 'MONTH', CAST(:from AS DATE), r.product_id, r.status, SUM(r.order_count), SUM(r.quantity), SUM(r.revenue)
+            FROM revenue_rollups r
+            WHERE r.granularity = 'DAY' AND r.period_start BETWEEN :from AND :to
+            GROUP BY r.product_id, r.status
+            """)
+    int insertMonthlyFromDaily(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
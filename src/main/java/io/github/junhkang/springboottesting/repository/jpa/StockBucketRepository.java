@@ -0,0 +1,22 @@
+package io.github.junhkang.springboottesting.repository.jpa;
+
+import io.github.junhkang.springboottesting.domain.StockBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface StockBucketRepository extends JpaRepository<StockBucket, Long> {
+
+    List<StockBucket> findByProductId(Long productId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE StockBucket b SET b.stock = b.stock - :quantity WHERE b.productId = :productId AND b.bucketIndex = :bucketIndex AND b.stock >= :quantity")
+    int decreaseStock(@Param("productId") Long productId, @Param("bucketIndex") int bucketIndex, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE StockBucket b SET b.stock = b.stock + :quantity WHERE b.productId = :productId AND b.bucketIndex = :bucketIndex")
+    int increaseStock(@Param("productId") Long productId, @Param("bucketIndex") int bucketIndex, @Param("quantity") int quantity);
+}
@@ -3,5 +3,10 @@ package io.github.junhkang.springboottesting.repository.jpa;
 import io.github.junhkang.springboottesting.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Optional;
+
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    // uk_users_username 유니크 인덱스 조회
+    Optional<User> findByUsername(String username);
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package io.github.junhkang.springboottesting.repository.mybatis;
+
+import io.github.junhkang.springboottesting.id.TimeOrderedIdGenerator;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * INSERT 직전에 id가 비어 있는 DTO에 JPA와 같은 시간순 ID를 채워 넣습니다.
+ * 매퍼 XML의 INSERT는 useGeneratedKeys 대신 #{id}를 그대로 사용합니다.
+ */
+@Component
+@Intercepts(@Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}))
+public class IdAssigningInterceptor implements Interceptor {
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        Object parameter = invocation.getArgs()[1];
+        // @Param으로 넘긴 값(Map)은 대상이 아니고, DTO 한 개를 넘기는 INSERT만 처리
+        if (statement.getSqlCommandType() == SqlCommandType.INSERT && parameter != null && !(parameter instanceof Map)) {
+            MetaObject metaObject = SystemMetaObject.forObject(parameter);
+            if (metaObject.hasSetter("id") && metaObject.getValue("id") == null) {
+                metaObject.setValue("id", TimeOrderedIdGenerator.shared().nextId());
+            }
+        }
+        return invocation.proceed();
+    }
+}
@@ -0,0 +1,15 @@
+package io.github.junhkang.springboottesting.repository.mybatis;
+
+import io.github.junhkang.springboottesting.domain.IdempotencyKey;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+
+@Mapper
+public interface IdempotencyKeyMapper {
+    IdempotencyKey findByKey(@Param("key") String key);
+    void insert(@Param("key") String key, @Param("orderId") Long orderId, @Param("requestHash") String requestHash,
+                @Param("createdAt") LocalDateTime createdAt);
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
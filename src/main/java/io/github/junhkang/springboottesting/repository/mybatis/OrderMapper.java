@@ -1,20 +1,42 @@
 package io.github.junhkang.springboottesting.repository.mybatis;
 
 import io.github.junhkang.springboottesting.domain.OrderDTO;
+import io.github.junhkang.springboottesting.domain.OrderSummary;
+import io.github.junhkang.springboottesting.domain.RevenueBucket;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
 public interface OrderMapper {
     List<OrderDTO> findAll();
     OrderDTO findById(@Param("id") Long id);
+    Double findTotalAmountById(@Param("id") Long id);
     List<OrderDTO> findByUserId(@Param("userId") Long userId);
+    List<OrderDTO> findByIds(@Param("ids") Collection<Long> ids);
+    List<RevenueBucket> revenueByDay(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+    List<RevenueBucket> revenueByProduct(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+    List<RevenueBucket> revenueByUser(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+    List<RevenueBucket> revenueByStatus(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+    List<OrderSummary> findAllSummaries();
+    List<OrderSummary> findSummariesByUserId(@Param("userId") Long userId);
+    List<OrderSummary> findSummaryPage(@Param("afterId") Long afterId, @Param("limit") int limit);
+    List<OrderSummary> findSummaryPageByUserId(@Param("userId") Long userId, @Param("afterId") Long afterId, @Param("limit") int limit);
+    Cursor<OrderDTO> findAllCursor();
+    List<OrderDTO> findPage(@Param("afterId") Long afterId, @Param("limit") int limit);
+    List<OrderDTO> findPageByUserId(@Param("userId") Long userId, @Param("afterId") Long afterId, @Param("limit") int limit);
     List<OrderDTO> findByOrderDateBetween(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
     void insert(OrderDTO order);
+    OrderDTO placeOrder(@Param("id") Long id, @Param("orderDate") LocalDateTime orderDate, @Param("userId") Long userId,
+                        @Param("productId") Long productId, @Param("quantity") Integer quantity);
     void update(OrderDTO order);
+    OrderDTO cancelIfPending(@Param("id") Long id);
+    OrderDTO updateQuantityIfUnchanged(@Param("id") Long id, @Param("expectedQuantity") Integer expectedQuantity,
+                                       @Param("newQuantity") Integer newQuantity);
     void delete(@Param("id") Long id);
 }
\ No newline at end of file
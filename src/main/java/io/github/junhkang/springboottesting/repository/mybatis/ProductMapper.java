@@ -2,14 +2,23 @@ package io.github.junhkang.springboottesting.repository.mybatis;
 
 import io.github.junhkang.springboottesting.domain.ProductDTO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
 public interface ProductMapper {
     List<ProductDTO> findAll();
     ProductDTO findById(Long id);
+    List<ProductDTO> findByIds(@Param("ids") Collection<Long> ids);
+    List<ProductDTO> findAllNames();
+    List<ProductDTO> findByName(@Param("name") String name);
+    List<ProductDTO> findByNamePrefix(@Param("prefix") String prefix, @Param("limit") int limit);
     void insert(ProductDTO product);
-    void update(ProductDTO product);
+    int update(ProductDTO product);
+    int decreaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+    int increaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+    int adjustStock(@Param("id") Long id, @Param("delta") int delta);
     void delete(Long id);
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package io.github.junhkang.springboottesting.repository.mybatis;
+
+import io.github.junhkang.springboottesting.domain.RevenueBucket;
+import io.github.junhkang.springboottesting.domain.RevenueRollup;
+import io.github.junhkang.springboottesting.domain.RollupGranularity;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface RevenueRollupMapper {
+    int increment(RevenueRollup delta);
+    void insert(RevenueRollup row);
+    List<RevenueBucket> sumByDay(@Param("granularity") RollupGranularity granularity, @Param("from") LocalDate from, @Param("to") LocalDate to);
+    List<RevenueBucket> sumByProduct(@Param("granularity") RollupGranularity granularity, @Param("from") LocalDate from, @Param("to") LocalDate to);
+    List<RevenueBucket> sumByStatus(@Param("granularity") RollupGranularity granularity, @Param("from") LocalDate from, @Param("to") LocalDate to);
+    LocalDate findFirstActivityDate();
+    LocalDate findLastActivityDate();
+    Long findMaxOrderId();
+    LocalDate findFirstOrderDateBetweenIds(@Param("afterId") long afterId, @Param("throughId") long throughId);
+    LocalDate findLastOrderDateBetweenIds(@Param("afterId") long afterId, @Param("throughId") long throughId);
+    RevenueBucket orderTotals(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+    RevenueBucket rollupTotals(@Param("granularity") RollupGranularity granularity, @Param("from") LocalDate from, @Param("to") LocalDate to);
+    void deleteByPeriodStartBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+    void insertDailyFromOrders(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+    void insertMonthlyFromDaily(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,16 @@
+package io.github.junhkang.springboottesting.repository.mybatis;
+
+import io.github.junhkang.springboottesting.domain.StockBucket;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface StockBucketMapper {
+    List<StockBucket> findByProductId(@Param("productId") Long productId);
+    void insert(StockBucket bucket);
+    int decreaseStock(@Param("productId") Long productId, @Param("bucketIndex") int bucketIndex, @Param("quantity") int quantity);
+    int increaseStock(@Param("productId") Long productId, @Param("bucketIndex") int bucketIndex, @Param("quantity") int quantity);
+    void deleteByProductId(@Param("productId") Long productId);
+}
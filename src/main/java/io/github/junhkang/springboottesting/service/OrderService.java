@@ -2,10 +2,18 @@ package io.github.junhkang.springboottesting.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.stereotype.Service;
 
 import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderLine;
+import io.github.junhkang.springboottesting.domain.OrderLineResult;
+import io.github.junhkang.springboottesting.domain.OrderPage;
+import io.github.junhkang.springboottesting.domain.OrderSummary;
+import io.github.junhkang.springboottesting.domain.OrderSummaryPage;
+import io.github.junhkang.springboottesting.domain.RevenueBucket;
+import io.github.junhkang.springboottesting.domain.RevenueGroup;
 
 @Service
 public interface OrderService {
@@ -15,12 +23,38 @@ public interface OrderService {
 
 	Order createOrder(Long userId, Long productId, Integer quantity);
 
+	// 같은 멱등 키로 다시 호출되면 주문을 새로 만들지 않고 최초 주문을 반환
+	Order createOrder(Long userId, Long productId, Integer quantity, String idempotencyKey);
+
+	List<OrderLineResult> createOrders(List<OrderLine> lines);
+
 	Order cancelOrder(Long id);
 
 	Order updateOrderQuantity(Long id, Integer newQuantity);
 
 	List<Order> getOrdersByUserId(Long userId);
 
+	// 키셋 페이지네이션: afterId보다 큰 ID의 주문을 ID 순으로 최대 limit건 (afterId가 null이면 첫 페이지)
+	OrderPage getOrders(Long afterId, int limit);
+
+	OrderPage getOrdersByUserId(Long userId, Long afterId, int limit);
+
+	// 요약 조회 (ID, 주문일, 상태, 금액만)
+	List<OrderSummary> getOrderSummaries();
+
+	List<OrderSummary> getOrderSummariesByUserId(Long userId);
+
+	// 요약 보기의 키셋 페이지 (토큰과 limit 규칙은 getOrders와 같음)
+	OrderSummaryPage getOrderSummaries(Long afterId, int limit);
+
+	OrderSummaryPage getOrderSummariesByUserId(Long userId, Long afterId, int limit);
+
+	// 기간 내 주문의 건수/매출 합계를 기준별로 DB에서 집계 (기준 값 오름차순)
+	List<RevenueBucket> getRevenue(RevenueGroup group, LocalDateTime startDate, LocalDateTime endDate);
+
+	// 전체 주문을 ID 순으로 한 건씩 sink에 전달 (목록을 메모리에 모으지 않음), 전달한 건수를 반환
+	long exportOrders(Consumer<Order> sink);
+
 	List<Order> getOrdersByDateRange(LocalDateTime startDate, LocalDateTime endDate);
 
 	Double calculateTotalAmount(Long id);
@@ -2,11 +2,24 @@ package io.github.junhkang.springboottesting.service;
 
 
 import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.ProductImportReport;
+import io.github.junhkang.springboottesting.domain.ProductImportRow;
+import io.github.junhkang.springboottesting.domain.ProductNameMatch;
 
+import java.util.Iterator;
 import java.util.List;
 
 public interface ProductService {
     List<Product> getAllProducts();
     Product getProductById(Long id);
     Product createProduct(Product product);
+
+    // 이름 검색 인덱스에서 ID를 찾고 PK로 상품을 읽는다 (인덱스를 끄면 EXACT/PREFIX만 DB에서 대소문자를 구분해 조회)
+    List<Product> searchProducts(String query, ProductNameMatch match, int limit);
+
+    // 행을 읽는 대로 검증해 묶음 단위 JDBC 배치로 등록하고, 실패한 행은 보고서에 모은다 (호출 측 트랜잭션 없이 호출)
+    ProductImportReport importProducts(Iterator<ProductImportRow> rows);
+
+    // 재고 분할 모드에서 상품 재고를 버킷으로 나눠 옮기고, 합산된 재고로 상품을 반환
+    Product splitStock(Long id);
 }
\ No newline at end of file
@@ -8,4 +8,7 @@ public interface UserService {
     List<User> getAllUsers();
     User getUserById(Long id);
     User createUser(User user);
+
+    // username 인덱스로 ID를 찾고 PK로 사용자를 읽는다 (인덱스에 없으면 username 유니크 인덱스 조회)
+    User getUserByUsername(String username);
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package io.github.junhkang.springboottesting.service.amount;
+
+import io.github.junhkang.springboottesting.service.support.BoundedTtlCache;
+import io.github.junhkang.springboottesting.service.support.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * 주문 ID → 주문 총액 캐시
+ *
+ * 총액은 수량 변경으로만 바뀌므로 updateOrderQuantity가 해당 주문 항목만 무효화합니다.
+ * 항목은 TTL이 지나면 조회 시 제거되고, 최대 크기를 넘으면 먼저 들어온 항목부터 제거합니다.
+ *
+ * 트랜잭션 안에서 읽은 값은 커밋된 뒤에만 저장하고, 저장은 조회 시점의 항목과 비교해 교체하므로
+ * 조회와 저장 사이에 무효화가 끼어들면 오래된 총액은 버려집니다.
+ */
+@Component
+@ConditionalOnProperty(name = "orders.total-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderTotalCache {
+
+    // 값이 null인 항목은 무효화 표시
+    private final BoundedTtlCache<Long, Double> totals;
+    private final Counter hits;
+    private final Counter misses;
+
+    public OrderTotalCache(MeterRegistry meterRegistry,
+                           @Value("${orders.total-cache.ttl-seconds:300}") long ttlSeconds,
+                           @Value("${orders.total-cache.max-size:10000}") int maxSize) {
+        this.totals = new BoundedTtlCache<>(ttlSeconds, maxSize, this::nanoTime);
+        this.hits = Counter.builder("orders.total.cache.gets").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("orders.total.cache.gets").tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 총액을 반환하고, 없으면 loader로 읽어 옵니다.
+     */
+    public Double get(Long orderId, Function<Long, Double> loader) {
+        BoundedTtlCache.Entry<Double> cached = totals.get(orderId);
+        if (cached != null && cached.value() != null) {
+            hits.increment();
+            return cached.value();
+        }
+
+        misses.increment();
+        Double totalAmount = loader.apply(orderId);
+        TransactionCallbacks.afterCommit(() -> totals.replace(orderId, cached, totalAmount));
+        return totalAmount;
+    }
+
+    /**
+     * 주문 총액을 무효화합니다. 즉시 한 번, 커밋 후 한 번 더 무효화해 커밋 전 값이 저장되지 않게 합니다.
+     * 무효화된 자리에는 빈 항목을 남겨, 무효화 이전에 시작된 조회가 저장하지 못하게 합니다.
+     */
+    public void invalidate(Long orderId) {
+        totals.put(orderId, null);
+        TransactionCallbacks.afterCommit(() -> totals.put(orderId, null));
+    }
+
+    public int size() {
+        return totals.size();
+    }
+
+    long nanoTime() {
+        return System.nanoTime();
+    }
+}
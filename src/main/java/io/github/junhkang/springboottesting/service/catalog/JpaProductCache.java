@@ -0,0 +1,29 @@
+package io.github.junhkang.springboottesting.service.catalog;
+
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.repository.jpa.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("jpa")
+@ConditionalOnProperty(name = "products.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class JpaProductCache extends ProductCache {
+
+    private final ProductRepository productRepository;
+
+    public JpaProductCache(ProductRepository productRepository, MeterRegistry meterRegistry,
+                           @Value("${products.cache.max-size:10000}") int maxSize,
+                           @Value("${products.cache.ttl-seconds:60}") long ttlSeconds) {
+        super(meterRegistry, maxSize, ttlSeconds);
+        this.productRepository = productRepository;
+    }
+
+    @Override
+    protected Product load(Long productId) {
+        return productRepository.findById(productId).orElse(null);
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.junhkang.springboottesting.service.catalog;
+
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.service.index.ProductNameIndex;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+@Component
+@Profile("jpa")
+public class JpaProductImporter extends ProductImporter {
+
+    private final EntityManager entityManager;
+
+    public JpaProductImporter(EntityManager entityManager, PlatformTransactionManager transactionManager,
+                              @Value("${products.import.batch-size:1000}") int batchSize,
+                              @Value("${products.import.max-errors:1000}") int maxErrors,
+                              ObjectProvider<ProductNameIndex> productNameIndex) {
+        super(transactionManager, batchSize, maxErrors, productNameIndex.getIfAvailable());
+        this.entityManager = entityManager;
+    }
+
+    // 이 세션만 JDBC 배치 크기를 묶음 크기로 맞추고, 저장한 엔티티는 영속성 컨텍스트에서 비워 메모리를 일정하게 유지
+    @Override
+    protected void insertBatch(List<Product> products) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize());
+        products.forEach(entityManager::persist);
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
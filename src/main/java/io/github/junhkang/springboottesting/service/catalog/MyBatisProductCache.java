@@ -0,0 +1,41 @@
+package io.github.junhkang.springboottesting.service.catalog;
+
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.ProductDTO;
+import io.github.junhkang.springboottesting.repository.mybatis.ProductMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("mybatis")
+@ConditionalOnProperty(name = "products.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class MyBatisProductCache extends ProductCache {
+
+    private final ProductMapper productMapper;
+
+    public MyBatisProductCache(ProductMapper productMapper, MeterRegistry meterRegistry,
+                               @Value("${products.cache.max-size:10000}") int maxSize,
+                               @Value("${products.cache.ttl-seconds:60}") long ttlSeconds) {
+        super(meterRegistry, maxSize, ttlSeconds);
+        this.productMapper = productMapper;
+    }
+
+    @Override
+    protected Product load(Long productId) {
+        ProductDTO dto = productMapper.findById(productId);
+        if (dto == null) {
+            return null;
+        }
+        Product product = new Product();
+        product.setId(dto.getId());
+        product.setName(dto.getName());
+        product.setDescription(dto.getDescription());
+        product.setPrice(dto.getPrice());
+        product.setStock(dto.getStock());
+        product.setVersion(dto.getVersion());
+        return product;
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.junhkang.springboottesting.service.catalog;
+
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.ProductDTO;
+import io.github.junhkang.springboottesting.repository.mybatis.ProductMapper;
+import io.github.junhkang.springboottesting.service.index.ProductNameIndex;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+@Component
+@Profile("mybatis")
+public class MyBatisProductImporter extends ProductImporter {
+
+    // 묶음 트랜잭션은 BATCH 실행기만 사용 (같은 트랜잭션 안에서는 ExecutorType을 섞을 수 없음)
+    private final SqlSessionTemplate batchSqlSession;
+
+    public MyBatisProductImporter(SqlSessionFactory sqlSessionFactory, PlatformTransactionManager transactionManager,
+                                  @Value("${products.import.batch-size:1000}") int batchSize,
+                                  @Value("${products.import.max-errors:1000}") int maxErrors,
+                                  ObjectProvider<ProductNameIndex> productNameIndex) {
+        super(transactionManager, batchSize, maxErrors, productNameIndex.getIfAvailable());
+        this.batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+    }
+
+    @Override
+    protected void insertBatch(List<Product> products) {
+        ProductMapper mapper = batchSqlSession.getMapper(ProductMapper.class);
+        for (Product product : products) {
+            ProductDTO dto = new ProductDTO();
+            dto.setName(product.getName());
+            dto.setDescription(product.getDescription());
+            dto.setPrice(product.getPrice());
+            dto.setStock(product.getStock());
+            mapper.insert(dto);
+            product.setId(dto.getId());
+        }
+        batchSqlSession.flushStatements();
+    }
+}
@@ -0,0 +1,341 @@
+package io.github.junhkang.springboottesting.service.catalog;
+
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import io.github.junhkang.springboottesting.service.support.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상품 ID → 상품 near cache (W-TinyLFU 방식)
+ *
+ * 새 항목은 작은 윈도우(전체의 1%)에 들어가고, 윈도우에서 밀려난 항목은 메인 영역(probation/protected SLRU)의
+ * 가장 오래된 항목과 접근 빈도(count-min sketch)를 비교해 더 자주 쓰인 쪽만 남습니다.
+ * 한 번 훑고 지나가는 조회가 자주 쓰이는 상품을 밀어내지 않습니다.
+ *
+ * 조회는 잠금 없이 맵에서 읽고, 접근 순서/빈도 갱신은 잠금을 얻은 경우에만 반영합니다. (경합 시 일부 기록 누락 허용)
+ * 트랜잭션 안에서 읽거나 생성한 상품은 커밋된 뒤에만 저장합니다.
+ *
+ * 재고 변경은 변경한 쪽이 {@link #adjustStock}/{@link #invalidate}로 알립니다. 변경이 커밋되면 캐시된 재고에
+ * 변경분을 더하고, 조회와 변경이 엇갈려 변경분 포함 여부를 알 수 없는 항목은 제거합니다.
+ * 다른 인스턴스에서 바뀐 상품은 TTL이 지나야 반영됩니다.
+ */
+public abstract class ProductCache {
+
+    private static final int STAMP_STRIPES = 256;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    // 상품별 변경 번호 (스트라이프 단위). 조회 시작 이후 번호가 바뀌었으면 읽은 값을 저장하지 않는다
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMP_STRIPES);
+    private final ReentrantLock policyLock = new ReentrantLock();
+    // 세그먼트별 접근 순서 (앞쪽이 가장 오래 전에 사용된 항목)
+    private final LinkedHashSet<Long> window = new LinkedHashSet<>();
+    private final LinkedHashSet<Long> probation = new LinkedHashSet<>();
+    private final LinkedHashSet<Long> protectedSegment = new LinkedHashSet<>();
+    private final FrequencySketch sketch;
+    private final int windowCapacity;
+    private final int mainCapacity;
+    private final int protectedCapacity;
+    private final long ttlNanos;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Timer loadTimer;
+
+    protected ProductCache(MeterRegistry meterRegistry, int maxSize, long ttlSeconds) {
+        this.windowCapacity = Math.max(1, maxSize / 100);
+        this.mainCapacity = Math.max(1, maxSize - windowCapacity);
+        this.protectedCapacity = Math.max(1, mainCapacity * 4 / 5);
+        this.sketch = new FrequencySketch(maxSize);
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.hits = Counter.builder("products.cache.gets").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("products.cache.gets").tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("products.cache.evictions").register(meterRegistry);
+        this.loadTimer = Timer.builder("products.cache.load").register(meterRegistry);
+        Gauge.builder("products.cache.hit.ratio", this, ProductCache::hitRatio).register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 상품의 사본을 반환하고, 없으면 DB에서 읽어 옵니다.
+     *
+     * @throws ResourceNotFoundException 상품이 없으면
+     */
+    public Product get(Long productId) {
+        Entry entry = entries.get(productId);
+        if (entry != null && nanoTime() - entry.loadedAt <= ttlNanos) {
+            hits.increment();
+            recordAccess(productId);
+            return copy(entry.product);
+        }
+        if (entry != null) {
+            withPolicyLock(() -> {
+                if (entries.get(productId) == entry) {
+                    remove(productId);
+                }
+            });
+        }
+
+        misses.increment();
+        long stamp = stamps.get(stripe(productId));
+        Product loaded = loadTimer.record(() -> load(productId));
+        if (loaded == null) {
+            throw new ResourceNotFoundException("Product not found with id " + productId);
+        }
+        Product snapshot = copy(loaded);
+        TransactionCallbacks.afterCommit(() -> store(productId, snapshot, stamp));
+        return loaded;
+    }
+
+    /**
+     * 새로 생성한 상품을 캐시에 기록합니다. (write-through)
+     */
+    public void put(Product product) {
+        long stamp = stamps.get(stripe(product.getId()));
+        Product snapshot = copy(product);
+        TransactionCallbacks.afterCommit(() -> store(snapshot.getId(), snapshot, stamp));
+    }
+
+    /**
+     * 상품 행의 재고가 delta만큼 바뀌었음을 알립니다. 재고를 바꾼 트랜잭션 안에서 호출하면 커밋된 뒤 캐시된 재고에 반영하고,
+     * 트랜잭션 밖에서 호출하면 이미 반영된 값을 누가 읽었는지 알 수 없으므로 항목을 제거합니다.
+     */
+    public void adjustStock(Long productId, int delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(productId);
+            return;
+        }
+        long issued = stamps.incrementAndGet(stripe(productId));
+        TransactionCallbacks.afterCommit(() -> {
+            stamps.incrementAndGet(stripe(productId));
+            withPolicyLock(() -> {
+                Entry entry = entries.get(productId);
+                if (entry == null) {
+                    return;
+                }
+                // 변경 전에 저장된 항목에만 변경분을 더하고, 변경 이후에 읽은 항목은 포함 여부를 알 수 없어 제거
+                if (entry.stamp < issued) {
+                    entries.put(productId, entry.withStockDelta(delta));
+                } else {
+                    remove(productId);
+                }
+            });
+        });
+    }
+
+    /**
+     * 상품 항목을 제거합니다. 즉시 한 번, 커밋 후 한 번 더 제거해 커밋 전 값이 저장되지 않게 합니다.
+     */
+    public void invalidate(Long productId) {
+        Runnable evict = () -> {
+            stamps.incrementAndGet(stripe(productId));
+            withPolicyLock(() -> remove(productId));
+        };
+        evict.run();
+        TransactionCallbacks.afterCommit(evict);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    /**
+     * 상품을 DB에서 읽습니다. 상품이 없으면 null을 반환합니다.
+     */
+    protected abstract Product load(Long productId);
+
+    private void store(Long productId, Product snapshot, long stamp) {
+        withPolicyLock(() -> {
+            if (stamps.get(stripe(productId)) != stamp) {
+                return;
+            }
+            Entry previous = entries.put(productId, new Entry(snapshot, stamp, nanoTime()));
+            if (previous == null) {
+                admit(productId);
+            } else {
+                onAccess(productId);
+            }
+        });
+    }
+
+    private void recordAccess(Long productId) {
+        if (!policyLock.tryLock()) {
+            return;
+        }
+        try {
+            sketch.increment(productId);
+            onAccess(productId);
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    // 새 항목은 윈도우로, 윈도우에서 밀려난 항목은 메인 영역의 희생 후보와 빈도를 비교해 입장 여부를 정한다
+    private void admit(Long productId) {
+        sketch.increment(productId);
+        window.add(productId);
+        if (window.size() <= windowCapacity) {
+            return;
+        }
+        Long candidate = window.removeFirst();
+        if (probation.size() + protectedSegment.size() < mainCapacity) {
+            probation.add(candidate);
+            return;
+        }
+        Long victim = probation.isEmpty() ? protectedSegment.getFirst() : probation.getFirst();
+        if (sketch.frequency(candidate) > sketch.frequency(victim)) {
+            evict(victim);
+            probation.add(candidate);
+        } else {
+            evict(candidate);
+        }
+    }
+
+    // 윈도우/protected는 최근 사용 위치로 옮기고, probation에서 다시 쓰인 항목은 protected로 승격
+    private void onAccess(Long productId) {
+        if (window.remove(productId)) {
+            window.add(productId);
+        } else if (probation.remove(productId)) {
+            protectedSegment.add(productId);
+            if (protectedSegment.size() > protectedCapacity) {
+                probation.add(protectedSegment.removeFirst());
+            }
+        } else if (protectedSegment.remove(productId)) {
+            protectedSegment.add(productId);
+        }
+    }
+
+    private void evict(Long productId) {
+        remove(productId);
+        evictions.increment();
+    }
+
+    private void remove(Long productId) {
+        entries.remove(productId);
+        if (!window.remove(productId) && !probation.remove(productId)) {
+            protectedSegment.remove(productId);
+        }
+    }
+
+    private void withPolicyLock(Runnable action) {
+        policyLock.lock();
+        try {
+            action.run();
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    private static int stripe(Long productId) {
+        return Math.floorMod(productId.hashCode(), STAMP_STRIPES);
+    }
+
+    // 캐시에 보관한 객체가 호출 측에서 바뀌지 않도록 항상 사본을 주고받는다
+    private static Product copy(Product product) {
+        Product copy = new Product();
+        copy.setId(product.getId());
+        copy.setName(product.getName());
+        copy.setDescription(product.getDescription());
+        copy.setPrice(product.getPrice());
+        copy.setStock(product.getStock());
+        copy.setVersion(product.getVersion());
+        return copy;
+    }
+
+    // 테스트에서 시간 경과를 흉내 낼 수 있도록 분리
+    long nanoTime() {
+        return System.nanoTime();
+    }
+
+    private static final class Entry {
+        private final Product product;
+        private final long stamp;
+        private final long loadedAt;
+
+        private Entry(Product product, long stamp, long loadedAt) {
+            this.product = product;
+            this.stamp = stamp;
+            this.loadedAt = loadedAt;
+        }
+
+        // 재고 UPDATE는 version도 올리므로 함께 맞춘다
+        private Entry withStockDelta(int delta) {
+            Product updated = copy(product);
+            updated.setStock(product.getStock() + delta);
+            if (product.getVersion() != null) {
+                updated.setVersion(product.getVersion() + 1);
+            }
+            return new Entry(updated, stamp, loadedAt);
+        }
+    }
+
+    /**
+     * 접근 빈도 추정용 count-min sketch (행 4개, 카운터 최대 15)
+     * 기록 횟수가 표본 크기에 이르면 모든 카운터를 절반으로 줄여 오래된 인기도를 잊는다.
+     */
+    private static final class FrequencySketch {
+        private static final long[] SEEDS = {0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L};
+        private static final int MAX_COUNT = 15;
+
+        private final int[][] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        private FrequencySketch(int maxSize) {
+            int width = Integer.highestOneBit(Math.max(maxSize, 16) - 1) << 1;
+            this.table = new int[SEEDS.length][width];
+            this.mask = width - 1;
+            this.sampleSize = width * 10;
+        }
+
+        private void increment(Long key) {
+            boolean added = false;
+            for (int row = 0; row < SEEDS.length; row++) {
+                int index = index(key, row);
+                if (table[row][index] < MAX_COUNT) {
+                    table[row][index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        private int frequency(Long key) {
+            int frequency = MAX_COUNT;
+            for (int row = 0; row < SEEDS.length; row++) {
+                frequency = Math.min(frequency, table[row][index(key, row)]);
+            }
+            return frequency;
+        }
+
+        private int index(Long key, int row) {
+            return (int) ((key * SEEDS[row]) >>> 32) & mask;
+        }
+
+        private void reset() {
+            for (int[] counters : table) {
+                for (int i = 0; i < counters.length; i++) {
+                    counters[i] >>>= 1;
+                }
+            }
+            additions /= 2;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package io.github.junhkang.springboottesting.service.catalog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.ProductImportRow;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * 대량 상품 등록 본문을 한 줄씩 읽어 {@link ProductImportRow}로 돌려줍니다. 본문 전체를 메모리에 올리지 않습니다.
+ *
+ * CSV는 첫 줄이 헤더(name, description, price, stock, 순서 무관)이고, 값에 쉼표나 따옴표가 있으면 큰따옴표로 감쌉니다.
+ * (한 값이 여러 줄에 걸치는 경우는 지원하지 않음) NDJSON은 한 줄에 상품 JSON 하나입니다. 빈 줄은 건너뜁니다.
+ * 형식이 잘못된 줄은 예외 대신 오류 행으로 돌려주고, id/version은 입력에 있어도 무시합니다.
+ */
+public class ProductImportReader implements Iterator<ProductImportRow> {
+
+    public enum Format { CSV, NDJSON }
+
+    private static final List<String> CSV_COLUMNS = List.of("name", "description", "price", "stock");
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    // CSV 헤더의 열 위치 (name, description, price, stock 순서, 없는 열은 -1)
+    private int[] columns;
+    private long lineNumber;
+    private ProductImportRow next;
+
+    public ProductImportReader(InputStream body, Format format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readRow();
+        }
+        return next != null;
+    }
+
+    @Override
+    public ProductImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ProductImportRow row = next;
+        next = null;
+        return row;
+    }
+
+    private ProductImportRow readRow() {
+        String line;
+        while ((line = readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == Format.NDJSON) {
+                return parseJson(line);
+            }
+            if (columns == null) {
+                ProductImportRow headerError = parseHeader(line);
+                if (headerError != null) {
+                    return headerError;
+                }
+                continue;
+            }
+            return parseCsv(line);
+        }
+        return null;
+    }
+
+    private String readLine() {
+        try {
+            String line = reader.readLine();
+            if (line != null) {
+                lineNumber++;
+            }
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ProductImportRow parseJson(String line) {
+        try {
+            Product product = objectMapper.readValue(line, Product.class);
+            product.setId(null);
+            product.setVersion(null);
+            return ProductImportRow.parsed(lineNumber, product);
+        } catch (JsonProcessingException e) {
+            return ProductImportRow.invalid(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    // 헤더가 잘못되면 오류 행을 한 번 돌려주고, 이후 줄은 기본 열 순서(name, description, price, stock)로 읽는다
+    private ProductImportRow parseHeader(String line) {
+        List<String> header = splitCsv(line);
+        if (header == null) {
+            columns = new int[]{0, 1, 2, 3};
+            return ProductImportRow.invalid(lineNumber, "Malformed CSV header.");
+        }
+        columns = new int[CSV_COLUMNS.size()];
+        for (int i = 0; i < CSV_COLUMNS.size(); i++) {
+            columns[i] = indexOf(header, CSV_COLUMNS.get(i));
+        }
+        if (columns[0] < 0) {
+            columns = new int[]{0, 1, 2, 3};
+            return ProductImportRow.invalid(lineNumber, "CSV header must contain a name column.");
+        }
+        return null;
+    }
+
+    private ProductImportRow parseCsv(String line) {
+        List<String> values = splitCsv(line);
+        if (values == null) {
+            return ProductImportRow.invalid(lineNumber, "Malformed CSV: unterminated quote.");
+        }
+        Product product = new Product();
+        product.setName(value(values, columns[0]));
+        product.setDescription(value(values, columns[1]));
+        String price = value(values, columns[2]);
+        String stock = value(values, columns[3]);
+        try {
+            product.setPrice(price == null || price.isBlank() ? null : Double.valueOf(price.trim()));
+        } catch (NumberFormatException e) {
+            return ProductImportRow.invalid(lineNumber, "Invalid price: " + price);
+        }
+        try {
+            product.setStock(stock == null || stock.isBlank() ? null : Integer.valueOf(stock.trim()));
+        } catch (NumberFormatException e) {
+            return ProductImportRow.invalid(lineNumber, "Invalid stock: " + stock);
+        }
+        return ProductImportRow.parsed(lineNumber, product);
+    }
+
+    private static int indexOf(List<String> header, String column) {
+        for (int i = 0; i < header.size(); i++) {
+            if (header.get(i).trim().toLowerCase(Locale.ROOT).equals(column)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String value(List<String> values, int column) {
+        return column >= 0 && column < values.size() ? values.get(column) : null;
+    }
+
+    // RFC 4180 방식으로 한 줄을 나눈다. 따옴표가 닫히지 않으면 null
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    current.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
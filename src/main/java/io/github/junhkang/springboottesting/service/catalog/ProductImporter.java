@@ -0,0 +1,140 @@
+package io.github.junhkang.springboottesting.service.catalog;
+
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.ProductImportError;
+import io.github.junhkang.springboottesting.domain.ProductImportReport;
+import io.github.junhkang.springboottesting.domain.ProductImportRow;
+import io.github.junhkang.springboottesting.service.index.ProductNameIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 대량 상품 등록
+ *
+ * 행을 읽는 대로 검증해 batch-size건씩 모은 뒤, 묶음마다 별도 트랜잭션에서 JDBC 배치 INSERT로 저장합니다.
+ * 전체를 한 트랜잭션으로 묶지 않으므로 메모리 사용량은 묶음 크기에 비례하고, 중간에 실패해도 앞서 커밋된 묶음은 남습니다.
+ * 검증에 실패한 행은 보고서의 오류 목록에 줄 번호와 함께 기록합니다. INSERT가 실패한 묶음은 행마다 별도 트랜잭션으로
+ * 다시 INSERT해 실패한 행만 골라내고, 원인(드라이버 메시지)은 로그에만 남기고 보고서에는 일반 메시지를 기록합니다.
+ *
+ * 등록한 상품은 상품 캐시에 넣지 않습니다. (대량 등록이 자주 쓰이는 상품을 캐시에서 밀어내지 않도록 조회 시 적재)
+ * 이름 검색 인덱스가 있으면 커밋된 묶음의 상품을 추가합니다.
+ */
+@Slf4j
+public abstract class ProductImporter {
+
+    static final String INSERT_FAILED = "Insert failed.";
+
+    private final TransactionTemplate batchTransaction;
+    private final int batchSize;
+    private final int maxErrors;
+    private final ProductNameIndex productNameIndex;
+
+    protected ProductImporter(PlatformTransactionManager transactionManager, int batchSize, int maxErrors,
+                              ProductNameIndex productNameIndex) {
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxErrors = maxErrors;
+        this.productNameIndex = productNameIndex;
+    }
+
+    public ProductImportReport importProducts(Iterator<ProductImportRow> rows) {
+        ProductImportReport report = new ProductImportReport();
+        long startedAt = System.nanoTime();
+        List<ProductImportRow> batch = new ArrayList<>(batchSize);
+        while (rows.hasNext()) {
+            ProductImportRow row = rows.next();
+            String error = row.getError() != null ? row.getError() : validate(row.getProduct());
+            if (error != null) {
+                fail(report, row.getLine(), error);
+                continue;
+            }
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                flush(batch, report);
+            }
+        }
+        flush(batch, report);
+        report.setElapsedMillis((System.nanoTime() - startedAt) / 1_000_000);
+        log.info("Imported {} products ({} failed) in {} ms", report.getImported(), report.getFailed(), report.getElapsedMillis());
+        return report;
+    }
+
+    /**
+     * createProduct와 같은 이름/가격/재고 검증. 통과하면 null, 아니면 오류 메시지를 반환합니다.
+     */
+    public static String validate(Product product) {
+        if (product.getName() == null || product.getName().trim().isEmpty()) {
+            return "Product name is required.";
+        }
+        if (product.getPrice() == null || product.getPrice() < 0) {
+            return "Product price cannot be negative.";
+        }
+        if (product.getStock() == null || product.getStock() < 0) {
+            return "Product stock cannot be negative.";
+        }
+        return null;
+    }
+
+    /**
+     * 현재 트랜잭션 안에서 상품들을 JDBC 배치로 INSERT하고, 각 상품에 생성된 ID를 채웁니다.
+     */
+    protected abstract void insertBatch(List<Product> products);
+
+    protected int batchSize() {
+        return batchSize;
+    }
+
+    private void flush(List<ProductImportRow> batch, ProductImportReport report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            insert(batch, report);
+        } catch (RuntimeException e) {
+            log.warn("Product import batch starting at line {} failed", batch.get(0).getLine(), e);
+            if (batch.size() == 1) {
+                fail(report, batch.get(0).getLine(), INSERT_FAILED);
+            } else {
+                retryRowByRow(batch, report);
+            }
+        }
+        batch.clear();
+    }
+
+    // 실패한 묶음의 행을 하나씩 다시 INSERT해 문제가 있는 행만 실패로 기록
+    private void retryRowByRow(List<ProductImportRow> batch, ProductImportReport report) {
+        for (ProductImportRow row : batch) {
+            // 롤백된 시도에서 채워진 ID는 버리고 새로 발급받는다
+            row.getProduct().setId(null);
+            try {
+                insert(List.of(row), report);
+            } catch (RuntimeException e) {
+                log.warn("Product import line {} failed: {}", row.getLine(), e.getMessage());
+                fail(report, row.getLine(), INSERT_FAILED);
+            }
+        }
+    }
+
+    private void insert(List<ProductImportRow> rows, ProductImportReport report) {
+        List<Product> products = rows.stream().map(ProductImportRow::getProduct).toList();
+        batchTransaction.executeWithoutResult(status -> insertBatch(products));
+        report.setImported(report.getImported() + products.size());
+        if (productNameIndex != null) {
+            products.forEach(product -> productNameIndex.add(product.getId(), product.getName()));
+        }
+    }
+
+    private void fail(ProductImportReport report, long line, String error) {
+        report.setFailed(report.getFailed() + 1);
+        if (report.getErrors().size() < maxErrors) {
+            report.getErrors().add(new ProductImportError(line, error));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package io.github.junhkang.springboottesting.service.history;
+
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.User;
+import io.github.junhkang.springboottesting.service.support.BoundedTtlCache;
+import io.github.junhkang.springboottesting.service.support.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+/**
+ * 사용자 ID → 주문 목록 캐시
+ *
+ * 항목은 TTL이 지나면 조회 시 제거되고, 최대 사용자 수를 넘으면 먼저 들어온 항목부터 제거합니다.
+ * 주문 생성/취소/수량 변경은 해당 사용자의 항목만 무효화하며, 무효화된 자리에는 주문 목록 없이
+ * "존재하는 사용자"라는 표시만 남겨 다음 조회에서 사용자 존재 확인 쿼리를 생략할 수 있게 합니다.
+ * 페이지 조회처럼 목록 전체를 캐시하지 않는 경로도 같은 항목으로 사용자 존재 여부를 확인합니다.
+ *
+ * 트랜잭션 안에서 읽은 목록은 커밋된 뒤에만 저장합니다 (롤백될 데이터가 캐시에 남지 않도록).
+ * 저장은 조회 시점의 항목과 비교해 교체하므로, 조회와 커밋 사이에 무효화가 끼어들면 오래된 목록은 버려집니다.
+ *
+ * 캐시에는 읽은 주문의 복사본(사용자/상품 포함)을 저장하고, 적중할 때마다 다시 복사해 반환합니다.
+ * 영속성 컨텍스트나 지연 로딩 프록시와 분리되고, 한 호출자가 주문을 바꿔도 캐시와 다른 호출자에 영향이 없습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "orders.history-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderHistoryCache {
+
+    // 값이 null인 항목은 "존재하는 사용자" 표시만 있는 항목
+    private final BoundedTtlCache<Long, List<Order>> histories;
+    private final Counter hits;
+    private final Counter misses;
+
+    public OrderHistoryCache(MeterRegistry meterRegistry,
+                             @Value("${orders.history-cache.ttl-seconds:60}") long ttlSeconds,
+                             @Value("${orders.history-cache.max-users:10000}") int maxUsers) {
+        Counter evictions = Counter.builder("orders.history.cache.evictions").register(meterRegistry);
+        this.histories = new BoundedTtlCache<>(ttlSeconds, maxUsers, this::nanoTime, evictions::increment);
+        this.hits = Counter.builder("orders.history.cache.gets").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("orders.history.cache.gets").tag("result", "miss").register(meterRegistry);
+        meterRegistry.gauge("orders.history.cache.size", histories, BoundedTtlCache::size);
+    }
+
+    /**
+     * 캐시된 주문 목록을 반환하고, 없으면 loader로 읽어 옵니다.
+     * loader의 두 번째 인자는 사용자가 존재한다는 것을 캐시가 이미 알고 있는지 여부입니다 (true면 존재 확인 생략 가능).
+     */
+    public List<Order> get(Long userId, BiFunction<Long, Boolean, List<Order>> loader) {
+        BoundedTtlCache.Entry<List<Order>> cached = histories.get(userId);
+        if (cached != null && cached.value() != null) {
+            hits.increment();
+            return copyOf(cached.value());
+        }
+
+        misses.increment();
+        List<Order> orders = loader.apply(userId, cached != null);
+        // 복사는 지금(트랜잭션 안에서) 해 두고 저장만 커밋 후로 미룬다
+        List<Order> snapshot = copyOf(orders);
+        TransactionCallbacks.afterCommit(() -> histories.replace(userId, cached, snapshot));
+        return orders;
+    }
+
+    /**
+     * 사용자가 존재하는지 반환합니다. 캐시에 항목(목록 또는 존재 표시)이 있으면 userExists를 호출하지 않고,
+     * userExists로 확인된 사용자는 커밋 후 존재 표시를 남겨 다음 확인부터 쿼리를 생략합니다.
+     */
+    public boolean isKnownUser(Long userId, Predicate<Long> userExists) {
+        if (histories.get(userId) != null) {
+            return true;
+        }
+        if (!userExists.test(userId)) {
+            return false;
+        }
+        // 이미 목록이나 표시가 있으면 그대로 둔다
+        TransactionCallbacks.afterCommit(() -> histories.replace(userId, null, null));
+        return true;
+    }
+
+    /**
+     * 사용자의 주문 목록을 무효화합니다. 즉시 한 번, 커밋 후 한 번 더 무효화해 커밋 전 스냅샷이 저장되지 않게 합니다.
+     */
+    public void invalidate(Long userId) {
+        histories.put(userId, null);
+        TransactionCallbacks.afterCommit(() -> histories.put(userId, null));
+    }
+
+    public int size() {
+        return histories.size();
+    }
+
+    private static List<Order> copyOf(List<Order> orders) {
+        return orders.stream().map(OrderHistoryCache::copy).toList();
+    }
+
+    private static Order copy(Order source) {
+        Order order = new Order();
+        order.setId(source.getId());
+        order.setOrderDate(source.getOrderDate());
+        order.setUser(copy(source.getUser()));
+        order.setProduct(copy(source.getProduct()));
+        order.setQuantity(source.getQuantity());
+        order.setStatus(source.getStatus());
+        order.setTotalAmount(source.getTotalAmount());
+        return order;
+    }
+
+    private static User copy(User source) {
+        if (source == null) {
+            return null;
+        }
+        User user = new User();
+        user.setId(source.getId());
+        user.setUsername(source.getUsername());
+        user.setEmail(source.getEmail());
+        return user;
+    }
+
+    private static Product copy(Product source) {
+        if (source == null) {
+            return null;
+        }
+        Product product = new Product();
+        product.setId(source.getId());
+        product.setName(source.getName());
+        product.setDescription(source.getDescription());
+        product.setPrice(source.getPrice());
+        product.setStock(source.getStock());
+        product.setVersion(source.getVersion());
+        return product;
+    }
+
+    long nanoTime() {
+        return System.nanoTime();
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.junhkang.springboottesting.service.idempotency;
+
+import io.github.junhkang.springboottesting.exception.IdempotencyKeyMismatchException;
+import io.github.junhkang.springboottesting.service.support.BoundedTtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 멱등 키 → (주문 ID, 요청 파라미터 해시) 캐시
+ *
+ * 항목은 TTL이 지나면 조회 시 제거되고, 최대 크기를 넘으면 먼저 들어온 키부터 제거합니다.
+ * 캐시에서 빠진 키는 DB(idempotency_keys)로 판별합니다.
+ */
+@Component
+public class IdempotencyCache {
+
+    private final BoundedTtlCache<String, Stored> keys;
+
+    public IdempotencyCache(@Value("${orders.idempotency.ttl-seconds:86400}") long ttlSeconds,
+                            @Value("${orders.idempotency.max-size:100000}") int maxSize) {
+        this.keys = new BoundedTtlCache<>(ttlSeconds, maxSize, this::nanoTime);
+    }
+
+    /**
+     * 키에 연결된 주문 ID를 반환합니다. 없거나 만료된 경우 null.
+     *
+     * @throws IdempotencyKeyMismatchException 키가 다른 요청 파라미터로 저장되어 있는 경우
+     */
+    public Long get(String key, String requestHash) {
+        BoundedTtlCache.Entry<Stored> entry = keys.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.value().requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyMismatchException(key);
+        }
+        return entry.value().orderId();
+    }
+
+    public void put(String key, Long orderId, String requestHash) {
+        keys.put(key, new Stored(orderId, requestHash));
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    long nanoTime() {
+        return System.nanoTime();
+    }
+
+    private record Stored(Long orderId, String requestHash) {
+    }
+}
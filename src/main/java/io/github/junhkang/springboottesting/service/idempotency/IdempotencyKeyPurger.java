@@ -0,0 +1,62 @@
+package io.github.junhkang.springboottesting.service.idempotency;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 멱등 키 테이블 정리
+ *
+ * 캐시와 같은 TTL(orders.idempotency.ttl-seconds)이 지난 idempotency_keys 행을 주기적으로 삭제합니다.
+ * 삭제된 키로 다시 요청하면 새 주문으로 처리되므로, TTL은 게이트웨이의 재전송 기간보다 길게 잡아야 합니다.
+ * 만료 판정은 정리 주기 단위로 이루어져, 정리 전까지는 만료된 키도 최초 주문을 반환합니다.
+ */
+@Slf4j
+public abstract class IdempotencyKeyPurger {
+
+    private final long ttlSeconds;
+    private final ScheduledExecutorService scheduler;
+
+    protected IdempotencyKeyPurger(long ttlSeconds, long purgeIntervalMillis) {
+        this.ttlSeconds = ttlSeconds;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "idempotency-key-purger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::purgeQuietly, purgeIntervalMillis, purgeIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * TTL이 지난 키를 삭제하고 삭제한 행 수를 반환합니다.
+     */
+    public int purgeExpired() {
+        int purged = deleteCreatedBefore(LocalDateTime.now().minusSeconds(ttlSeconds));
+        if (purged > 0) {
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+        return purged;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * cutoff 이전에 만들어진 키를 삭제합니다.
+     */
+    protected abstract int deleteCreatedBefore(LocalDateTime cutoff);
+
+    private void purgeQuietly() {
+        try {
+            purgeExpired();
+        } catch (RuntimeException e) {
+            log.warn("Failed to purge expired idempotency keys, will retry on next cycle", e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.junhkang.springboottesting.service.idempotency;
+
+import io.github.junhkang.springboottesting.repository.jpa.IdempotencyKeyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+@Profile("jpa")
+public class JpaIdempotencyKeyPurger extends IdempotencyKeyPurger {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+
+    public JpaIdempotencyKeyPurger(IdempotencyKeyRepository idempotencyKeyRepository,
+                                   @Value("${orders.idempotency.ttl-seconds:86400}") long ttlSeconds,
+                                   @Value("${orders.idempotency.purge-interval-ms:3600000}") long purgeIntervalMillis) {
+        super(ttlSeconds, purgeIntervalMillis);
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+    }
+
+    @Override
+    protected int deleteCreatedBefore(LocalDateTime cutoff) {
+        return idempotencyKeyRepository.deleteCreatedBefore(cutoff);
+    }
+}
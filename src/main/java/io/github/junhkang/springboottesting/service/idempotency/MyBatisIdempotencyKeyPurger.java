@@ -0,0 +1,27 @@
+package io.github.junhkang.springboottesting.service.idempotency;
+
+import io.github.junhkang.springboottesting.repository.mybatis.IdempotencyKeyMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+@Profile("mybatis")
+public class MyBatisIdempotencyKeyPurger extends IdempotencyKeyPurger {
+
+    private final IdempotencyKeyMapper idempotencyKeyMapper;
+
+    public MyBatisIdempotencyKeyPurger(IdempotencyKeyMapper idempotencyKeyMapper,
+                                       @Value("${orders.idempotency.ttl-seconds:86400}") long ttlSeconds,
+                                       @Value("${orders.idempotency.purge-interval-ms:3600000}") long purgeIntervalMillis) {
+        super(ttlSeconds, purgeIntervalMillis);
+        this.idempotencyKeyMapper = idempotencyKeyMapper;
+    }
+
+    @Override
+    protected int deleteCreatedBefore(LocalDateTime cutoff) {
+        return idempotencyKeyMapper.deleteCreatedBefore(cutoff);
+    }
+}
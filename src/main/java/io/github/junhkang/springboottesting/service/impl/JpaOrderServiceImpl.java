@@ -1,34 +1,102 @@
 package io.github.junhkang.springboottesting.service.impl;
 
+import io.github.junhkang.springboottesting.domain.IdempotencyKey;
 import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderLine;
+import io.github.junhkang.springboottesting.domain.OrderLineResult;
+import io.github.junhkang.springboottesting.domain.OrderPage;
 import io.github.junhkang.springboottesting.domain.OrderStatus;
+import io.github.junhkang.springboottesting.domain.OrderSummary;
+import io.github.junhkang.springboottesting.domain.OrderSummaryPage;
 import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.RevenueBucket;
+import io.github.junhkang.springboottesting.domain.RevenueGroup;
 import io.github.junhkang.springboottesting.domain.User;
+import io.github.junhkang.springboottesting.exception.IdempotencyKeyConflictException;
+import io.github.junhkang.springboottesting.exception.IdempotencyKeyMismatchException;
 import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import io.github.junhkang.springboottesting.id.TimeOrderedIdGenerator;
+import io.github.junhkang.springboottesting.repository.jpa.IdempotencyKeyRepository;
 import io.github.junhkang.springboottesting.repository.jpa.OrderRepository;
 import io.github.junhkang.springboottesting.repository.jpa.ProductRepository;
 import io.github.junhkang.springboottesting.repository.jpa.UserRepository;
 import io.github.junhkang.springboottesting.service.OrderService;
+import io.github.junhkang.springboottesting.service.amount.OrderTotalCache;
+import io.github.junhkang.springboottesting.service.catalog.ProductCache;
+import io.github.junhkang.springboottesting.service.history.OrderHistoryCache;
+import io.github.junhkang.springboottesting.service.index.OrderDateIndex;
+import io.github.junhkang.springboottesting.service.inventory.InventoryLedger;
+import io.github.junhkang.springboottesting.service.inventory.StockBuckets;
+import io.github.junhkang.springboottesting.service.retry.RetryOnConflict;
+import io.github.junhkang.springboottesting.service.rollup.RevenueRollups;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 @Service
 @Profile("jpa")
 public class JpaOrderServiceImpl implements OrderService {
 
+    private static final int ID_CHUNK_SIZE = 1000;
+
     private final OrderRepository orderRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final InventoryLedger inventoryLedger;
+    private final StockBuckets stockBuckets;
+    private final boolean singleStatementPlacement;
+    private final EntityManager entityManager;
+    private final OrderHistoryCache orderHistoryCache;
+    private final OrderDateIndex orderDateIndex;
+    private final RevenueRollups revenueRollups;
+    private final OrderTotalCache orderTotalCache;
+    private final ProductCache productCache;
 
-    public JpaOrderServiceImpl(OrderRepository orderRepository, UserRepository userRepository, ProductRepository productRepository) {
+    public JpaOrderServiceImpl(OrderRepository orderRepository, UserRepository userRepository, ProductRepository productRepository,
+                               IdempotencyKeyRepository idempotencyKeyRepository, EntityManager entityManager,
+                               ObjectProvider<InventoryLedger> inventoryLedger,
+                               ObjectProvider<StockBuckets> stockBuckets,
+                               ObjectProvider<OrderHistoryCache> orderHistoryCache,
+                               ObjectProvider<OrderDateIndex> orderDateIndex,
+                               ObjectProvider<RevenueRollups> revenueRollups,
+                               ObjectProvider<OrderTotalCache> orderTotalCache,
+                               ObjectProvider<ProductCache> productCache,
+                               @Value("${orders.placement.single-statement:false}") boolean singleStatementPlacement) {
         this.orderRepository = orderRepository;
         this.userRepository = userRepository;
         this.productRepository = productRepository;
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.entityManager = entityManager;
+        this.inventoryLedger = inventoryLedger.getIfAvailable();
+        this.stockBuckets = stockBuckets.getIfAvailable();
+        this.orderHistoryCache = orderHistoryCache.getIfAvailable();
+        this.orderDateIndex = orderDateIndex.getIfAvailable();
+        this.revenueRollups = revenueRollups.getIfAvailable();
+        this.orderTotalCache = orderTotalCache.getIfAvailable();
+        this.productCache = productCache.getIfAvailable();
+        // 재고 원장/분할 모드는 재고를 product 행 밖에서 관리하므로 단일 구문 주문을 사용하지 않는다
+        this.singleStatementPlacement = singleStatementPlacement && this.inventoryLedger == null && this.stockBuckets == null;
     }
 
     @Override
@@ -43,21 +111,27 @@ public class JpaOrderServiceImpl implements OrderService {
     }
 
     @Override
+    @RetryOnConflict
     @Transactional
     public Order createOrder(Long userId, Long productId, Integer quantity) {
+        if (singleStatementPlacement) {
+            return invalidateHistory(indexOrderDate(rollUpRevenue(placeOrder(userId, productId, quantity))));
+        }
+
+        // 재고 원장을 사용하면 재고 부족 주문은 DB를 거치지 않고 거절
+        if (inventoryLedger != null && !inventoryLedger.reserve(productId, quantity)) {
+            throw new IllegalArgumentException("Insufficient stock for product id " + productId);
+        }
+
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id " + userId));
 
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new ResourceNotFoundException("Product not found with id " + productId));
+        Product product = findProduct(productId);
 
-        if (product.getStock() < quantity) {
+        if (inventoryLedger == null && !decreaseStock(product, quantity)) {
             throw new IllegalArgumentException("Insufficient stock for product id " + productId);
         }
 
-        product.setStock(product.getStock() - quantity);
-        productRepository.save(product);
-
         Order order = new Order();
         order.setOrderDate(LocalDateTime.now());
         order.setUser(user);
@@ -66,30 +140,125 @@ public class JpaOrderServiceImpl implements OrderService {
         order.setStatus(OrderStatus.PENDING);
         order.setTotalAmount(product.getPrice() * quantity);
 
-        return orderRepository.save(order);
+        return invalidateHistory(indexOrderDate(rollUpRevenue(orderRepository.save(order))));
     }
 
     @Override
+    @RetryOnConflict
     @Transactional
-    public Order cancelOrder(Long id) {
-        Order order = getOrderById(id);
+    public Order createOrder(Long userId, Long productId, Integer quantity, String idempotencyKey) {
+        String requestHash = IdempotencyKey.hashRequest(userId, productId, quantity);
+        IdempotencyKey existing = idempotencyKeyRepository.findById(idempotencyKey).orElse(null);
+        if (existing != null) {
+            if (!requestHash.equals(existing.getRequestHash())) {
+                throw new IdempotencyKeyMismatchException(idempotencyKey);
+            }
+            return getOrderById(existing.getOrderId());
+        }
 
-        if (order.getStatus() != OrderStatus.PENDING) {
+        // 키 INSERT가 주문과 같은 트랜잭션이므로, 동시에 같은 키로 들어온 요청은 PK 위반으로 롤백된다
+        Order order = createOrder(userId, productId, quantity);
+        try {
+            idempotencyKeyRepository.insert(idempotencyKey, order.getId(), requestHash, LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            // idempotency_keys의 제약은 PK뿐이고, Hibernate는 PK 위반을 DuplicateKeyException으로 구분하지 않음
+            throw new IdempotencyKeyConflictException(idempotencyKey, e);
+        }
+        return order;
+    }
+
+    @Override
+    @RetryOnConflict
+    @Transactional
+    public List<OrderLineResult> createOrders(List<OrderLine> lines) {
+        // 사용자/상품은 IN 쿼리 한 번씩으로 검증
+        Set<Long> userIds = lines.stream().map(OrderLine::getUserId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<Long> productIds = lines.stream().map(OrderLine::getProductId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, Product> products = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        // 조회한 재고 기준으로 라인 순서대로 배분하고, 상품별로 수락된 라인을 모은다
+        OrderLineResult[] results = new OrderLineResult[lines.size()];
+        Map<Long, Integer> remainingStock = new LinkedHashMap<>();
+        Map<Long, List<Integer>> acceptedLines = new LinkedHashMap<>();
+        for (int i = 0; i < lines.size(); i++) {
+            OrderLine line = lines.get(i);
+            String error = validateLine(line, users.keySet(), products.keySet());
+            if (error == null) {
+                error = allocateStock(line, availableStock(products.get(line.getProductId())), remainingStock);
+            }
+            if (error != null) {
+                results[i] = OrderLineResult.failed(i, error);
+            } else {
+                acceptedLines.computeIfAbsent(line.getProductId(), key -> new ArrayList<>()).add(i);
+            }
+        }
+
+        // 상품별 합계 수량으로 조건부 차감하고, 실패한 상품의 라인은 재고 부족 처리
+        if (inventoryLedger == null) {
+            acceptedLines.entrySet().removeIf(entry -> {
+                Long productId = entry.getKey();
+                int total = entry.getValue().stream().mapToInt(i -> lines.get(i).getQuantity()).sum();
+                if (stockBuckets != null ? stockBuckets.take(productId, total) : productRepository.decreaseStock(productId, total) > 0) {
+                    stockChanged(productId, -total);
+                    return false;
+                }
+                entry.getValue().forEach(i -> results[i] = OrderLineResult.failed(i, "Insufficient stock for product id " + productId));
+                return true;
+            });
+        }
+
+        // 주문은 hibernate.jdbc.batch_size 단위의 JDBC 배치로 INSERT
+        Map<Integer, Order> orders = new LinkedHashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        acceptedLines.values().forEach(indexes -> indexes.forEach(i -> {
+            OrderLine line = lines.get(i);
+            Product product = products.get(line.getProductId());
+            Order order = new Order();
+            order.setOrderDate(now);
+            order.setUser(users.get(line.getUserId()));
+            order.setProduct(product);
+            order.setQuantity(line.getQuantity());
+            order.setStatus(OrderStatus.PENDING);
+            order.setTotalAmount(product.getPrice() * line.getQuantity());
+            orders.put(i, order);
+        }));
+        orderRepository.saveAll(orders.values());
+        if (revenueRollups != null) {
+            revenueRollups.recordPlaced(orders.values());
+        }
+        orders.forEach((i, order) -> results[i] = OrderLineResult.succeeded(i, invalidateHistory(indexOrderDate(order)).getId()));
+
+        return List.of(results);
+    }
+
+    @Override
+    @RetryOnConflict
+    @Transactional
+    public Order cancelOrder(Long id) {
+        // PENDING → CANCELED 전이를 조건부 UPDATE 한 번으로 처리 (동시에 취소해도 한 요청만 성공)
+        OrderRepository.OrderRow row = orderRepository.cancelIfPending(id).orElse(null);
+        entityManager.clear();
+        if (row == null) {
+            getOrderById(id);
             throw new IllegalArgumentException("Only pending orders can be canceled.");
         }
 
-        order.setStatus(OrderStatus.CANCELED);
-        orderRepository.save(order);
+        Order order = toOrder(row);
 
         // 재고 복구
-        Product product = order.getProduct();
-        product.setStock(product.getStock() + order.getQuantity());
-        productRepository.save(product);
+        increaseStock(order.getProduct(), order.getQuantity());
 
-        return order;
+        if (revenueRollups != null) {
+            revenueRollups.recordCanceled(order);
+        }
+        return invalidateHistory(order);
     }
 
     @Override
+    @RetryOnConflict
     @Transactional
     public Order updateOrderQuantity(Long id, Integer newQuantity) {
         Order order = getOrderById(id);
@@ -101,34 +270,356 @@ public class JpaOrderServiceImpl implements OrderService {
         Product product = order.getProduct();
         int difference = newQuantity - order.getQuantity();
 
-        if (difference > 0 && product.getStock() < difference) {
+        if (difference > 0 && !decreaseStock(product, difference)) {
             throw new IllegalArgumentException("Insufficient stock to increase quantity.");
         }
+        if (difference < 0) {
+            increaseStock(product, -difference);
+        }
 
-        product.setStock(product.getStock() - difference);
-        productRepository.save(product);
-
-        order.setQuantity(newQuantity);
-        order.setTotalAmount(product.getPrice() * newQuantity);
-        return orderRepository.save(order);
+        // 읽은 뒤 다른 요청이 취소/변경했다면 0건이 되어 충돌로 처리 (재시도 시 다시 읽어 판단)
+        OrderRepository.OrderRow row = orderRepository.updateQuantityIfUnchanged(id, order.getQuantity(), newQuantity).orElse(null);
+        entityManager.clear();
+        if (row == null) {
+            throw new OptimisticLockingFailureException("Order id " + id + " was modified concurrently.");
+        }
+        invalidateTotalAmount(id);
+        Order updated = toOrder(row);
+        if (revenueRollups != null) {
+            revenueRollups.recordQuantityChanged(updated, order.getQuantity(), order.getTotalAmount());
+        }
+        return invalidateHistory(updated);
     }
 
     @Override
     public List<Order> getOrdersByUserId(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id " + userId));
+        if (orderHistoryCache != null) {
+            return orderHistoryCache.get(userId, this::loadOrdersByUserId);
+        }
+        return loadOrdersByUserId(userId, false);
+    }
 
-        return orderRepository.findByUser(user);
+    // 캐시가 이미 존재를 확인한 사용자라면 사용자 조회를 생략 (주문은 user_id로 조회해 지연 로딩 프록시를 남기지 않음)
+    private List<Order> loadOrdersByUserId(Long userId, boolean userKnown) {
+        if (!userKnown && !userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id " + userId);
+        }
+        return orderRepository.findByUserIdFetchingUserAndProduct(userId);
+    }
+
+    // 주문이 바뀐 사용자의 주문 목록 캐시만 무효화
+    // 페이지 조회의 사용자 확인: 주문 목록 캐시가 이미 아는 사용자면 쿼리를 생략
+    private void requireUser(Long userId) {
+        boolean exists = orderHistoryCache != null
+                ? orderHistoryCache.isKnownUser(userId, userRepository::existsById)
+                : userRepository.existsById(userId);
+        if (!exists) {
+            throw new ResourceNotFoundException("User not found with id " + userId);
+        }
+    }
+
+    private Order invalidateHistory(Order order) {
+        if (orderHistoryCache != null) {
+            orderHistoryCache.invalidate(order.getUser().getId());
+        }
+        return order;
+    }
+
+    // 새 주문을 같은 트랜잭션에서 매출 롤업에 반영
+    private Order rollUpRevenue(Order order) {
+        if (revenueRollups != null) {
+            revenueRollups.recordPlaced(order);
+        }
+        return order;
+    }
+
+    // 새 주문을 주문일 인덱스에 추가 (커밋 후 반영)
+    private Order indexOrderDate(Order order) {
+        if (orderDateIndex != null) {
+            orderDateIndex.add(order.getId(), order.getOrderDate());
+        }
+        return order;
+    }
+
+    @Override
+    public List<OrderSummary> getOrderSummaries() {
+        return orderRepository.findAllSummaries().stream()
+                .map(this::toSummary)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<OrderSummary> getOrderSummariesByUserId(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id " + userId);
+        }
+
+        return orderRepository.findSummariesByUserId(userId).stream()
+                .map(this::toSummary)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public OrderSummaryPage getOrderSummaries(Long afterId, int limit) {
+        Slice<OrderRepository.OrderSummaryView> slice = orderRepository.findSummaryPage(
+                afterId != null ? afterId : Long.MIN_VALUE, PageRequest.of(0, limit));
+        return OrderSummaryPage.of(slice.map(this::toSummary).getContent(), slice.hasNext());
+    }
+
+    @Override
+    public OrderSummaryPage getOrderSummariesByUserId(Long userId, Long afterId, int limit) {
+        requireUser(userId);
+
+        Slice<OrderRepository.OrderSummaryView> slice = orderRepository.findSummaryPageByUserId(
+                userId, afterId != null ? afterId : Long.MIN_VALUE, PageRequest.of(0, limit));
+        return OrderSummaryPage.of(slice.map(this::toSummary).getContent(), slice.hasNext());
+    }
+
+    private OrderSummary toSummary(OrderRepository.OrderSummaryView view) {
+        OrderSummary summary = new OrderSummary();
+        summary.setId(view.getId());
+        summary.setOrderDate(view.getOrderDate());
+        summary.setStatus(view.getStatus());
+        summary.setTotalAmount(view.getTotalAmount());
+        return summary;
+    }
+
+    @Override
+    public List<RevenueBucket> getRevenue(RevenueGroup group, LocalDateTime startDate, LocalDateTime endDate) {
+        if (revenueRollups != null) {
+            return revenueRollups.revenue(group, startDate, endDate, (from, to) -> revenueFromOrders(group, from, to));
+        }
+        return revenueFromOrders(group, startDate, endDate);
+    }
+
+    private List<RevenueBucket> revenueFromOrders(RevenueGroup group, LocalDateTime startDate, LocalDateTime endDate) {
+        List<OrderRepository.RevenueView> rows = switch (group) {
+            case DAY -> orderRepository.revenueByDay(startDate, endDate);
+            case PRODUCT -> orderRepository.revenueByProduct(startDate, endDate);
+            case USER -> orderRepository.revenueByUser(startDate, endDate);
+            case STATUS -> orderRepository.revenueByStatus(startDate, endDate);
+        };
+        return rows.stream()
+                .map(row -> {
+                    RevenueBucket bucket = new RevenueBucket();
+                    bucket.setKey(String.valueOf(row.getBucketKey()));
+                    bucket.setOrderCount(row.getOrderCount());
+                    bucket.setRevenue(row.getRevenue());
+                    return bucket;
+                })
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportOrders(Consumer<Order> sink) {
+        long count = 0;
+        try (Stream<Order> orders = orderRepository.streamAll()) {
+            for (Order order : (Iterable<Order>) orders::iterator) {
+                sink.accept(order);
+                // 이미 내보낸 주문은 영속성 컨텍스트에서 떼어내 힙 사용량이 행 수에 비례해 늘지 않도록 함
+                entityManager.detach(order);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public OrderPage getOrders(Long afterId, int limit) {
+        Slice<Order> slice = orderRepository.findByIdGreaterThanOrderByIdAsc(
+                afterId != null ? afterId : Long.MIN_VALUE, PageRequest.of(0, limit));
+        return OrderPage.of(slice.getContent(), slice.hasNext());
+    }
+
+    @Override
+    public OrderPage getOrdersByUserId(Long userId, Long afterId, int limit) {
+        requireUser(userId);
+
+        Slice<Order> slice = orderRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(
+                userId, afterId != null ? afterId : Long.MIN_VALUE, PageRequest.of(0, limit));
+        return OrderPage.of(slice.getContent(), slice.hasNext());
     }
 
     @Override
     public List<Order> getOrdersByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
+        if (orderDateIndex != null) {
+            List<Long> ids = orderDateIndex.findIds(startDate, endDate, this::getOrderSummaries);
+            return findByIds(ids);
+        }
         return orderRepository.findByOrderDateBetween(startDate, endDate);
     }
 
+    // IN 목록이 너무 길어지지 않도록 나눠서 PK 조회
+    private List<Order> findByIds(List<Long> ids) {
+        List<Order> orders = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size()));
+            orders.addAll(orderRepository.findByIdInOrderByIdAsc(chunk));
+        }
+        return orders;
+    }
+
     @Override
     public Double calculateTotalAmount(Long id) {
-        Order order = getOrderById(id);
-        return order.getTotalAmount();
+        if (orderTotalCache != null) {
+            return orderTotalCache.get(id, this::loadTotalAmount);
+        }
+        return loadTotalAmount(id);
+    }
+
+    private Double loadTotalAmount(Long id) {
+        return orderRepository.findTotalAmountById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Order not found with id " + id));
+    }
+
+    // 수량 변경으로 총액이 바뀐 주문의 총액 캐시만 무효화
+    private void invalidateTotalAmount(Long orderId) {
+        if (orderTotalCache != null) {
+            orderTotalCache.invalidate(orderId);
+        }
+    }
+
+    // 단일 구문 주문: 성공하면 DB 왕복 한 번으로 끝나고, 실패한 경우에만 원인을 조회해 기존과 같은 예외를 던진다
+    private Order placeOrder(Long userId, Long productId, Integer quantity) {
+        OrderRepository.OrderRow placed = orderRepository.placeOrder(TimeOrderedIdGenerator.shared().nextId(),
+                        LocalDateTime.now(), userId, productId, quantity)
+                .orElse(null);
+        // 네이티브 구문이 product/orders를 직접 바꿨으므로 영속성 컨텍스트의 stale 엔티티를 비운다
+        entityManager.clear();
+        if (placed == null) {
+            if (!userRepository.existsById(userId)) {
+                throw new ResourceNotFoundException("User not found with id " + userId);
+            }
+            if (!productRepository.existsById(productId)) {
+                throw new ResourceNotFoundException("Product not found with id " + productId);
+            }
+            throw new IllegalArgumentException("Insufficient stock for product id " + productId);
+        }
+        stockChanged(productId, -quantity);
+
+        return toOrder(placed);
+    }
+
+    // 네이티브 구문 결과를 Order로 변환
+    private Order toOrder(OrderRepository.OrderRow row) {
+        User user = new User();
+        user.setId(row.getUserId());
+        user.setUsername(row.getUsername());
+        user.setEmail(row.getUserEmail());
+
+        Product product = new Product();
+        product.setId(row.getProductId());
+        product.setName(row.getProductName());
+        product.setDescription(row.getProductDescription());
+        product.setPrice(row.getProductPrice());
+        product.setStock(row.getProductStock());
+
+        Order order = new Order();
+        order.setId(row.getId());
+        order.setOrderDate(row.getOrderDate());
+        order.setUser(user);
+        order.setProduct(product);
+        order.setQuantity(row.getQuantity());
+        order.setStatus(OrderStatus.valueOf(row.getStatus()));
+        order.setTotalAmount(row.getTotalAmount());
+        return order;
+    }
+
+    // 대량 주문 라인의 필수 값과 사용자/상품 존재 여부를 검증하고, 실패 사유를 반환
+    private String validateLine(OrderLine line, Set<Long> existingUserIds, Set<Long> existingProductIds) {
+        if (line.getUserId() == null || line.getProductId() == null || line.getQuantity() == null || line.getQuantity() <= 0) {
+            return "userId, productId and a positive quantity are required.";
+        }
+        if (!existingUserIds.contains(line.getUserId())) {
+            return "User not found with id " + line.getUserId();
+        }
+        if (!existingProductIds.contains(line.getProductId())) {
+            return "Product not found with id " + line.getProductId();
+        }
+        return null;
+    }
+
+    // 재고 원장을 사용하면 원장에서 예약하고, 아니면 조회한 재고에서 차감해 둔다 (실제 차감은 상품별 합계로 한 번에)
+    private String allocateStock(OrderLine line, int stock, Map<Long, Integer> remainingStock) {
+        Long productId = line.getProductId();
+        if (inventoryLedger != null) {
+            return inventoryLedger.reserve(productId, line.getQuantity()) ? null : "Insufficient stock for product id " + productId;
+        }
+        int remaining = remainingStock.getOrDefault(productId, stock);
+        if (remaining < line.getQuantity()) {
+            return "Insufficient stock for product id " + productId;
+        }
+        remainingStock.put(productId, remaining - line.getQuantity());
+        return null;
+    }
+
+    // 재고 분할 모드면 버킷에 나눠 담긴 재고까지 합산
+    private int availableStock(Product product) {
+        return product.getStock() + (stockBuckets != null ? stockBuckets.bucketStock(product.getId()) : 0);
+    }
+
+    /**
+     * 재고를 차감합니다. 재고 원장을 사용하면 메모리에서 예약하고, 재고 분할 모드면 버킷에서,
+     * 아니면 조건부 UPDATE로 차감합니다.
+     *
+     * @return 재고가 충분해 차감에 성공하면 true
+     */
+    private boolean decreaseStock(Product product, int quantity) {
+        if (inventoryLedger != null) {
+            return inventoryLedger.reserve(product.getId(), quantity);
+        }
+        if (stockBuckets != null) {
+            if (!stockBuckets.take(product.getId(), quantity)) {
+                return false;
+            }
+            stockChanged(product.getId(), -quantity);
+            return true;
+        }
+        // 재고 확인과 차감을 하나의 조건부 UPDATE로 처리 (영향받은 행이 없으면 재고 부족)
+        if (productRepository.decreaseStock(product.getId(), quantity) == 0) {
+            return false;
+        }
+        stockChanged(product.getId(), -quantity);
+        // UPDATE 이후 영속성 컨텍스트가 비워지므로 반환할 엔티티의 값만 맞춰 둔다
+        product.setStock(product.getStock() - quantity);
+        return true;
+    }
+
+    private void increaseStock(Product product, int quantity) {
+        if (inventoryLedger != null) {
+            inventoryLedger.release(product.getId(), quantity);
+            return;
+        }
+        if (stockBuckets != null) {
+            stockBuckets.put(product.getId(), quantity);
+            stockChanged(product.getId(), quantity);
+            return;
+        }
+        productRepository.increaseStock(product.getId(), quantity);
+        stockChanged(product.getId(), quantity);
+        if (product.getStock() != null) {
+            product.setStock(product.getStock() + quantity);
+        }
+    }
+
+    private Product findProduct(Long productId) {
+        if (productCache != null) {
+            return productCache.get(productId);
+        }
+        return productRepository.findById(productId)
+                .orElseThrow(() -> new ResourceNotFoundException("Product not found with id " + productId));
+    }
+
+    // 상품 캐시의 재고를 product 행 변경에 맞춘다 (재고 분할 모드는 행과 버킷 중 어디서 바뀌었는지 모르므로 무효화)
+    private void stockChanged(Long productId, int delta) {
+        if (productCache == null) {
+            return;
+        }
+        if (stockBuckets != null) {
+            productCache.invalidate(productId);
+        } else {
+            productCache.adjustStock(productId, delta);
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,32 +1,62 @@
 package io.github.junhkang.springboottesting.service.impl;
 
 import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.ProductImportReport;
+import io.github.junhkang.springboottesting.domain.ProductImportRow;
+import io.github.junhkang.springboottesting.domain.ProductNameMatch;
 import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
 import io.github.junhkang.springboottesting.repository.jpa.ProductRepository;
 import io.github.junhkang.springboottesting.service.ProductService;
+import io.github.junhkang.springboottesting.service.catalog.ProductCache;
+import io.github.junhkang.springboottesting.service.catalog.ProductImporter;
+import io.github.junhkang.springboottesting.service.index.ProductNameIndex;
+import io.github.junhkang.springboottesting.service.inventory.StockBuckets;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Profile("jpa")
 public class JpaProductServiceImpl implements ProductService {
 
     private final ProductRepository productRepository;
+    private final StockBuckets stockBuckets;
+    private final ProductCache productCache;
+    private final ProductImporter productImporter;
+    private final ProductNameIndex productNameIndex;
 
-    public JpaProductServiceImpl(ProductRepository productRepository) {
+    public JpaProductServiceImpl(ProductRepository productRepository, ObjectProvider<StockBuckets> stockBuckets,
+                                 ObjectProvider<ProductCache> productCache, ProductImporter productImporter,
+                                 ObjectProvider<ProductNameIndex> productNameIndex) {
         this.productRepository = productRepository;
+        this.stockBuckets = stockBuckets.getIfAvailable();
+        this.productCache = productCache.getIfAvailable();
+        this.productImporter = productImporter;
+        this.productNameIndex = productNameIndex.getIfAvailable();
     }
 
     @Override
     public List<Product> getAllProducts() {
-        return productRepository.findAll();
+        return productRepository.findAll().stream()
+                .map(this::withBucketStock)
+                .toList();
     }
 
     @Override
     public Product getProductById(Long id) {
+        if (productCache != null) {
+            return withBucketStock(productCache.get(id));
+        }
         return productRepository.findById(id)
+                .map(this::withBucketStock)
                 .orElseThrow(() -> new ResourceNotFoundException("Product not found with id " + id));
     }
 
@@ -41,6 +71,79 @@ public class JpaProductServiceImpl implements ProductService {
         if (product.getStock() == null || product.getStock() < 0) {
             throw new IllegalArgumentException("Product stock cannot be negative.");
         }
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        if (productCache != null) {
+            productCache.put(saved);
+        }
+        if (productNameIndex != null) {
+            productNameIndex.add(saved.getId(), saved.getName());
+        }
+        return saved;
+    }
+
+    @Override
+    public List<Product> searchProducts(String query, ProductNameMatch match, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required.");
+        }
+        if (productNameIndex == null) {
+            return searchWithoutIndex(query, match, limit).stream()
+                    .map(this::withBucketStock)
+                    .toList();
+        }
+        List<Long> ids = productNameIndex.search(query, match, limit);
+        // IN 조회는 순서를 보장하지 않으므로 인덱스가 돌려준 순서대로 다시 배치
+        Map<Long, Product> products = productRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        return ids.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .map(this::withBucketStock)
+                .toList();
+    }
+
+    @Override
+    public ProductImportReport importProducts(Iterator<ProductImportRow> rows) {
+        return productImporter.importProducts(rows);
+    }
+
+    @Override
+    public Product splitStock(Long id) {
+        if (stockBuckets == null) {
+            throw new IllegalArgumentException("Stock buckets are not enabled.");
+        }
+        stockBuckets.split(id);
+        if (productCache != null) {
+            productCache.invalidate(id);
+        }
+        return getProductById(id);
+    }
+
+    private List<Product> searchWithoutIndex(String query, ProductNameMatch match, int limit) {
+        return switch (match) {
+            case EXACT -> productRepository.findByNormalizedName(ProductNameIndex.normalize(query), PageRequest.of(0, limit));
+            case PREFIX -> productRepository.findByNormalizedNamePrefix(
+                    escapeLike(ProductNameIndex.normalize(query)) + "%", PageRequest.of(0, limit));
+            case TOKEN -> throw new IllegalArgumentException("Token search requires the product name index.");
+        };
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    // 분할된 상품은 버킷 재고를 합산한 사본을 반환 (영속 엔티티를 바꾸면 재고 합계가 product 행에 저장되므로)
+    private Product withBucketStock(Product product) {
+        if (stockBuckets == null || !stockBuckets.isSharded(product.getId())) {
+            return product;
+        }
+        Product copy = new Product();
+        copy.setId(product.getId());
+        copy.setName(product.getName());
+        copy.setDescription(product.getDescription());
+        copy.setPrice(product.getPrice());
+        copy.setStock(product.getStock() + stockBuckets.bucketStock(product.getId()));
+        copy.setVersion(product.getVersion());
+        return copy;
     }
 }
\ No newline at end of file
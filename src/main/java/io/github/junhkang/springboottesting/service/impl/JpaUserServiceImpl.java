@@ -4,24 +4,25 @@ import io.github.junhkang.springboottesting.domain.User;
 import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
 import io.github.junhkang.springboottesting.repository.jpa.UserRepository;
 import io.github.junhkang.springboottesting.service.UserService;
+import io.github.junhkang.springboottesting.service.index.UsernameIndex;
+import io.github.junhkang.springboottesting.service.validation.EmailValidator;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Optional;
 
 @Service
 @Profile("jpa")
 public class JpaUserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final UsernameIndex usernameIndex;
 
-    // 직접하네
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(
-            "^[A-Za-z0-9+_.-]+@(.+)$"
-    );
-    public JpaUserServiceImpl(UserRepository userRepository) {
+    public JpaUserServiceImpl(UserRepository userRepository, ObjectProvider<UsernameIndex> usernameIndex) {
         this.userRepository = userRepository;
+        this.usernameIndex = usernameIndex.getIfAvailable();
     }
 
     @Override
@@ -47,7 +48,28 @@ public class JpaUserServiceImpl implements UserService {
         if (!isValidEmail(user.getEmail())) {
             throw new IllegalArgumentException("Invalid email format.");
         }
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        if (usernameIndex != null) {
+            usernameIndex.add(saved.getId(), saved.getUsername());
+        }
+        return saved;
+    }
+
+    @Override
+    public User getUserByUsername(String username) {
+        if (usernameIndex == null) {
+            return userRepository.findByUsername(username)
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found with username " + username));
+        }
+        Long id = usernameIndex.findId(username);
+        Optional<User> user = id != null ? userRepository.findById(id) : Optional.empty();
+        // 서비스 밖에서 삭제(또는 다시 생성)된 사용자면 항목을 지우고 DB에서 다시 찾는다
+        if (id != null && user.isEmpty()) {
+            usernameIndex.remove(username);
+            id = usernameIndex.findId(username);
+            user = id != null ? userRepository.findById(id) : Optional.empty();
+        }
+        return user.orElseThrow(() -> new ResourceNotFoundException("User not found with username " + username));
     }
 
     /**
@@ -57,6 +79,6 @@ public class JpaUserServiceImpl implements UserService {
      * @return 유효한 이메일 형식이면 true, 아니면 false
      */
     private boolean isValidEmail(String email) {
-        return EMAIL_PATTERN.matcher(email).matches();
+        return EmailValidator.isValid(email);
     }
 }
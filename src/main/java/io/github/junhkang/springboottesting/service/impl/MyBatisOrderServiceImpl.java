@@ -1,31 +1,92 @@
 package io.github.junhkang.springboottesting.service.impl;
 
 import io.github.junhkang.springboottesting.domain.*;
+import io.github.junhkang.springboottesting.exception.IdempotencyKeyConflictException;
+import io.github.junhkang.springboottesting.exception.IdempotencyKeyMismatchException;
 import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import io.github.junhkang.springboottesting.id.TimeOrderedIdGenerator;
+import io.github.junhkang.springboottesting.repository.mybatis.IdempotencyKeyMapper;
 import io.github.junhkang.springboottesting.repository.mybatis.OrderMapper;
 import io.github.junhkang.springboottesting.repository.mybatis.ProductMapper;
 import io.github.junhkang.springboottesting.repository.mybatis.UserMapper;
 import io.github.junhkang.springboottesting.service.OrderService;
+import io.github.junhkang.springboottesting.service.amount.OrderTotalCache;
+import io.github.junhkang.springboottesting.service.catalog.ProductCache;
+import io.github.junhkang.springboottesting.service.history.OrderHistoryCache;
+import io.github.junhkang.springboottesting.service.index.OrderDateIndex;
+import io.github.junhkang.springboottesting.service.inventory.InventoryLedger;
+import io.github.junhkang.springboottesting.service.inventory.StockBuckets;
+import io.github.junhkang.springboottesting.service.retry.RetryOnConflict;
+import io.github.junhkang.springboottesting.service.rollup.RevenueRollups;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @Profile("mybatis")
 public class MyBatisOrderServiceImpl implements OrderService {
 
+    private static final int ID_CHUNK_SIZE = 1000;
+
     private final OrderMapper orderMapper;
     private final UserMapper userMapper;
     private final ProductMapper productMapper;
-
-    public MyBatisOrderServiceImpl(OrderMapper orderMapper, UserMapper userMapper, ProductMapper productMapper) {
+    private final IdempotencyKeyMapper idempotencyKeyMapper;
+    private final InventoryLedger inventoryLedger;
+    private final StockBuckets stockBuckets;
+    private final boolean singleStatementPlacement;
+    private final OrderHistoryCache orderHistoryCache;
+    private final OrderDateIndex orderDateIndex;
+    private final RevenueRollups revenueRollups;
+    private final OrderTotalCache orderTotalCache;
+    private final ProductCache productCache;
+
+    // 대량 주문 전용 세션: 같은 트랜잭션 안에서는 ExecutorType을 섞을 수 없으므로 createOrders는 이 세션만 사용
+    private final SqlSessionTemplate batchSqlSession;
+
+    public MyBatisOrderServiceImpl(OrderMapper orderMapper, UserMapper userMapper, ProductMapper productMapper,
+                                   IdempotencyKeyMapper idempotencyKeyMapper, ObjectProvider<InventoryLedger> inventoryLedger,
+                                   ObjectProvider<StockBuckets> stockBuckets, ObjectProvider<OrderHistoryCache> orderHistoryCache,
+                                   ObjectProvider<OrderDateIndex> orderDateIndex, ObjectProvider<RevenueRollups> revenueRollups,
+                                   ObjectProvider<OrderTotalCache> orderTotalCache,
+                                   ObjectProvider<ProductCache> productCache,
+                                   SqlSessionFactory sqlSessionFactory,
+                                   @Value("${orders.placement.single-statement:false}") boolean singleStatementPlacement) {
         this.orderMapper = orderMapper;
         this.userMapper = userMapper;
         this.productMapper = productMapper;
+        this.idempotencyKeyMapper = idempotencyKeyMapper;
+        this.inventoryLedger = inventoryLedger.getIfAvailable();
+        this.stockBuckets = stockBuckets.getIfAvailable();
+        this.orderHistoryCache = orderHistoryCache.getIfAvailable();
+        this.orderDateIndex = orderDateIndex.getIfAvailable();
+        this.revenueRollups = revenueRollups.getIfAvailable();
+        this.orderTotalCache = orderTotalCache.getIfAvailable();
+        this.productCache = productCache.getIfAvailable();
+        // 재고 원장/분할 모드는 재고를 product 행 밖에서 관리하므로 단일 구문 주문을 사용하지 않는다
+        this.singleStatementPlacement = singleStatementPlacement && this.inventoryLedger == null && this.stockBuckets == null;
+        this.batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
     }
 
     @Override
@@ -46,26 +107,29 @@ public class MyBatisOrderServiceImpl implements OrderService {
     }
 
     @Override
+    @RetryOnConflict
     @Transactional
     public Order createOrder(Long userId, Long productId, Integer quantity) {
+        if (singleStatementPlacement) {
+            return invalidateHistory(indexOrderDate(rollUpRevenue(placeOrder(userId, productId, quantity))));
+        }
+
+        // 재고 원장을 사용하면 재고 부족 주문은 DB를 거치지 않고 거절
+        if (inventoryLedger != null && !inventoryLedger.reserve(productId, quantity)) {
+            throw new IllegalArgumentException("Insufficient stock for product id " + productId);
+        }
+
         UserDTO userDTO = userMapper.findById(userId);
         if (userDTO == null) {
             throw new ResourceNotFoundException("User not found with id " + userId);
         }
 
-        ProductDTO productDTO = productMapper.findById(productId);
-        if (productDTO == null) {
-            throw new ResourceNotFoundException("Product not found with id " + productId);
-        }
+        Product product = findProduct(productId);
 
-        if (productDTO.getStock() < quantity) {
+        if (inventoryLedger == null && !decreaseStock(productId, quantity)) {
             throw new IllegalArgumentException("Insufficient stock for product id " + productId);
         }
 
-        // 재고 업데이트
-        productDTO.setStock(productDTO.getStock() - quantity);
-        productMapper.update(productDTO);
-
         // 주문 생성
         OrderDTO orderDTO = new OrderDTO();
         orderDTO.setOrderDate(LocalDateTime.now());
@@ -73,39 +137,158 @@ public class MyBatisOrderServiceImpl implements OrderService {
         orderDTO.setProductId(productId);
         orderDTO.setQuantity(quantity);
         orderDTO.setStatus(OrderStatus.PENDING.name());
-        orderDTO.setTotalAmount(productDTO.getPrice() * quantity);
+        orderDTO.setTotalAmount(product.getPrice() * quantity);
         orderMapper.insert(orderDTO);
 
         // 결과 반환
-        return mapToOrder(orderDTO);
+        return invalidateHistory(indexOrderDate(rollUpRevenue(mapToOrder(orderDTO))));
     }
 
     @Override
+    @RetryOnConflict
     @Transactional
-    public Order cancelOrder(Long id) {
-        OrderDTO dto = orderMapper.findById(id);
-        if (dto == null) {
-            throw new ResourceNotFoundException("Order not found with id " + id);
+    public Order createOrder(Long userId, Long productId, Integer quantity, String idempotencyKey) {
+        String requestHash = IdempotencyKey.hashRequest(userId, productId, quantity);
+        IdempotencyKey existing = idempotencyKeyMapper.findByKey(idempotencyKey);
+        if (existing != null) {
+            if (!requestHash.equals(existing.getRequestHash())) {
+                throw new IdempotencyKeyMismatchException(idempotencyKey);
+            }
+            return getOrderById(existing.getOrderId());
         }
 
-        OrderStatus currentStatus = OrderStatus.valueOf(dto.getStatus());
-        if (currentStatus != OrderStatus.PENDING) {
-            throw new IllegalArgumentException("Only pending orders can be canceled.");
+        // 키 INSERT가 주문과 같은 트랜잭션이므로, 동시에 같은 키로 들어온 요청은 PK 위반으로 롤백된다
+        Order order = createOrder(userId, productId, quantity);
+        try {
+            idempotencyKeyMapper.insert(idempotencyKey, order.getId(), requestHash, LocalDateTime.now());
+        } catch (DuplicateKeyException e) {
+            throw new IdempotencyKeyConflictException(idempotencyKey, e);
         }
+        return order;
+    }
 
-        // 상태 업데이트
-        dto.setStatus(OrderStatus.CANCELED.name());
-        orderMapper.update(dto);
+    @Override
+    @RetryOnConflict
+    @Transactional
+    public List<OrderLineResult> createOrders(List<OrderLine> lines) {
+        UserMapper batchUserMapper = batchSqlSession.getMapper(UserMapper.class);
+        ProductMapper batchProductMapper = batchSqlSession.getMapper(ProductMapper.class);
+        OrderMapper batchOrderMapper = batchSqlSession.getMapper(OrderMapper.class);
+
+        // 사용자/상품은 IN 쿼리 한 번씩으로 검증
+        Set<Long> userIds = lines.stream().map(OrderLine::getUserId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<Long> productIds = lines.stream().map(OrderLine::getProductId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<Long> existingUserIds = userIds.isEmpty() ? Set.of() : batchUserMapper.findByIds(userIds).stream()
+                .map(UserDTO::getId)
+                .collect(Collectors.toSet());
+        Map<Long, ProductDTO> products = productIds.isEmpty() ? Map.of() : batchProductMapper.findByIds(productIds).stream()
+                .collect(Collectors.toMap(ProductDTO::getId, Function.identity()));
+
+        // 조회한 재고 기준으로 라인 순서대로 배분하고, 상품별로 수락된 라인을 모은다
+        OrderLineResult[] results = new OrderLineResult[lines.size()];
+        Map<Long, Integer> remainingStock = new LinkedHashMap<>();
+        Map<Long, List<Integer>> acceptedLines = new LinkedHashMap<>();
+        for (int i = 0; i < lines.size(); i++) {
+            OrderLine line = lines.get(i);
+            String error = validateLine(line, existingUserIds, products.keySet());
+            if (error == null) {
+                error = allocateStock(line, availableStock(products.get(line.getProductId())), remainingStock);
+            }
+            if (error != null) {
+                results[i] = OrderLineResult.failed(i, error);
+            } else {
+                acceptedLines.computeIfAbsent(line.getProductId(), key -> new ArrayList<>()).add(i);
+            }
+        }
+
+        // 재고 분할 모드면 상품별로 버킷에서 차감 (버킷 선택에 영향받은 행 수가 필요하므로 배치로 묶지 않음)
+        if (stockBuckets != null) {
+            acceptedLines.entrySet().removeIf(entry -> {
+                Long productId = entry.getKey();
+                int total = entry.getValue().stream().mapToInt(i -> lines.get(i).getQuantity()).sum();
+                if (stockBuckets.take(productId, total)) {
+                    stockChanged(productId, -total);
+                    return false;
+                }
+                entry.getValue().forEach(i -> results[i] = OrderLineResult.failed(i, "Insufficient stock for product id " + productId));
+                return true;
+            });
+        }
+
+        // 상품별 합계 수량으로 조건부 차감을 한 번의 배치로 실행하고, 실패한 상품의 라인은 재고 부족 처리
+        if (inventoryLedger == null && stockBuckets == null && !acceptedLines.isEmpty()) {
+            List<Long> orderedProductIds = new ArrayList<>(acceptedLines.keySet());
+            for (Long productId : orderedProductIds) {
+                int total = acceptedLines.get(productId).stream().mapToInt(i -> lines.get(i).getQuantity()).sum();
+                batchProductMapper.decreaseStock(productId, total);
+            }
+            int[] updateCounts = batchSqlSession.flushStatements().get(0).getUpdateCounts();
+            for (int j = 0; j < orderedProductIds.size(); j++) {
+                Long productId = orderedProductIds.get(j);
+                if (updateCounts[j] == 0) {
+                    acceptedLines.remove(productId).forEach(i ->
+                            results[i] = OrderLineResult.failed(i, "Insufficient stock for product id " + productId));
+                } else {
+                    stockChanged(productId, -acceptedLines.get(productId).stream().mapToInt(i -> lines.get(i).getQuantity()).sum());
+                }
+            }
+        }
+
+        // 주문은 JDBC 배치로 한 번에 INSERT
+        Map<Integer, OrderDTO> inserted = new LinkedHashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        acceptedLines.values().forEach(indexes -> indexes.forEach(i -> {
+            OrderLine line = lines.get(i);
+            OrderDTO orderDTO = new OrderDTO();
+            orderDTO.setOrderDate(now);
+            orderDTO.setUserId(line.getUserId());
+            orderDTO.setProductId(line.getProductId());
+            orderDTO.setQuantity(line.getQuantity());
+            orderDTO.setStatus(OrderStatus.PENDING.name());
+            orderDTO.setTotalAmount(products.get(line.getProductId()).getPrice() * line.getQuantity());
+            batchOrderMapper.insert(orderDTO);
+            inserted.put(i, orderDTO);
+        }));
+        batchSqlSession.flushStatements();
+        inserted.forEach((i, orderDTO) -> results[i] = OrderLineResult.succeeded(i, orderDTO.getId()));
+        if (revenueRollups != null && !inserted.isEmpty()) {
+            revenueRollups.recordPlaced(inserted.values().stream().map(this::mapToOrder).collect(Collectors.toList()));
+        }
+        if (orderHistoryCache != null) {
+            inserted.values().stream().map(OrderDTO::getUserId).distinct().forEach(orderHistoryCache::invalidate);
+        }
+        if (orderDateIndex != null) {
+            inserted.values().forEach(orderDTO -> orderDateIndex.add(orderDTO.getId(), orderDTO.getOrderDate()));
+        }
+
+        return List.of(results);
+    }
+
+    @Override
+    @RetryOnConflict
+    @Transactional
+    public Order cancelOrder(Long id) {
+        // PENDING → CANCELED 전이를 조건부 UPDATE 한 번으로 처리 (동시에 취소해도 한 요청만 성공)
+        OrderDTO dto = orderMapper.cancelIfPending(id);
+        if (dto == null) {
+            if (orderMapper.findById(id) == null) {
+                throw new ResourceNotFoundException("Order not found with id " + id);
+            }
+            throw new IllegalArgumentException("Only pending orders can be canceled.");
+        }
 
         // 재고 복구
-        ProductDTO productDTO = productMapper.findById(dto.getProductId());
-        productDTO.setStock(productDTO.getStock() + dto.getQuantity());
-        productMapper.update(productDTO);
+        increaseStock(dto.getProductId(), dto.getQuantity());
 
-        return mapToOrder(dto);
+        Order order = mapToOrder(dto);
+        if (revenueRollups != null) {
+            revenueRollups.recordCanceled(order);
+        }
+        return invalidateHistory(order);
     }
 
     @Override
+    @RetryOnConflict
     @Transactional
     public Order updateOrderQuantity(Long id, Integer newQuantity) {
         OrderDTO dto = orderMapper.findById(id);
@@ -118,51 +301,320 @@ public class MyBatisOrderServiceImpl implements OrderService {
             throw new IllegalArgumentException("Only pending orders can be updated.");
         }
 
-        ProductDTO productDTO = productMapper.findById(dto.getProductId());
         int difference = newQuantity - dto.getQuantity();
 
-        if (difference > 0 && productDTO.getStock() < difference) {
+        // 재고 업데이트
+        if (difference > 0 && !decreaseStock(dto.getProductId(), difference)) {
             throw new IllegalArgumentException("Insufficient stock to increase quantity.");
         }
+        if (difference < 0) {
+            increaseStock(dto.getProductId(), -difference);
+        }
 
-        // 재고 업데이트
-        productDTO.setStock(productDTO.getStock() - difference);
-        productMapper.update(productDTO);
-
-        // 주문 업데이트
-        dto.setQuantity(newQuantity);
-        dto.setTotalAmount(productDTO.getPrice() * newQuantity);
-        orderMapper.update(dto);
+        // 주문 업데이트: 읽은 뒤 다른 요청이 취소/변경했다면 0건이 되어 충돌로 처리 (재시도 시 다시 읽어 판단)
+        OrderDTO updated = orderMapper.updateQuantityIfUnchanged(id, dto.getQuantity(), newQuantity);
+        if (updated == null) {
+            throw new OptimisticLockingFailureException("Order id " + id + " was modified concurrently.");
+        }
 
-        return mapToOrder(dto);
+        invalidateTotalAmount(id);
+        Order order = mapToOrder(updated);
+        if (revenueRollups != null) {
+            revenueRollups.recordQuantityChanged(order, dto.getQuantity(), dto.getTotalAmount());
+        }
+        return invalidateHistory(order);
     }
 
     @Override
     public List<Order> getOrdersByUserId(Long userId) {
+        if (orderHistoryCache != null) {
+            return orderHistoryCache.get(userId, this::loadOrdersByUserId);
+        }
+        return loadOrdersByUserId(userId, false);
+    }
+
+    // 캐시가 이미 존재를 확인한 사용자라면 사용자 조회를 생략
+    private List<Order> loadOrdersByUserId(Long userId, boolean userKnown) {
+        if (!userKnown && userMapper.findById(userId) == null) {
+            throw new ResourceNotFoundException("User not found with id " + userId);
+        }
+
+        return orderMapper.findByUserId(userId).stream()
+                .map(dto -> mapToOrder(dto))
+                .collect(Collectors.toList());
+    }
+
+    // 주문이 바뀐 사용자의 주문 목록 캐시만 무효화
+    private Order invalidateHistory(Order order) {
+        if (orderHistoryCache != null) {
+            orderHistoryCache.invalidate(order.getUser().getId());
+        }
+        return order;
+    }
+
+    // 새 주문을 같은 트랜잭션에서 매출 롤업에 반영
+    private Order rollUpRevenue(Order order) {
+        if (revenueRollups != null) {
+            revenueRollups.recordPlaced(order);
+        }
+        return order;
+    }
+
+    // 새 주문을 주문일 인덱스에 추가 (커밋 후 반영)
+    private Order indexOrderDate(Order order) {
+        if (orderDateIndex != null) {
+            orderDateIndex.add(order.getId(), order.getOrderDate());
+        }
+        return order;
+    }
+
+    @Override
+    public List<OrderSummary> getOrderSummaries() {
+        return orderMapper.findAllSummaries();
+    }
+
+    @Override
+    public List<OrderSummary> getOrderSummariesByUserId(Long userId) {
         UserDTO userDTO = userMapper.findById(userId);
         if (userDTO == null) {
             throw new ResourceNotFoundException("User not found with id " + userId);
         }
 
-        return orderMapper.findByUserId(userId).stream()
+        return orderMapper.findSummariesByUserId(userId);
+    }
+
+    @Override
+    public OrderSummaryPage getOrderSummaries(Long afterId, int limit) {
+        return toSummaryPage(orderMapper.findSummaryPage(afterId, limit + 1), limit);
+    }
+
+    @Override
+    public OrderSummaryPage getOrderSummariesByUserId(Long userId, Long afterId, int limit) {
+        requireUser(userId);
+
+        return toSummaryPage(orderMapper.findSummaryPageByUserId(userId, afterId, limit + 1), limit);
+    }
+
+    // getOrders와 같이 한 건 더 읽은 결과로 다음 페이지 여부를 판단
+    private OrderSummaryPage toSummaryPage(List<OrderSummary> rows, int limit) {
+        boolean hasNext = rows.size() > limit;
+        return OrderSummaryPage.of(hasNext ? rows.subList(0, limit) : rows, hasNext);
+    }
+
+    @Override
+    public List<RevenueBucket> getRevenue(RevenueGroup group, LocalDateTime startDate, LocalDateTime endDate) {
+        if (revenueRollups != null) {
+            return revenueRollups.revenue(group, startDate, endDate, (from, to) -> revenueFromOrders(group, from, to));
+        }
+        return revenueFromOrders(group, startDate, endDate);
+    }
+
+    private List<RevenueBucket> revenueFromOrders(RevenueGroup group, LocalDateTime startDate, LocalDateTime endDate) {
+        return switch (group) {
+            case DAY -> orderMapper.revenueByDay(startDate, endDate);
+            case PRODUCT -> orderMapper.revenueByProduct(startDate, endDate);
+            case USER -> orderMapper.revenueByUser(startDate, endDate);
+            case STATUS -> orderMapper.revenueByStatus(startDate, endDate);
+        };
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportOrders(Consumer<Order> sink) {
+        // Cursor는 트랜잭션(SqlSession)이 열려 있는 동안에만 읽을 수 있음
+        long count = 0;
+        try (Cursor<OrderDTO> cursor = orderMapper.findAllCursor()) {
+            for (OrderDTO dto : cursor) {
+                sink.accept(mapToOrder(dto));
+                count++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count;
+    }
+
+    @Override
+    public OrderPage getOrders(Long afterId, int limit) {
+        // 한 건 더 읽어서 다음 페이지가 있는지만 판단 (count 쿼리 없음)
+        return toPage(orderMapper.findPage(afterId, limit + 1), limit);
+    }
+
+    @Override
+    public OrderPage getOrdersByUserId(Long userId, Long afterId, int limit) {
+        requireUser(userId);
+
+        return toPage(orderMapper.findPageByUserId(userId, afterId, limit + 1), limit);
+    }
+
+    // 페이지 조회의 사용자 확인: 주문 목록 캐시가 이미 아는 사용자면 쿼리를 생략
+    private void requireUser(Long userId) {
+        boolean exists = orderHistoryCache != null
+                ? orderHistoryCache.isKnownUser(userId, id -> userMapper.findById(id) != null)
+                : userMapper.findById(userId) != null;
+        if (!exists) {
+            throw new ResourceNotFoundException("User not found with id " + userId);
+        }
+    }
+
+    private OrderPage toPage(List<OrderDTO> rows, int limit) {
+        boolean hasNext = rows.size() > limit;
+        List<Order> orders = rows.stream()
+                .limit(limit)
                 .map(dto -> mapToOrder(dto))
                 .collect(Collectors.toList());
+        return OrderPage.of(orders, hasNext);
     }
 
     @Override
     public List<Order> getOrdersByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
+        if (orderDateIndex != null) {
+            List<Long> ids = orderDateIndex.findIds(startDate, endDate, this::getOrderSummaries);
+            return findByIds(ids);
+        }
         return orderMapper.findByOrderDateBetween(startDate, endDate).stream()
                 .map(dto -> mapToOrder(dto))
                 .collect(Collectors.toList());
     }
 
+    // IN 목록이 너무 길어지지 않도록 나눠서 PK 조회
+    private List<Order> findByIds(List<Long> ids) {
+        List<Order> orders = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size()));
+            orderMapper.findByIds(chunk).forEach(dto -> orders.add(mapToOrder(dto)));
+        }
+        return orders;
+    }
+
     @Override
     public Double calculateTotalAmount(Long id) {
-        OrderDTO dto = orderMapper.findById(id);
-        if (dto == null) {
+        if (orderTotalCache != null) {
+            return orderTotalCache.get(id, this::loadTotalAmount);
+        }
+        return loadTotalAmount(id);
+    }
+
+    // 조인 없이 total_amount 한 컬럼만 조회 (주문이 없으면 null)
+    private Double loadTotalAmount(Long id) {
+        Double totalAmount = orderMapper.findTotalAmountById(id);
+        if (totalAmount == null) {
             throw new ResourceNotFoundException("Order not found with id " + id);
         }
-        return dto.getTotalAmount();
+        return totalAmount;
+    }
+
+    // 수량 변경으로 총액이 바뀐 주문의 총액 캐시만 무효화
+    private void invalidateTotalAmount(Long orderId) {
+        if (orderTotalCache != null) {
+            orderTotalCache.invalidate(orderId);
+        }
+    }
+
+    // 단일 구문 주문: 성공하면 DB 왕복 한 번으로 끝나고, 실패한 경우에만 원인을 조회해 기존과 같은 예외를 던진다
+    private Order placeOrder(Long userId, Long productId, Integer quantity) {
+        OrderDTO placed = orderMapper.placeOrder(TimeOrderedIdGenerator.shared().nextId(), LocalDateTime.now(), userId, productId, quantity);
+        if (placed == null) {
+            if (userMapper.findById(userId) == null) {
+                throw new ResourceNotFoundException("User not found with id " + userId);
+            }
+            if (productMapper.findById(productId) == null) {
+                throw new ResourceNotFoundException("Product not found with id " + productId);
+            }
+            throw new IllegalArgumentException("Insufficient stock for product id " + productId);
+        }
+        stockChanged(productId, -quantity);
+        return mapToOrder(placed);
+    }
+
+    // 대량 주문 라인의 필수 값과 사용자/상품 존재 여부를 검증하고, 실패 사유를 반환
+    private String validateLine(OrderLine line, Set<Long> existingUserIds, Set<Long> existingProductIds) {
+        if (line.getUserId() == null || line.getProductId() == null || line.getQuantity() == null || line.getQuantity() <= 0) {
+            return "userId, productId and a positive quantity are required.";
+        }
+        if (!existingUserIds.contains(line.getUserId())) {
+            return "User not found with id " + line.getUserId();
+        }
+        if (!existingProductIds.contains(line.getProductId())) {
+            return "Product not found with id " + line.getProductId();
+        }
+        return null;
+    }
+
+    // 재고 원장을 사용하면 원장에서 예약하고, 아니면 조회한 재고에서 차감해 둔다 (실제 차감은 상품별 합계로 한 번에)
+    private String allocateStock(OrderLine line, int stock, Map<Long, Integer> remainingStock) {
+        Long productId = line.getProductId();
+        if (inventoryLedger != null) {
+            return inventoryLedger.reserve(productId, line.getQuantity()) ? null : "Insufficient stock for product id " + productId;
+        }
+        int remaining = remainingStock.getOrDefault(productId, stock);
+        if (remaining < line.getQuantity()) {
+            return "Insufficient stock for product id " + productId;
+        }
+        remainingStock.put(productId, remaining - line.getQuantity());
+        return null;
+    }
+
+    // 재고 분할 모드면 버킷에 나눠 담긴 재고까지 합산
+    private int availableStock(ProductDTO product) {
+        return product.getStock() + (stockBuckets != null ? stockBuckets.bucketStock(product.getId()) : 0);
+    }
+
+    // 재고 원장을 사용하면 메모리에서 예약하고, 재고 분할 모드면 버킷에서, 아니면 조건부 UPDATE로 차감 (영향받은 행이 없으면 재고 부족)
+    private boolean decreaseStock(Long productId, int quantity) {
+        if (inventoryLedger != null) {
+            return inventoryLedger.reserve(productId, quantity);
+        }
+        boolean decreased = stockBuckets != null
+                ? stockBuckets.take(productId, quantity)
+                : productMapper.decreaseStock(productId, quantity) > 0;
+        if (decreased) {
+            stockChanged(productId, -quantity);
+        }
+        return decreased;
+    }
+
+    private void increaseStock(Long productId, int quantity) {
+        if (inventoryLedger != null) {
+            inventoryLedger.release(productId, quantity);
+            return;
+        }
+        if (stockBuckets != null) {
+            stockBuckets.put(productId, quantity);
+        } else {
+            productMapper.increaseStock(productId, quantity);
+        }
+        stockChanged(productId, quantity);
+    }
+
+    private Product findProduct(Long productId) {
+        if (productCache != null) {
+            return productCache.get(productId);
+        }
+        ProductDTO dto = productMapper.findById(productId);
+        if (dto == null) {
+            throw new ResourceNotFoundException("Product not found with id " + productId);
+        }
+        Product product = new Product();
+        product.setId(dto.getId());
+        product.setName(dto.getName());
+        product.setDescription(dto.getDescription());
+        product.setPrice(dto.getPrice());
+        product.setStock(dto.getStock());
+        product.setVersion(dto.getVersion());
+        return product;
+    }
+
+    // 상품 캐시의 재고를 product 행 변경에 맞춘다 (재고 분할 모드는 행과 버킷 중 어디서 바뀌었는지 모르므로 무효화)
+    private void stockChanged(Long productId, int delta) {
+        if (productCache == null) {
+            return;
+        }
+        if (stockBuckets != null) {
+            productCache.invalidate(productId);
+        } else {
+            productCache.adjustStock(productId, delta);
+        }
     }
 
     // DTO를 Order 엔티티로 변환하는 메서드
@@ -2,14 +2,26 @@ package io.github.junhkang.springboottesting.service.impl;
 
 
 import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.ProductImportReport;
+import io.github.junhkang.springboottesting.domain.ProductImportRow;
+import io.github.junhkang.springboottesting.domain.ProductNameMatch;
 import io.github.junhkang.springboottesting.domain.ProductDTO;
 import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
 import io.github.junhkang.springboottesting.repository.mybatis.ProductMapper;
 import io.github.junhkang.springboottesting.service.ProductService;
+import io.github.junhkang.springboottesting.service.catalog.ProductCache;
+import io.github.junhkang.springboottesting.service.catalog.ProductImporter;
+import io.github.junhkang.springboottesting.service.index.ProductNameIndex;
+import io.github.junhkang.springboottesting.service.inventory.StockBuckets;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -17,28 +29,35 @@ import java.util.stream.Collectors;
 public class MyBatisProductServiceImpl implements ProductService {
 
     private final ProductMapper productMapper;
+    private final StockBuckets stockBuckets;
+    private final ProductCache productCache;
+    private final ProductImporter productImporter;
+    private final ProductNameIndex productNameIndex;
 
-    public MyBatisProductServiceImpl(ProductMapper productMapper) {
+    public MyBatisProductServiceImpl(ProductMapper productMapper, ObjectProvider<StockBuckets> stockBuckets,
+                                     ObjectProvider<ProductCache> productCache, ProductImporter productImporter,
+                                     ObjectProvider<ProductNameIndex> productNameIndex) {
         this.productMapper = productMapper;
+        this.stockBuckets = stockBuckets.getIfAvailable();
+        this.productCache = productCache.getIfAvailable();
+        this.productImporter = productImporter;
+        this.productNameIndex = productNameIndex.getIfAvailable();
     }
 
     @Override
     public List<Product> getAllProducts() {
         return productMapper.findAll().stream()
-                .map(dto -> {
-                    Product product = new Product();
-                    product.setId(dto.getId());
-                    product.setName(dto.getName());
-                    product.setDescription(dto.getDescription());
-                    product.setPrice(dto.getPrice());
-                    product.setStock(dto.getStock());
-                    return product;
-                })
+                .map(this::mapToProduct)
                 .collect(Collectors.toList());
     }
 
     @Override
     public Product getProductById(Long id) {
+        if (productCache != null) {
+            Product product = productCache.get(id);
+            product.setStock(product.getStock() + bucketStock(id));
+            return product;
+        }
         ProductDTO dto = productMapper.findById(id);
         if (dto == null) {
             throw new ResourceNotFoundException("Product not found with id " + id);
@@ -48,7 +67,8 @@ public class MyBatisProductServiceImpl implements ProductService {
         product.setName(dto.getName());
         product.setDescription(dto.getDescription());
         product.setPrice(dto.getPrice());
-        product.setStock(dto.getStock());
+        product.setStock(dto.getStock() + bucketStock(dto.getId()));
+        product.setVersion(dto.getVersion());
         return product;
     }
 
@@ -63,7 +83,82 @@ public class MyBatisProductServiceImpl implements ProductService {
         dto.setStock(product.getStock());
         productMapper.insert(dto);
         product.setId(dto.getId());
+        product.setVersion(dto.getVersion());
+        if (productCache != null) {
+            productCache.put(product);
+        }
+        if (productNameIndex != null) {
+            productNameIndex.add(product.getId(), product.getName());
+        }
         return product;
     }
 
+    @Override
+    public List<Product> searchProducts(String query, ProductNameMatch match, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required.");
+        }
+        if (productNameIndex == null) {
+            return searchWithoutIndex(query, match, limit).stream()
+                    .map(this::mapToProduct)
+                    .collect(Collectors.toList());
+        }
+        List<Long> ids = productNameIndex.search(query, match, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // IN 조회는 순서를 보장하지 않으므로 인덱스가 돌려준 순서대로 다시 배치
+        Map<Long, ProductDTO> products = productMapper.findByIds(ids).stream()
+                .collect(Collectors.toMap(ProductDTO::getId, Function.identity()));
+        return ids.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .map(this::mapToProduct)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public ProductImportReport importProducts(Iterator<ProductImportRow> rows) {
+        return productImporter.importProducts(rows);
+    }
+
+    @Override
+    public Product splitStock(Long id) {
+        if (stockBuckets == null) {
+            throw new IllegalArgumentException("Stock buckets are not enabled.");
+        }
+        stockBuckets.split(id);
+        if (productCache != null) {
+            productCache.invalidate(id);
+        }
+        return getProductById(id);
+    }
+
+    private List<ProductDTO> searchWithoutIndex(String query, ProductNameMatch match, int limit) {
+        return switch (match) {
+            case EXACT -> productMapper.findByName(ProductNameIndex.normalize(query)).stream().limit(limit).collect(Collectors.toList());
+            case PREFIX -> productMapper.findByNamePrefix(escapeLike(ProductNameIndex.normalize(query)) + "%", limit);
+            case TOKEN -> throw new IllegalArgumentException("Token search requires the product name index.");
+        };
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private Product mapToProduct(ProductDTO dto) {
+        Product product = new Product();
+        product.setId(dto.getId());
+        product.setName(dto.getName());
+        product.setDescription(dto.getDescription());
+        product.setPrice(dto.getPrice());
+        product.setStock(dto.getStock() + bucketStock(dto.getId()));
+        product.setVersion(dto.getVersion());
+        return product;
+    }
+
+    // 재고 분할 모드면 버킷에 나눠 담긴 재고를 더한다
+    private int bucketStock(Long productId) {
+        return stockBuckets != null ? stockBuckets.bucketStock(productId) : 0;
+    }
 }
\ No newline at end of file
@@ -5,6 +5,9 @@ import io.github.junhkang.springboottesting.domain.UserDTO;
 import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
 import io.github.junhkang.springboottesting.repository.mybatis.UserMapper;
 import io.github.junhkang.springboottesting.service.UserService;
+import io.github.junhkang.springboottesting.service.index.UsernameIndex;
+import io.github.junhkang.springboottesting.service.validation.EmailValidator;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
@@ -15,9 +18,11 @@ import java.util.stream.Collectors;
 @Profile("mybatis")
 public class MyBatisUserServiceImpl implements UserService {
     private final UserMapper userMapper;
+    private final UsernameIndex usernameIndex;
 
-    public MyBatisUserServiceImpl(UserMapper userMapper) {
+    public MyBatisUserServiceImpl(UserMapper userMapper, ObjectProvider<UsernameIndex> usernameIndex) {
         this.userMapper = userMapper;
+        this.usernameIndex = usernameIndex.getIfAvailable();
     }
 
     @Override
@@ -54,6 +59,9 @@ public class MyBatisUserServiceImpl implements UserService {
         if (user.getEmail() == null || user.getEmail().trim().isEmpty()) {
             throw new IllegalArgumentException("User email is required.");
         }
+        if (!EmailValidator.isValid(user.getEmail())) {
+            throw new IllegalArgumentException("Invalid email format.");
+        }
 
         UserDTO dto = new UserDTO();
         dto.setUsername(user.getUsername());
@@ -61,6 +69,34 @@ public class MyBatisUserServiceImpl implements UserService {
 
         userMapper.insert(dto);
         user.setId(dto.getId());
+        if (usernameIndex != null) {
+            usernameIndex.add(user.getId(), user.getUsername());
+        }
+        return user;
+    }
+
+    @Override
+    public User getUserByUsername(String username) {
+        UserDTO dto;
+        if (usernameIndex == null) {
+            dto = userMapper.findByUsername(username);
+        } else {
+            Long id = usernameIndex.findId(username);
+            dto = id != null ? userMapper.findById(id) : null;
+            // 서비스 밖에서 삭제(또는 다시 생성)된 사용자면 항목을 지우고 DB에서 다시 찾는다
+            if (id != null && dto == null) {
+                usernameIndex.remove(username);
+                id = usernameIndex.findId(username);
+                dto = id != null ? userMapper.findById(id) : null;
+            }
+        }
+        if (dto == null) {
+            throw new ResourceNotFoundException("User not found with username " + username);
+        }
+        User user = new User();
+        user.setId(dto.getId());
+        user.setUsername(dto.getUsername());
+        user.setEmail(dto.getEmail());
         return user;
     }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package io.github.junhkang.springboottesting.service.index;
+
+import io.github.junhkang.springboottesting.repository.jpa.ProductRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+@Profile("jpa")
+@ConditionalOnProperty(name = "products.search.index.enabled", havingValue = "true", matchIfMissing = true)
+public class JpaProductNameIndex extends ProductNameIndex {
+
+    private final ProductRepository productRepository;
+
+    public JpaProductNameIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @Override
+    protected Map<Long, String> loadAll() {
+        return productRepository.findAllNames().stream()
+                .filter(view -> view.getName() != null)
+                .collect(Collectors.toMap(ProductRepository.ProductNameView::getId, ProductRepository.ProductNameView::getName));
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.junhkang.springboottesting.service.index;
+
+import io.github.junhkang.springboottesting.domain.User;
+import io.github.junhkang.springboottesting.repository.jpa.UserRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+@Profile("jpa")
+@ConditionalOnProperty(name = "users.username-index.enabled", havingValue = "true", matchIfMissing = true)
+public class JpaUsernameIndex extends UsernameIndex {
+
+    private final UserRepository userRepository;
+
+    public JpaUsernameIndex(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    protected Map<String, Long> loadAll() {
+        return userRepository.findAll().stream()
+                .filter(user -> user.getUsername() != null)
+                .collect(Collectors.toMap(User::getUsername, User::getId));
+    }
+
+    @Override
+    protected Long loadId(String username) {
+        return userRepository.findByUsername(username).map(User::getId).orElse(null);
+    }
+}
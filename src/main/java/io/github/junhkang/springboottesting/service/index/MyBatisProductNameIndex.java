@@ -0,0 +1,29 @@
+package io.github.junhkang.springboottesting.service.index;
+
+import io.github.junhkang.springboottesting.domain.ProductDTO;
+import io.github.junhkang.springboottesting.repository.mybatis.ProductMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+@Profile("mybatis")
+@ConditionalOnProperty(name = "products.search.index.enabled", havingValue = "true", matchIfMissing = true)
+public class MyBatisProductNameIndex extends ProductNameIndex {
+
+    private final ProductMapper productMapper;
+
+    public MyBatisProductNameIndex(ProductMapper productMapper) {
+        this.productMapper = productMapper;
+    }
+
+    @Override
+    protected Map<Long, String> loadAll() {
+        return productMapper.findAllNames().stream()
+                .filter(dto -> dto.getName() != null)
+                .collect(Collectors.toMap(ProductDTO::getId, ProductDTO::getName));
+    }
+}
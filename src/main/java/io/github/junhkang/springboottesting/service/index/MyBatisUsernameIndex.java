@@ -0,0 +1,35 @@
+package io.github.junhkang.springboottesting.service.index;
+
+import io.github.junhkang.springboottesting.domain.UserDTO;
+import io.github.junhkang.springboottesting.repository.mybatis.UserMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+@Profile("mybatis")
+@ConditionalOnProperty(name = "users.username-index.enabled", havingValue = "true", matchIfMissing = true)
+public class MyBatisUsernameIndex extends UsernameIndex {
+
+    private final UserMapper userMapper;
+
+    public MyBatisUsernameIndex(UserMapper userMapper) {
+        this.userMapper = userMapper;
+    }
+
+    @Override
+    protected Map<String, Long> loadAll() {
+        return userMapper.findAll().stream()
+                .filter(dto -> dto.getUsername() != null)
+                .collect(Collectors.toMap(UserDTO::getUsername, UserDTO::getId));
+    }
+
+    @Override
+    protected Long loadId(String username) {
+        UserDTO dto = userMapper.findByUsername(username);
+        return dto != null ? dto.getId() : null;
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.junhkang.springboottesting.service.index;
+
+import io.github.junhkang.springboottesting.domain.OrderSummary;
+import io.github.junhkang.springboottesting.service.support.TransactionCallbacks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+
+/**
+ * 주문일 → 주문 ID 인메모리 인덱스
+ *
+ * 주문 ID를 주문일 기준 시간(또는 일) 단위 버킷에 나눠 담습니다. 기간 조회는 양 끝 버킷만 실제 주문일로 걸러 내고,
+ * 그 사이 버킷은 통째로 가져온 뒤 PK로만 주문을 읽습니다.
+ *
+ * 인덱스는 첫 조회 때 전체 주문의 (ID, 주문일)로 한 번 채우고, 이후에는 서비스가 커밋한 새 주문만 추가합니다.
+ * 주문일은 바뀌지 않으므로 취소/수량 변경은 반영할 필요가 없습니다. 서비스를 거치지 않고 직접 INSERT한 주문은 보이지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "orders.date-index.enabled", havingValue = "true")
+public class OrderDateIndex {
+
+    private final ConcurrentNavigableMap<Long, Map<Long, LocalDateTime>> buckets = new ConcurrentSkipListMap<>();
+    private final long bucketSeconds;
+    private volatile boolean loaded;
+
+    public OrderDateIndex(@Value("${orders.date-index.bucket:HOURS}") ChronoUnit bucket) {
+        if (bucket != ChronoUnit.HOURS && bucket != ChronoUnit.DAYS) {
+            throw new IllegalArgumentException("orders.date-index.bucket must be HOURS or DAYS.");
+        }
+        this.bucketSeconds = bucket.getDuration().getSeconds();
+    }
+
+    /**
+     * startDate 이상 endDate 이하인 주문 ID를 오름차순으로 반환합니다. 처음 호출될 때 loader로 인덱스를 채웁니다.
+     */
+    public List<Long> findIds(LocalDateTime startDate, LocalDateTime endDate, Supplier<List<OrderSummary>> loader) {
+        ensureLoaded(loader);
+        if (startDate.isAfter(endDate)) {
+            return List.of();
+        }
+
+        long first = bucketOf(startDate);
+        long last = bucketOf(endDate);
+        List<Long> ids = new ArrayList<>();
+        buckets.subMap(first, true, last, true).forEach((bucket, orders) -> {
+            boolean interior = bucket > first && bucket < last;
+            orders.forEach((id, orderDate) -> {
+                if (interior || (!orderDate.isBefore(startDate) && !orderDate.isAfter(endDate))) {
+                    ids.add(id);
+                }
+            });
+        });
+        ids.sort(null);
+        return ids;
+    }
+
+    /**
+     * 새 주문을 추가합니다. 트랜잭션 안이면 커밋된 뒤에 추가해 롤백된 주문이 남지 않게 합니다.
+     */
+    public void add(Long orderId, LocalDateTime orderDate) {
+        TransactionCallbacks.afterCommit(() -> put(orderId, orderDate));
+    }
+
+    public int size() {
+        return buckets.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private void ensureLoaded(Supplier<List<OrderSummary>> loader) {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (!loaded) {
+                // 적재 중에 커밋된 주문은 적재 결과나 add() 둘 중 하나로 들어오며, 같은 ID를 두 번 넣어도 무방함
+                loader.get().forEach(summary -> put(summary.getId(), summary.getOrderDate()));
+                loaded = true;
+            }
+        }
+    }
+
+    private void put(Long orderId, LocalDateTime orderDate) {
+        if (orderDate != null) {
+            buckets.computeIfAbsent(bucketOf(orderDate), key -> new ConcurrentHashMap<>()).put(orderId, orderDate);
+        }
+    }
+
+    private long bucketOf(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), bucketSeconds);
+    }
+}
@@ -0,0 +1,151 @@
+package io.github.junhkang.springboottesting.service.index;
+
+import io.github.junhkang.springboottesting.domain.ProductNameMatch;
+import io.github.junhkang.springboottesting.service.support.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 상품 이름 → 상품 ID 인메모리 인덱스
+ *
+ * 소문자로 정규화한 이름 전체를 정렬된 맵에 담아 일치/접두어 검색을 O(log n + 결과 수)로 처리하고,
+ * 이름을 글자/숫자 단위 단어로 나눈 역색인(단어 → ID 오름차순 집합)으로 단어 검색을 처리합니다.
+ * 단어 검색은 가장 짧은 목록을 ID 순으로 훑으면서 나머지 목록에 모두 있는 ID만 limit건까지 모읍니다.
+ *
+ * 애플리케이션이 준비되면 전체 상품의 (ID, 이름)만 읽어 한 번 채우고, 이후에는 서비스가 커밋한 새 상품만 추가합니다.
+ * 상품 이름은 바뀌지 않고 삭제 API도 없으므로 추가만 반영합니다. 서비스를 거치지 않고 직접 INSERT한 상품은 보이지 않습니다.
+ * 인덱스를 끈 경우의 DB 조회도 {@link #normalize}한 검색어로 같은 기준(앞뒤 공백, 대소문자 무시)으로 찾습니다.
+ */
+@Slf4j
+public abstract class ProductNameIndex {
+
+    private final ConcurrentNavigableMap<String, NavigableSet<Long>> names = new ConcurrentSkipListMap<>();
+    private final Map<String, NavigableSet<Long>> tokens = new ConcurrentHashMap<>();
+
+    /**
+     * 검색어와 일치하는 상품 ID를 최대 limit건 반환합니다. PREFIX는 이름/ID 순, 나머지는 ID 순입니다.
+     */
+    public List<Long> search(String query, ProductNameMatch match, int limit) {
+        String normalized = normalize(query);
+        return switch (match) {
+            case EXACT -> exact(normalized, limit);
+            case PREFIX -> prefix(normalized, limit);
+            case TOKEN -> token(normalized, limit);
+        };
+    }
+
+    /**
+     * 새 상품을 추가합니다. 트랜잭션 안이면 커밋된 뒤에 추가해 롤백된 상품이 남지 않게 합니다.
+     */
+    public void add(Long productId, String name) {
+        TransactionCallbacks.afterCommit(() -> put(productId, name));
+    }
+
+    public int size() {
+        return names.values().stream().mapToInt(NavigableSet::size).sum();
+    }
+
+    private List<Long> exact(String name, int limit) {
+        NavigableSet<Long> ids = names.get(name);
+        return ids == null ? List.of() : ids.stream().limit(limit).toList();
+    }
+
+    private List<Long> prefix(String prefix, int limit) {
+        List<Long> result = new ArrayList<>();
+        for (Map.Entry<String, NavigableSet<Long>> entry : names.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            for (Long id : entry.getValue()) {
+                if (result.size() == limit) {
+                    return result;
+                }
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private List<Long> token(String query, int limit) {
+        List<NavigableSet<Long>> postings = new ArrayList<>();
+        for (String token : tokenize(query)) {
+            NavigableSet<Long> ids = tokens.get(token);
+            if (ids == null) {
+                return List.of();
+            }
+            postings.add(ids);
+        }
+        if (postings.isEmpty()) {
+            return List.of();
+        }
+        postings.sort(Comparator.comparingInt(NavigableSet::size));
+        List<Long> result = new ArrayList<>();
+        for (Long id : postings.get(0)) {
+            if (result.size() == limit) {
+                break;
+            }
+            if (postings.stream().allMatch(ids -> ids.contains(id))) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        // 적재 중에 커밋된 상품은 적재 결과나 add() 둘 중 하나로 들어오며, 같은 ID를 두 번 넣어도 무방함
+        loadAll().forEach(this::put);
+        log.info("Product name index warmed with {} products", size());
+    }
+
+    private void put(Long productId, String name) {
+        if (productId == null || name == null) {
+            return;
+        }
+        String normalized = normalize(name);
+        names.computeIfAbsent(normalized, key -> new ConcurrentSkipListSet<>()).add(productId);
+        for (String token : tokenize(normalized)) {
+            tokens.computeIfAbsent(token, key -> new ConcurrentSkipListSet<>()).add(productId);
+        }
+    }
+
+    public static String normalize(String text) {
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // 글자/숫자가 아닌 문자를 구분자로 삼아 중복 없이 나눈다
+    static List<String> tokenize(String normalized) {
+        List<String> result = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String token = normalized.substring(start, i);
+                if (!result.contains(token)) {
+                    result.add(token);
+                }
+                start = -1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 전체 상품의 ID → 이름을 읽습니다.
+     */
+    protected abstract Map<Long, String> loadAll();
+}
@@ -0,0 +1,70 @@
+package io.github.junhkang.springboottesting.service.index;
+
+import io.github.junhkang.springboottesting.service.support.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * username → 사용자 ID 인메모리 인덱스
+ *
+ * 애플리케이션이 준비되면 전체 사용자의 (username, ID)로 한 번 채우고, 이후에는 서비스가 커밋한 새 사용자만 추가합니다.
+ * 인덱스에 없는 username은 유니크 인덱스(uk_users_username)를 타는 조회로 확인하고, 찾으면 (트랜잭션 안이면 커밋 후) 인덱스에 추가합니다.
+ * username은 바뀌지 않고 삭제 API도 없으므로 추가만 반영합니다. 서비스를 거치지 않고 삭제된 사용자는 PK 조회가 실패하면
+ * 서비스가 {@link #remove}로 지우고 다시 찾습니다.
+ */
+@Slf4j
+public abstract class UsernameIndex {
+
+    private final Map<String, Long> ids = new ConcurrentHashMap<>();
+
+    /**
+     * username의 사용자 ID를 반환하고, 없으면 DB에서 찾아 봅니다. 사용자가 없으면 null을 반환합니다.
+     */
+    public Long findId(String username) {
+        Long id = ids.get(username);
+        if (id != null) {
+            return id;
+        }
+        Long loaded = loadId(username);
+        if (loaded != null) {
+            TransactionCallbacks.afterCommit(() -> ids.putIfAbsent(username, loaded));
+        }
+        return loaded;
+    }
+
+    /**
+     * 새 사용자를 추가합니다. 트랜잭션 안이면 커밋된 뒤에 추가해 롤백된 사용자가 남지 않게 합니다.
+     */
+    public void add(Long userId, String username) {
+        TransactionCallbacks.afterCommit(() -> ids.put(username, userId));
+    }
+
+    public void remove(String username) {
+        ids.remove(username);
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        // 적재 중에 커밋된 사용자는 add()가 먼저 넣었을 수 있으므로 덮어쓰지 않는다
+        loadAll().forEach(ids::putIfAbsent);
+        log.info("Username index warmed with {} users", ids.size());
+    }
+
+    /**
+     * 전체 사용자의 username → ID를 읽습니다.
+     */
+    protected abstract Map<String, Long> loadAll();
+
+    /**
+     * username으로 사용자 ID를 읽습니다. 사용자가 없으면 null을 반환합니다.
+     */
+    protected abstract Long loadId(String username);
+}
@@ -0,0 +1,161 @@
+package io.github.junhkang.springboottesting.service.intake;
+
+import io.github.junhkang.springboottesting.domain.OrderLine;
+import io.github.junhkang.springboottesting.domain.OrderLineResult;
+import io.github.junhkang.springboottesting.domain.OrderTicket;
+import io.github.junhkang.springboottesting.exception.OrderIntakeRejectedException;
+import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import io.github.junhkang.springboottesting.service.OrderService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 주문 접수 큐
+ *
+ * 요청 스레드는 주문을 제한된 크기의 큐에 넣고 티켓 ID만 받아 바로 반환합니다. 하나의 writer 스레드가
+ * 큐를 최대 N건씩 꺼내 {@link OrderService#createOrders(List)}로 한 트랜잭션에 커밋(group commit)하고,
+ * 각 티켓에 결과를 기록합니다.
+ *
+ * 배치 커밋이 예외로 실패하면 원인은 서버 로그에만 남기고, 티켓에는 일반 오류 메시지만 기록합니다.
+ *
+ * 큐 길이, 배치 크기, 커밋 지연 시간은 메트릭(orders.intake.*)으로 노출합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "orders.intake.async", havingValue = "true")
+public class OrderIntake {
+
+    static final String PROCESSING_FAILED = "Order could not be processed.";
+
+    private final OrderService orderService;
+    private final BlockingQueue<Submission> queue;
+    private final int maxBatchSize;
+    private final int ticketRetention;
+    private final Map<String, OrderTicket> tickets = new ConcurrentHashMap<>();
+    private final Queue<String> finishedTicketIds = new ConcurrentLinkedQueue<>();
+    private final DistributionSummary batchSize;
+    private final Timer commitLatency;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public OrderIntake(OrderService orderService, MeterRegistry meterRegistry,
+                       @Value("${orders.intake.queue-capacity:10000}") int queueCapacity,
+                       @Value("${orders.intake.max-batch-size:100}") int maxBatchSize,
+                       @Value("${orders.intake.ticket-retention:100000}") int ticketRetention) {
+        this.orderService = orderService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.ticketRetention = ticketRetention;
+        meterRegistry.gauge("orders.intake.queue.depth", queue, BlockingQueue::size);
+        this.batchSize = DistributionSummary.builder("orders.intake.batch.size").register(meterRegistry);
+        this.commitLatency = Timer.builder("orders.intake.commit.latency").register(meterRegistry);
+        this.writer = new Thread(this::drainLoop, "order-intake-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 주문을 큐에 넣고 처리 상태를 조회할 티켓을 반환합니다.
+     *
+     * @throws OrderIntakeRejectedException 큐가 가득 찼거나 종료 중인 경우
+     */
+    public OrderTicket submit(OrderLine line) {
+        if (!running) {
+            throw new OrderIntakeRejectedException("Order intake is shutting down.");
+        }
+        OrderTicket ticket = OrderTicket.pending(UUID.randomUUID().toString());
+        tickets.put(ticket.getId(), ticket);
+        if (!queue.offer(new Submission(ticket.getId(), line))) {
+            tickets.remove(ticket.getId());
+            throw new OrderIntakeRejectedException("Order intake queue is full.");
+        }
+        return ticket;
+    }
+
+    public OrderTicket getTicket(String id) {
+        OrderTicket ticket = tickets.get(id);
+        if (ticket == null) {
+            throw new ResourceNotFoundException("Ticket not found with id " + id);
+        }
+        return ticket;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    private void drainLoop() {
+        List<Submission> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Submission first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<Submission> batch) {
+        List<OrderLine> lines = batch.stream().map(Submission::line).toList();
+        batchSize.record(batch.size());
+        List<OrderLineResult> results;
+        try {
+            results = commitLatency.recordCallable(() -> orderService.createOrders(lines));
+        } catch (Exception e) {
+            log.warn("Failed to commit {} queued orders", batch.size(), e);
+            results = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                results.add(OrderLineResult.failed(i, PROCESSING_FAILED));
+            }
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            OrderLineResult result = results.get(i);
+            String ticketId = batch.get(i).ticketId();
+            tickets.computeIfPresent(ticketId, (id, ticket) -> ticket.complete(result));
+            finishedTicketIds.add(ticketId);
+        }
+        evictFinishedTickets();
+    }
+
+    // 처리가 끝난 티켓만 오래된 순서대로 제거 (대기 중인 티켓은 보존)
+    private void evictFinishedTickets() {
+        while (tickets.size() > ticketRetention) {
+            String oldest = finishedTicketIds.poll();
+            if (oldest == null) {
+                return;
+            }
+            tickets.remove(oldest);
+        }
+    }
+
+    private record Submission(String ticketId, OrderLine line) {
+    }
+}
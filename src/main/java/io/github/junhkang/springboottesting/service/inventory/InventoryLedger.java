@@ -0,0 +1,159 @@
+package io.github.junhkang.springboottesting.service.inventory;
+
+import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import io.github.junhkang.springboottesting.service.catalog.ProductCache;
+import io.github.junhkang.springboottesting.service.support.TransactionCallbacks;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품 재고를 메모리에서 예약하는 재고 원장
+ *
+ * 상품별 가용 재고를 처음 사용할 때 DB에서 한 번 읽어 카운터로 보관하고, 이후 예약/복구는
+ * CAS로 카운터만 변경합니다. 변경분(net delta)은 주기적으로, 그리고 종료 시점에 DB에 반영됩니다.
+ * 재고 부족으로 거절되는 주문은 DB에 접근하지 않습니다.
+ *
+ * 원장을 거치지 않고 DB의 재고를 직접 변경하면 원장의 가용 재고와 어긋날 수 있습니다.
+ * 상품 캐시가 있으면 변경분을 반영한 상품 항목을 제거해, 다음 조회가 반영된 재고를 읽게 합니다.
+ */
+@Slf4j
+public abstract class InventoryLedger {
+
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+    private final Object[] stripes;
+    private final ScheduledExecutorService flusher;
+    private final ProductCache productCache;
+
+    protected InventoryLedger(int stripeCount, long flushIntervalMillis, ProductCache productCache) {
+        this.productCache = productCache;
+        this.stripes = new Object[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Object();
+        }
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "inventory-ledger-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 재고를 예약합니다. 현재 트랜잭션이 롤백되면 예약은 자동으로 취소됩니다.
+     *
+     * @return 가용 재고가 충분해 예약에 성공하면 true, 부족하면 false
+     */
+    public boolean reserve(Long productId, int quantity) {
+        Counter counter = counter(productId);
+        while (true) {
+            int available = counter.available.get();
+            if (available < quantity) {
+                return false;
+            }
+            if (counter.available.compareAndSet(available, available - quantity)) {
+                counter.pendingDelta.addAndGet(-quantity);
+                TransactionCallbacks.afterRollback(() -> adjust(counter, quantity));
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 예약했던 재고를 되돌립니다. 현재 트랜잭션이 롤백되면 복구도 취소됩니다.
+     */
+    public void release(Long productId, int quantity) {
+        Counter counter = counter(productId);
+        adjust(counter, quantity);
+        TransactionCallbacks.afterRollback(() -> adjust(counter, -quantity));
+    }
+
+    public int getAvailable(Long productId) {
+        return counter(productId).available.get();
+    }
+
+    /**
+     * 누적된 변경분을 DB에 반영합니다. 반영에 실패한 변경분은 다음 flush로 넘어갑니다.
+     */
+    public void flush() {
+        counters.forEach((productId, counter) -> {
+            int delta = counter.pendingDelta.getAndSet(0);
+            if (delta == 0) {
+                return;
+            }
+            try {
+                applyDelta(productId, delta);
+                if (productCache != null) {
+                    productCache.invalidate(productId);
+                }
+            } catch (RuntimeException e) {
+                counter.pendingDelta.addAndGet(delta);
+                throw e;
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        flush();
+    }
+
+    /**
+     * 상품의 현재 재고를 DB에서 읽습니다. 상품이 없으면 null을 반환합니다.
+     */
+    protected abstract Integer loadStock(Long productId);
+
+    /**
+     * 재고 변경분을 DB에 더합니다. (음수면 차감)
+     */
+    protected abstract void applyDelta(Long productId, int delta);
+
+    private Counter counter(Long productId) {
+        Counter counter = counters.get(productId);
+        if (counter != null) {
+            return counter;
+        }
+        // 같은 상품을 여러 스레드가 동시에 초기화하지 않도록 스트라이프 단위로 잠금
+        synchronized (stripes[Math.floorMod(productId.hashCode(), stripes.length)]) {
+            counter = counters.get(productId);
+            if (counter == null) {
+                Integer stock = loadStock(productId);
+                if (stock == null) {
+                    throw new ResourceNotFoundException("Product not found with id " + productId);
+                }
+                counter = new Counter(stock);
+                counters.put(productId, counter);
+            }
+            return counter;
+        }
+    }
+
+    private void adjust(Counter counter, int quantity) {
+        counter.available.addAndGet(quantity);
+        counter.pendingDelta.addAndGet(quantity);
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush inventory ledger, will retry on next cycle", e);
+        }
+    }
+
+    private static final class Counter {
+        private final AtomicInteger available;
+        private final AtomicInteger pendingDelta = new AtomicInteger();
+
+        private Counter(int stock) {
+            this.available = new AtomicInteger(stock);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.junhkang.springboottesting.service.inventory;
+
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.repository.jpa.ProductRepository;
+import io.github.junhkang.springboottesting.service.catalog.ProductCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("jpa")
+@ConditionalOnProperty(name = "inventory.ledger.enabled", havingValue = "true")
+public class JpaInventoryLedger extends InventoryLedger {
+
+    private final ProductRepository productRepository;
+
+    public JpaInventoryLedger(ProductRepository productRepository,
+                              @Value("${inventory.ledger.stripes:64}") int stripes,
+                              @Value("${inventory.ledger.flush-interval-ms:1000}") long flushIntervalMillis,
+                              ObjectProvider<ProductCache> productCache) {
+        super(stripes, flushIntervalMillis, productCache.getIfAvailable());
+        this.productRepository = productRepository;
+    }
+
+    @Override
+    protected Integer loadStock(Long productId) {
+        return productRepository.findById(productId)
+                .map(Product::getStock)
+                .orElse(null);
+    }
+
+    @Override
+    protected void applyDelta(Long productId, int delta) {
+        productRepository.adjustStock(productId, delta);
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.junhkang.springboottesting.service.inventory;
+
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.StockBucket;
+import io.github.junhkang.springboottesting.repository.jpa.ProductRepository;
+import io.github.junhkang.springboottesting.repository.jpa.StockBucketRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+@Profile("jpa")
+@ConditionalOnProperty(name = "inventory.buckets.enabled", havingValue = "true")
+public class JpaStockBuckets extends StockBuckets {
+
+    private final ProductRepository productRepository;
+    private final StockBucketRepository stockBucketRepository;
+
+    public JpaStockBuckets(ProductRepository productRepository, StockBucketRepository stockBucketRepository,
+                           @Value("${inventory.buckets.count:8}") int bucketCount,
+                           @Value("${inventory.ledger.enabled:false}") boolean ledgerEnabled) {
+        super(bucketCount, ledgerEnabled);
+        this.productRepository = productRepository;
+        this.stockBucketRepository = stockBucketRepository;
+    }
+
+    @Override
+    protected Integer loadRowStock(Long productId) {
+        return productRepository.findById(productId).map(Product::getStock).orElse(null);
+    }
+
+    @Override
+    protected int decreaseRow(Long productId, int quantity) {
+        return productRepository.decreaseStock(productId, quantity);
+    }
+
+    @Override
+    protected int increaseRow(Long productId, int quantity) {
+        return productRepository.increaseStock(productId, quantity);
+    }
+
+    @Override
+    protected Map<Integer, Integer> loadBuckets(Long productId) {
+        return stockBucketRepository.findByProductId(productId).stream()
+                .sorted(Comparator.comparing(StockBucket::getBucketIndex))
+                .collect(Collectors.toMap(StockBucket::getBucketIndex, StockBucket::getStock, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    @Override
+    protected void insertBucket(Long productId, int bucketIndex, int stock) {
+        StockBucket bucket = new StockBucket();
+        bucket.setProductId(productId);
+        bucket.setBucketIndex(bucketIndex);
+        bucket.setStock(stock);
+        stockBucketRepository.save(bucket);
+    }
+
+    @Override
+    protected int decreaseBucket(Long productId, int bucketIndex, int quantity) {
+        return stockBucketRepository.decreaseStock(productId, bucketIndex, quantity);
+    }
+
+    @Override
+    protected int increaseBucket(Long productId, int bucketIndex, int quantity) {
+        return stockBucketRepository.increaseStock(productId, bucketIndex, quantity);
+    }
+}
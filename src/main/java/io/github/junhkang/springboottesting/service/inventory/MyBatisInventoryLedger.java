@@ -0,0 +1,59 @@
+package io.github.junhkang.springboottesting.service.inventory;
+
+import io.github.junhkang.springboottesting.domain.ProductDTO;
+import io.github.junhkang.springboottesting.repository.mybatis.ProductMapper;
+import io.github.junhkang.springboottesting.service.catalog.ProductCache;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionHolder;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@Profile("mybatis")
+@ConditionalOnProperty(name = "inventory.ledger.enabled", havingValue = "true")
+public class MyBatisInventoryLedger extends InventoryLedger {
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final SqlSessionTemplate sqlSession;
+    private final SqlSessionTemplate batchSqlSession;
+
+    public MyBatisInventoryLedger(SqlSessionFactory sqlSessionFactory,
+                                  @Value("${inventory.ledger.stripes:64}") int stripes,
+                                  @Value("${inventory.ledger.flush-interval-ms:1000}") long flushIntervalMillis,
+                                  ObjectProvider<ProductCache> productCache) {
+        super(stripes, flushIntervalMillis, productCache.getIfAvailable());
+        this.sqlSessionFactory = sqlSessionFactory;
+        this.sqlSession = new SqlSessionTemplate(sqlSessionFactory);
+        this.batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+    }
+
+    @Override
+    protected Integer loadStock(Long productId) {
+        ProductDTO dto = productMapper().findById(productId);
+        return dto == null ? null : dto.getStock();
+    }
+
+    @Override
+    protected void applyDelta(Long productId, int delta) {
+        productMapper().adjustStock(productId, delta);
+        if (inBatchTransaction()) {
+            batchSqlSession.flushStatements();
+        }
+    }
+
+    // 한 트랜잭션에서 ExecutorType을 섞을 수 없으므로, 대량 주문처럼 BATCH 세션을 쓰는 트랜잭션이면 같은 종류의 세션을 사용
+    private boolean inBatchTransaction() {
+        SqlSessionHolder holder = (SqlSessionHolder) TransactionSynchronizationManager.getResource(sqlSessionFactory);
+        return holder != null && holder.getExecutorType() == ExecutorType.BATCH;
+    }
+
+    private ProductMapper productMapper() {
+        return (inBatchTransaction() ? batchSqlSession : sqlSession).getMapper(ProductMapper.class);
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.junhkang.springboottesting.service.inventory;
+
+import io.github.junhkang.springboottesting.domain.ProductDTO;
+import io.github.junhkang.springboottesting.domain.StockBucket;
+import io.github.junhkang.springboottesting.repository.mybatis.ProductMapper;
+import io.github.junhkang.springboottesting.repository.mybatis.StockBucketMapper;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionHolder;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@Profile("mybatis")
+@ConditionalOnProperty(name = "inventory.buckets.enabled", havingValue = "true")
+public class MyBatisStockBuckets extends StockBuckets {
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final SqlSessionTemplate sqlSession;
+    private final SqlSessionTemplate batchSqlSession;
+
+    public MyBatisStockBuckets(SqlSessionFactory sqlSessionFactory,
+                               @Value("${inventory.buckets.count:8}") int bucketCount,
+                               @Value("${inventory.ledger.enabled:false}") boolean ledgerEnabled) {
+        super(bucketCount, ledgerEnabled);
+        this.sqlSessionFactory = sqlSessionFactory;
+        this.sqlSession = new SqlSessionTemplate(sqlSessionFactory);
+        this.batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+    }
+
+    @Override
+    protected Integer loadRowStock(Long productId) {
+        ProductDTO dto = select(session -> session.getMapper(ProductMapper.class).findById(productId));
+        return dto == null ? null : dto.getStock();
+    }
+
+    @Override
+    protected int decreaseRow(Long productId, int quantity) {
+        return update(session -> session.getMapper(ProductMapper.class).decreaseStock(productId, quantity));
+    }
+
+    @Override
+    protected int increaseRow(Long productId, int quantity) {
+        return update(session -> session.getMapper(ProductMapper.class).increaseStock(productId, quantity));
+    }
+
+    @Override
+    protected Map<Integer, Integer> loadBuckets(Long productId) {
+        return select(session -> session.getMapper(StockBucketMapper.class).findByProductId(productId)).stream()
+                .collect(Collectors.toMap(StockBucket::getBucketIndex, StockBucket::getStock, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    @Override
+    protected void insertBucket(Long productId, int bucketIndex, int stock) {
+        StockBucket bucket = new StockBucket();
+        bucket.setProductId(productId);
+        bucket.setBucketIndex(bucketIndex);
+        bucket.setStock(stock);
+        update(session -> {
+            session.getMapper(StockBucketMapper.class).insert(bucket);
+            return 1;
+        });
+    }
+
+    @Override
+    protected int decreaseBucket(Long productId, int bucketIndex, int quantity) {
+        return update(session -> session.getMapper(StockBucketMapper.class).decreaseStock(productId, bucketIndex, quantity));
+    }
+
+    @Override
+    protected int increaseBucket(Long productId, int bucketIndex, int quantity) {
+        return update(session -> session.getMapper(StockBucketMapper.class).increaseStock(productId, bucketIndex, quantity));
+    }
+
+    // 한 트랜잭션에서 ExecutorType을 섞을 수 없으므로, 대량 주문처럼 BATCH 세션을 쓰는 트랜잭션이면 같은 종류의 세션을 사용
+    private boolean inBatchTransaction() {
+        SqlSessionHolder holder = (SqlSessionHolder) TransactionSynchronizationManager.getResource(sqlSessionFactory);
+        return holder != null && holder.getExecutorType() == ExecutorType.BATCH;
+    }
+
+    private <T> T select(Function<SqlSession, T> query) {
+        return query.apply(inBatchTransaction() ? batchSqlSession : sqlSession);
+    }
+
+    // BATCH 세션에서는 바로 flush해서 영향받은 행 수를 얻는다
+    private int update(Function<SqlSession, Integer> statement) {
+        if (inBatchTransaction()) {
+            statement.apply(batchSqlSession);
+            return batchSqlSession.flushStatements().get(0).getUpdateCounts()[0];
+        }
+        return statement.apply(sqlSession);
+    }
+}
@@ -0,0 +1,153 @@
+package io.github.junhkang.springboottesting.service.inventory;
+
+import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import io.github.junhkang.springboottesting.service.support.TransactionCallbacks;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 재고를 여러 버킷 행으로 나눠 두는 재고 분할 모드
+ *
+ * 인기 상품의 재고를 {@link #split(Long)}으로 N개의 버킷 행에 나눠 담으면, 주문은 스레드별로 정해진 버킷
+ * 하나만 조건부 UPDATE하므로 단일 product 행에 몰리던 락 경합이 버킷 수만큼 분산됩니다. 담당 버킷이
+ * 부족하면 다른 버킷에서 가져오고(steal), 그래도 부족하면 product 행의 재고를 마지막으로 사용합니다.
+ *
+ * 상품 재고는 항상 product.stock과 버킷 재고의 합입니다. 분할하지 않은 상품은 기존처럼 product 행만 사용합니다.
+ * 재고 원장(inventory.ledger)과는 함께 사용할 수 없습니다.
+ */
+public abstract class StockBuckets {
+
+    private final int bucketCount;
+
+    // 상품별 분할 여부 (다른 노드에서 분할한 상품은 재시작 전까지 product 행만 사용하므로 과판매는 없음)
+    private final Map<Long, Boolean> sharded = new ConcurrentHashMap<>();
+
+    protected StockBuckets(int bucketCount, boolean ledgerEnabled) {
+        if (ledgerEnabled) {
+            throw new IllegalStateException("inventory.buckets and inventory.ledger cannot be enabled together.");
+        }
+        this.bucketCount = bucketCount;
+    }
+
+    /**
+     * product 행의 재고 전부를 버킷에 고르게 나눠 옮깁니다. 이미 분할된 상품이면 기존 버킷에 더합니다.
+     */
+    @Transactional
+    public void split(Long productId) {
+        Integer rowStock = loadRowStock(productId);
+        if (rowStock == null) {
+            throw new ResourceNotFoundException("Product not found with id " + productId);
+        }
+        if (rowStock > 0 && decreaseRow(productId, rowStock) == 0) {
+            throw new OptimisticLockingFailureException("Stock of product id " + productId + " changed while splitting.");
+        }
+        Map<Integer, Integer> buckets = loadBuckets(productId);
+        for (int i = 0; i < bucketCount; i++) {
+            int share = rowStock / bucketCount + (i < rowStock % bucketCount ? 1 : 0);
+            if (!buckets.containsKey(i)) {
+                insertBucket(productId, i, share);
+            } else if (share > 0) {
+                increaseBucket(productId, i, share);
+            }
+        }
+        markShardedAfterCommit(productId);
+    }
+
+    /**
+     * 재고를 차감합니다. 담당 버킷 → 다른 버킷 → product 행 순서로 가져오며, 모자라면 부분 차감분을 되돌립니다.
+     *
+     * @return 재고가 충분해 차감에 성공하면 true
+     */
+    public boolean take(Long productId, int quantity) {
+        if (!isSharded(productId)) {
+            return decreaseRow(productId, quantity) > 0;
+        }
+        int home = homeBucket();
+        if (decreaseBucket(productId, home, quantity) > 0) {
+            return true;
+        }
+
+        // 한 버킷으로 충분한 다른 버킷을 찾아 가져온다
+        Map<Integer, Integer> buckets = loadBuckets(productId);
+        for (Map.Entry<Integer, Integer> bucket : buckets.entrySet()) {
+            if (bucket.getKey() != home && bucket.getValue() >= quantity
+                    && decreaseBucket(productId, bucket.getKey(), quantity) > 0) {
+                return true;
+            }
+        }
+
+        // 어느 한 버킷으로도 부족하면 여러 버킷에서 나눠 가져오고, 나머지는 product 행에서 차감
+        Map<Integer, Integer> taken = new LinkedHashMap<>();
+        int remaining = quantity;
+        for (Map.Entry<Integer, Integer> bucket : buckets.entrySet()) {
+            int piece = Math.min(bucket.getValue(), remaining);
+            if (piece > 0 && decreaseBucket(productId, bucket.getKey(), piece) > 0) {
+                taken.put(bucket.getKey(), piece);
+                remaining -= piece;
+                if (remaining == 0) {
+                    return true;
+                }
+            }
+        }
+        if (decreaseRow(productId, remaining) > 0) {
+            return true;
+        }
+        taken.forEach((index, piece) -> increaseBucket(productId, index, piece));
+        return false;
+    }
+
+    /**
+     * 재고를 되돌립니다. 분할된 상품이면 담당 버킷에, 아니면 product 행에 더합니다.
+     */
+    public void put(Long productId, int quantity) {
+        if (isSharded(productId) && increaseBucket(productId, homeBucket(), quantity) > 0) {
+            return;
+        }
+        increaseRow(productId, quantity);
+    }
+
+    /**
+     * 버킷에 나눠 담긴 재고의 합을 반환합니다. 분할하지 않은 상품은 0.
+     */
+    public int bucketStock(Long productId) {
+        if (!isSharded(productId)) {
+            return 0;
+        }
+        return loadBuckets(productId).values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public boolean isSharded(Long productId) {
+        return sharded.computeIfAbsent(productId, id -> !loadBuckets(id).isEmpty());
+    }
+
+    // 커밋된 뒤에 분할 상태로 표시하고, 롤백되면 버킷 행이 없으므로 같은 트랜잭션에서 미리 읽어 둔 값까지 버린다
+    private void markShardedAfterCommit(Long productId) {
+        TransactionCallbacks.afterCompletion(() -> sharded.put(productId, true), () -> sharded.remove(productId));
+    }
+
+    // 같은 스레드는 같은 버킷을 사용해 스레드 간 같은 행 경합을 줄인다
+    int homeBucket() {
+        return (int) (Thread.currentThread().threadId() % bucketCount);
+    }
+
+    protected abstract Integer loadRowStock(Long productId);
+
+    protected abstract int decreaseRow(Long productId, int quantity);
+
+    protected abstract int increaseRow(Long productId, int quantity);
+
+    /**
+     * @return 버킷 번호 순서의 (버킷 번호 → 재고)
+     */
+    protected abstract Map<Integer, Integer> loadBuckets(Long productId);
+
+    protected abstract void insertBucket(Long productId, int bucketIndex, int stock);
+
+    protected abstract int decreaseBucket(Long productId, int bucketIndex, int quantity);
+
+    protected abstract int increaseBucket(Long productId, int bucketIndex, int quantity);
+}
@@ -0,0 +1,106 @@
+package io.github.junhkang.springboottesting.service.retry;
+
+import io.github.junhkang.springboottesting.domain.Product;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * {@link RetryOnConflict} 메서드를 제한된 횟수의 지수 백오프(full jitter)로 재시도합니다.
+ *
+ * 트랜잭션 어드바이스보다 바깥에서 실행되도록 우선순위를 높게 두어, 매 시도가 새 트랜잭션이 됩니다.
+ * 충돌/재시도/재시도 소진 횟수는 operation, product 태그와 함께 메트릭으로 기록합니다.
+ * 상품 ID를 그대로 태그로 쓰면 메트릭 수가 상품 수만큼 늘어나므로, orders.retry.metrics.products에 지정한
+ * 인기 상품만 ID로 기록하고 나머지는 모두 {@value #OTHER_PRODUCTS}로 합산합니다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(0)
+public class ConflictRetryAspect {
+
+    static final String CONFLICTS = "orders.conflicts";
+    static final String RETRIES = "orders.retries";
+    static final String EXHAUSTED = "orders.retries.exhausted";
+    static final String OTHER_PRODUCTS = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final Set<String> taggedProducts;
+
+    public ConflictRetryAspect(MeterRegistry meterRegistry,
+                               @Value("${orders.retry.max-attempts:3}") int maxAttempts,
+                               @Value("${orders.retry.initial-backoff-ms:10}") long initialBackoffMillis,
+                               @Value("${orders.retry.max-backoff-ms:200}") long maxBackoffMillis,
+                               @Value("${orders.retry.metrics.products:}") Set<Long> taggedProducts) {
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.taggedProducts = taggedProducts.stream().map(String::valueOf).collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Around("@annotation(io.github.junhkang.springboottesting.service.retry.RetryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean retryable = !TransactionSynchronizationManager.isActualTransactionActive();
+        String operation = joinPoint.getSignature().getName();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (ConcurrencyFailureException e) {
+                String product = productTag(joinPoint, e);
+                meterRegistry.counter(CONFLICTS, "operation", operation, "product", product).increment();
+                if (!retryable || attempt >= maxAttempts) {
+                    meterRegistry.counter(EXHAUSTED, "operation", operation, "product", product).increment();
+                    throw e;
+                }
+                meterRegistry.counter(RETRIES, "operation", operation, "product", product).increment();
+                log.debug("Conflict in {} for product {}, retrying (attempt {})", operation, product, attempt);
+                Thread.sleep(backoffMillis(attempt));
+            }
+        }
+    }
+
+    // 지수 백오프 상한 안에서 무작위로 대기해 재시도가 다시 몰리지 않도록 함
+    long backoffMillis(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    // 지정된 인기 상품이면 그 ID를, 아니면 other를 태그로 사용
+    private String productTag(ProceedingJoinPoint joinPoint, ConcurrencyFailureException e) {
+        String productId = conflictingProductId(joinPoint, e);
+        return productId != null && taggedProducts.contains(productId) ? productId : OTHER_PRODUCTS;
+    }
+
+    // 충돌한 엔티티가 상품이면 그 ID를, 아니면 productId 파라미터를 사용
+    private String conflictingProductId(ProceedingJoinPoint joinPoint, ConcurrencyFailureException e) {
+        if (e instanceof ObjectOptimisticLockingFailureException lockFailure
+                && Product.class.getName().equals(lockFailure.getPersistentClassName())) {
+            return String.valueOf(lockFailure.getIdentifier());
+        }
+        String[] names = ((MethodSignature) joinPoint.getSignature()).getParameterNames();
+        Object[] args = joinPoint.getArgs();
+        for (int i = 0; names != null && i < names.length; i++) {
+            if ("productId".equals(names[i]) && args[i] != null) {
+                return String.valueOf(args[i]);
+            }
+        }
+        return null;
+    }
+}
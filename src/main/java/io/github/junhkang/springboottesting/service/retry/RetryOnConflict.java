@@ -0,0 +1,17 @@
+package io.github.junhkang.springboottesting.service.retry;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 동시성 충돌(낙관적 락 실패, 락 대기 시간 초과 등)이 나면 트랜잭션 전체를 다시 실행하도록 지정합니다.
+ *
+ * 재시도는 호출 시점에 진행 중인 트랜잭션이 없을 때만 동작합니다. 바깥 트랜잭션에 참여한 경우에는
+ * 이미 롤백 대상이 되었으므로 예외를 그대로 전달합니다.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface RetryOnConflict {
+}
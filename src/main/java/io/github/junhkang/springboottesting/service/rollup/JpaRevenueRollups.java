@@ -0,0 +1,129 @@
+package io.github.junhkang.springboottesting.service.rollup;
+
+import io.github.junhkang.springboottesting.domain.RevenueBucket;
+import io.github.junhkang.springboottesting.domain.RevenueGroup;
+import io.github.junhkang.springboottesting.domain.RevenueRollup;
+import io.github.junhkang.springboottesting.domain.RollupGranularity;
+import io.github.junhkang.springboottesting.repository.jpa.RevenueRollupRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Component
+@Profile("jpa")
+@ConditionalOnProperty(name = "orders.rollups.enabled", havingValue = "true")
+public class JpaRevenueRollups extends RevenueRollups {
+
+    private final RevenueRollupRepository revenueRollupRepository;
+
+    public JpaRevenueRollups(RevenueRollupRepository revenueRollupRepository, PlatformTransactionManager transactionManager,
+                             @Value("${orders.rollups.rebuild-threads:4}") int rebuildThreads,
+                             @Value("${orders.rollups.rebuild-interval-ms:3600000}") long rebuildIntervalMillis) {
+        super(transactionManager, rebuildThreads, rebuildIntervalMillis);
+        this.revenueRollupRepository = revenueRollupRepository;
+    }
+
+    @Override
+    protected int incrementRollup(RevenueRollup delta) {
+        return revenueRollupRepository.increment(delta.getGranularity(), delta.getPeriodStart(), delta.getProductId(),
+                delta.getStatus(), delta.getOrderCount(), delta.getQuantity(), delta.getRevenue());
+    }
+
+    @Override
+    protected void insertRollup(RevenueRollup row) {
+        revenueRollupRepository.insert(row.getGranularity(), row.getPeriodStart(), row.getProductId(),
+                row.getStatus(), row.getOrderCount(), row.getQuantity(), row.getRevenue());
+    }
+
+    @Override
+    protected List<RevenueBucket> loadRollups(RollupGranularity granularity, RevenueGroup group, LocalDate from, LocalDate to) {
+        List<RevenueRollupRepository.RollupView> rows = switch (group) {
+            case DAY -> revenueRollupRepository.sumByDay(granularity, from, to);
+            case PRODUCT -> revenueRollupRepository.sumByProduct(granularity, from, to);
+            case STATUS -> revenueRollupRepository.sumByStatus(granularity, from, to);
+            case USER -> throw new IllegalArgumentException("Revenue rollups are not grouped by user.");
+        };
+        return rows.stream()
+                .map(row -> bucket(String.valueOf(row.getBucketKey()), row.getOrderCount(), row.getRevenue()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    protected LocalDate firstActivityDate() {
+        LocalDateTime firstOrder = revenueRollupRepository.findFirstOrderDate();
+        return Stream.of(firstOrder != null ? firstOrder.toLocalDate() : null, revenueRollupRepository.findFirstPeriodStart())
+                .filter(Objects::nonNull)
+                .min(LocalDate::compareTo)
+                .orElse(null);
+    }
+
+    @Override
+    protected LocalDate lastActivityDate() {
+        LocalDateTime lastOrder = revenueRollupRepository.findLastOrderDate();
+        return Stream.of(lastOrder != null ? lastOrder.toLocalDate() : null, revenueRollupRepository.findLastPeriodStart())
+                .filter(Objects::nonNull)
+                .max(LocalDate::compareTo)
+                .orElse(null);
+    }
+
+    @Override
+    protected Long maxOrderId() {
+        return revenueRollupRepository.findMaxOrderId();
+    }
+
+    @Override
+    protected LocalDate firstOrderDateBetweenIds(long afterId, long throughId) {
+        LocalDateTime first = revenueRollupRepository.findFirstOrderDateBetweenIds(afterId, throughId);
+        return first != null ? first.toLocalDate() : null;
+    }
+
+    @Override
+    protected LocalDate lastOrderDateBetweenIds(long afterId, long throughId) {
+        LocalDateTime last = revenueRollupRepository.findLastOrderDateBetweenIds(afterId, throughId);
+        return last != null ? last.toLocalDate() : null;
+    }
+
+    @Override
+    protected RevenueBucket orderTotals(LocalDateTime from, LocalDateTime to) {
+        RevenueRollupRepository.TotalsView totals = revenueRollupRepository.orderTotals(from, to);
+        return bucket(null, totals.getOrderCount(), totals.getRevenue());
+    }
+
+    @Override
+    protected RevenueBucket rollupTotals(RollupGranularity granularity, LocalDate from, LocalDate to) {
+        RevenueRollupRepository.TotalsView totals = revenueRollupRepository.rollupTotals(granularity, from, to);
+        return bucket(null, totals.getOrderCount(), totals.getRevenue());
+    }
+
+    @Override
+    protected void deleteRollups(LocalDate from, LocalDate to) {
+        revenueRollupRepository.deleteByPeriodStartBetween(from, to);
+    }
+
+    @Override
+    protected void insertDailyRollups(LocalDateTime from, LocalDateTime to) {
+        revenueRollupRepository.insertDailyFromOrders(from, to);
+    }
+
+    @Override
+    protected void insertMonthlyRollup(LocalDate from, LocalDate to) {
+        revenueRollupRepository.insertMonthlyFromDaily(from, to);
+    }
+
+    private RevenueBucket bucket(String key, Long orderCount, Double revenue) {
+        RevenueBucket bucket = new RevenueBucket();
+        bucket.setKey(key);
+        bucket.setOrderCount(orderCount);
+        bucket.setRevenue(revenue);
+        return bucket;
+    }
+}
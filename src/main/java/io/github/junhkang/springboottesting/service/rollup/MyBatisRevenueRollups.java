@@ -0,0 +1,133 @@
+package io.github.junhkang.springboottesting.service.rollup;
+
+import io.github.junhkang.springboottesting.domain.RevenueBucket;
+import io.github.junhkang.springboottesting.domain.RevenueGroup;
+import io.github.junhkang.springboottesting.domain.RevenueRollup;
+import io.github.junhkang.springboottesting.domain.RollupGranularity;
+import io.github.junhkang.springboottesting.repository.mybatis.RevenueRollupMapper;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionHolder;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@Profile("mybatis")
+@ConditionalOnProperty(name = "orders.rollups.enabled", havingValue = "true")
+public class MyBatisRevenueRollups extends RevenueRollups {
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final SqlSessionTemplate sqlSession;
+    private final SqlSessionTemplate batchSqlSession;
+
+    public MyBatisRevenueRollups(SqlSessionFactory sqlSessionFactory, PlatformTransactionManager transactionManager,
+                                 @Value("${orders.rollups.rebuild-threads:4}") int rebuildThreads,
+                                 @Value("${orders.rollups.rebuild-interval-ms:3600000}") long rebuildIntervalMillis) {
+        super(transactionManager, rebuildThreads, rebuildIntervalMillis);
+        this.sqlSessionFactory = sqlSessionFactory;
+        this.sqlSession = new SqlSessionTemplate(sqlSessionFactory);
+        this.batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+    }
+
+    @Override
+    protected int incrementRollup(RevenueRollup delta) {
+        if (inBatchTransaction()) {
+            batchSqlSession.getMapper(RevenueRollupMapper.class).increment(delta);
+            List<BatchResult> results = batchSqlSession.flushStatements();
+            return results.get(results.size() - 1).getUpdateCounts()[0];
+        }
+        return mapper().increment(delta);
+    }
+
+    @Override
+    protected void insertRollup(RevenueRollup row) {
+        if (inBatchTransaction()) {
+            batchSqlSession.getMapper(RevenueRollupMapper.class).insert(row);
+            batchSqlSession.flushStatements();
+            return;
+        }
+        mapper().insert(row);
+    }
+
+    @Override
+    protected List<RevenueBucket> loadRollups(RollupGranularity granularity, RevenueGroup group, LocalDate from, LocalDate to) {
+        return switch (group) {
+            case DAY -> mapper().sumByDay(granularity, from, to);
+            case PRODUCT -> mapper().sumByProduct(granularity, from, to);
+            case STATUS -> mapper().sumByStatus(granularity, from, to);
+            case USER -> throw new IllegalArgumentException("Revenue rollups are not grouped by user.");
+        };
+    }
+
+    @Override
+    protected LocalDate firstActivityDate() {
+        return mapper().findFirstActivityDate();
+    }
+
+    @Override
+    protected LocalDate lastActivityDate() {
+        return mapper().findLastActivityDate();
+    }
+
+    @Override
+    protected Long maxOrderId() {
+        return mapper().findMaxOrderId();
+    }
+
+    @Override
+    protected LocalDate firstOrderDateBetweenIds(long afterId, long throughId) {
+        return mapper().findFirstOrderDateBetweenIds(afterId, throughId);
+    }
+
+    @Override
+    protected LocalDate lastOrderDateBetweenIds(long afterId, long throughId) {
+        return mapper().findLastOrderDateBetweenIds(afterId, throughId);
+    }
+
+    @Override
+    protected RevenueBucket orderTotals(LocalDateTime from, LocalDateTime to) {
+        return mapper().orderTotals(from, to);
+    }
+
+    @Override
+    protected RevenueBucket rollupTotals(RollupGranularity granularity, LocalDate from, LocalDate to) {
+        return mapper().rollupTotals(granularity, from, to);
+    }
+
+    @Override
+    protected void deleteRollups(LocalDate from, LocalDate to) {
+        mapper().deleteByPeriodStartBetween(from, to);
+    }
+
+    @Override
+    protected void insertDailyRollups(LocalDateTime from, LocalDateTime to) {
+        mapper().insertDailyFromOrders(from, to);
+    }
+
+    @Override
+    protected void insertMonthlyRollup(LocalDate from, LocalDate to) {
+        mapper().insertMonthlyFromDaily(from, to);
+    }
+
+    // 한 트랜잭션에서 ExecutorType을 섞을 수 없으므로, 대량 주문처럼 BATCH 세션을 쓰는 트랜잭션이면 같은 종류의 세션을 사용
+    private boolean inBatchTransaction() {
+        SqlSessionHolder holder = (SqlSessionHolder) TransactionSynchronizationManager.getResource(sqlSessionFactory);
+        return holder != null && holder.getExecutorType() == ExecutorType.BATCH;
+    }
+
+    private RevenueRollupMapper mapper() {
+        SqlSession session = inBatchTransaction() ? batchSqlSession : sqlSession;
+        return session.getMapper(RevenueRollupMapper.class);
+    }
+}
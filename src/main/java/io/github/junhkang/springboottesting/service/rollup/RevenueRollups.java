@@ -0,0 +1,377 @@
+package io.github.junhkang.springboottesting.service.rollup;
+
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderStatus;
+import io.github.junhkang.springboottesting.domain.RevenueBucket;
+import io.github.junhkang.springboottesting.domain.RevenueGroup;
+import io.github.junhkang.springboottesting.domain.RevenueRollup;
+import io.github.junhkang.springboottesting.domain.RollupGranularity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * 일별/월별 매출 롤업 (revenue_rollups)
+ *
+ * 주문 생성/취소/수량 변경 시 같은 트랜잭션에서 (기간, 상품, 상태) 행의 건수/수량/매출을 증감하므로, 매출 집계는
+ * orders 전체 대신 기간 내 롤업 행만 읽습니다. 하루 전체가 포함되지 않는 구간 양 끝만 orders에서 집계하고,
+ * 한 달 전체가 포함되는 구간은 월별 행을 사용합니다. 사용자별 집계는 롤업하지 않으므로 계속 orders에서 집계합니다.
+ *
+ * 롤업이 orders와 어긋나면(직접 수정한 데이터 등) 월 단위로 나눠 병렬로 비교하고, 합계가 다른 달만 orders에서 다시 계산합니다.
+ * rebuild-interval-ms마다 실행하는 {@link #rebuildRecentDrifted()}는 마지막 검사 이후 들어온 주문(시간순 ID가 워터마크보다 큰 주문)이
+ * 속한 달만 검사합니다. 과거 주문을 직접 수정/삭제한 경우처럼 전체 검사가 필요하면 {@link #rebuildDrifted()}를 명시적으로 호출합니다.
+ */
+@Slf4j
+public abstract class RevenueRollups {
+
+    // order_date는 TIMESTAMP(6)이므로 하루의 마지막 시각은 마이크로초 단위까지만 표현
+    static final LocalTime END_OF_DAY = LocalTime.of(23, 59, 59, 999_999_000);
+
+    private static final Comparator<RevenueRollup> KEY_ORDER = Comparator
+            .comparing(RevenueRollup::getGranularity)
+            .thenComparing(RevenueRollup::getPeriodStart)
+            .thenComparing(RevenueRollup::getProductId)
+            .thenComparing(RevenueRollup::getStatus);
+
+    private final TransactionTemplate rebuildTransaction;
+    private final int rebuildThreads;
+    private final long rebuildIntervalMillis;
+    private ScheduledExecutorService scheduler;
+    // 이 ID까지의 주문은 검사를 마침 (null이면 검사 전)
+    private volatile Long checkedThroughOrderId;
+
+    protected RevenueRollups(PlatformTransactionManager transactionManager, int rebuildThreads, long rebuildIntervalMillis) {
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+        this.rebuildTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rebuildThreads = rebuildThreads;
+        this.rebuildIntervalMillis = rebuildIntervalMillis;
+    }
+
+    /**
+     * 새 주문을 반영합니다. 호출한 트랜잭션 안에서 실행되므로 주문이 롤백되면 롤업도 함께 롤백됩니다.
+     */
+    public void recordPlaced(Collection<Order> orders) {
+        List<RevenueRollup> deltas = new ArrayList<>();
+        orders.forEach(order -> deltas.add(delta(order, order.getStatus(), 1, order.getQuantity(), order.getTotalAmount())));
+        apply(deltas);
+    }
+
+    public void recordPlaced(Order order) {
+        recordPlaced(List.of(order));
+    }
+
+    /**
+     * PENDING → CANCELED 전이를 반영합니다. 취소된 주문도 상태별 집계에 포함되므로 행만 옮깁니다.
+     */
+    public void recordCanceled(Order order) {
+        apply(List.of(
+                delta(order, OrderStatus.PENDING, -1, -order.getQuantity(), -order.getTotalAmount()),
+                delta(order, OrderStatus.CANCELED, 1, order.getQuantity(), order.getTotalAmount())));
+    }
+
+    /**
+     * 수량 변경을 반영합니다. 변경 후 주문과 변경 전 수량/금액의 차이만 더합니다.
+     */
+    public void recordQuantityChanged(Order updated, int previousQuantity, double previousTotalAmount) {
+        apply(List.of(delta(updated, updated.getStatus(), 0,
+                updated.getQuantity() - previousQuantity, updated.getTotalAmount() - previousTotalAmount)));
+    }
+
+    /**
+     * 기간 내 매출을 집계합니다. 하루 전체가 포함되지 않는 양 끝 구간과 사용자별 집계는 orderQuery(BETWEEN)로 orders에서 집계합니다.
+     */
+    public List<RevenueBucket> revenue(RevenueGroup group, LocalDateTime startDate, LocalDateTime endDate,
+                                       BiFunction<LocalDateTime, LocalDateTime, List<RevenueBucket>> orderQuery) {
+        if (group == RevenueGroup.USER) {
+            return orderQuery.apply(startDate, endDate);
+        }
+        LocalDate firstDay = startDate.toLocalTime().equals(LocalTime.MIDNIGHT) ? startDate.toLocalDate() : startDate.toLocalDate().plusDays(1);
+        LocalDate lastDay = endDate.toLocalTime().isBefore(END_OF_DAY) ? endDate.toLocalDate().minusDays(1) : endDate.toLocalDate();
+        if (firstDay.isAfter(lastDay)) {
+            return orderQuery.apply(startDate, endDate);
+        }
+
+        List<RevenueBucket> parts = new ArrayList<>();
+        if (startDate.isBefore(firstDay.atStartOfDay())) {
+            parts.addAll(orderQuery.apply(startDate, firstDay.minusDays(1).atTime(END_OF_DAY)));
+        }
+        parts.addAll(loadWholeDays(group, firstDay, lastDay));
+        if (endDate.isAfter(lastDay.atTime(END_OF_DAY))) {
+            parts.addAll(orderQuery.apply(lastDay.plusDays(1).atStartOfDay(), endDate));
+        }
+        return merge(group, parts);
+    }
+
+    // 한 달 전체가 포함되는 구간은 월별 행, 나머지 앞뒤 날짜는 일별 행 (일자별 집계는 항상 일별 행)
+    private List<RevenueBucket> loadWholeDays(RevenueGroup group, LocalDate firstDay, LocalDate lastDay) {
+        YearMonth firstMonth = firstDay.getDayOfMonth() == 1 ? YearMonth.from(firstDay) : YearMonth.from(firstDay).plusMonths(1);
+        YearMonth lastMonth = lastDay.equals(YearMonth.from(lastDay).atEndOfMonth()) ? YearMonth.from(lastDay) : YearMonth.from(lastDay).minusMonths(1);
+        if (group == RevenueGroup.DAY || firstMonth.isAfter(lastMonth)) {
+            return loadRollups(RollupGranularity.DAY, group, firstDay, lastDay);
+        }
+
+        List<RevenueBucket> parts = new ArrayList<>();
+        if (firstDay.isBefore(firstMonth.atDay(1))) {
+            parts.addAll(loadRollups(RollupGranularity.DAY, group, firstDay, firstMonth.atDay(1).minusDays(1)));
+        }
+        parts.addAll(loadRollups(RollupGranularity.MONTH, group, firstMonth.atDay(1), lastMonth.atDay(1)));
+        if (lastDay.isAfter(lastMonth.atEndOfMonth())) {
+            parts.addAll(loadRollups(RollupGranularity.DAY, group, lastMonth.atEndOfMonth().plusDays(1), lastDay));
+        }
+        return parts;
+    }
+
+    // 구간별 결과를 같은 키끼리 합치고 orders 집계와 같은 순서(상품은 ID 숫자 순)로 정렬
+    private List<RevenueBucket> merge(RevenueGroup group, List<RevenueBucket> parts) {
+        Comparator<String> keyOrder = group == RevenueGroup.PRODUCT ? Comparator.comparing(Long::valueOf) : Comparator.naturalOrder();
+        Map<String, RevenueBucket> merged = new TreeMap<>(keyOrder);
+        for (RevenueBucket part : parts) {
+            merged.merge(part.getKey(), part, (a, b) -> {
+                RevenueBucket sum = new RevenueBucket();
+                sum.setKey(a.getKey());
+                sum.setOrderCount(a.getOrderCount() + b.getOrderCount());
+                sum.setRevenue(a.getRevenue() + b.getRevenue());
+                return sum;
+            });
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    /**
+     * orders가 있거나 롤업 행이 있는 모든 달을 병렬로 검사해, 합계가 어긋난 달만 다시 계산합니다.
+     * orders 전체를 읽으므로 주기 작업에서는 실행하지 않습니다.
+     *
+     * @return 다시 계산한 달의 수
+     */
+    public synchronized int rebuildDrifted() {
+        Long latestOrderId = maxOrderId();
+        LocalDate first = firstActivityDate();
+        LocalDate last = lastActivityDate();
+        int rebuilt = first == null || last == null ? 0 : rebuildDrifted(first, last);
+        checkedThroughOrderId = latestOrderId;
+        return rebuilt;
+    }
+
+    /**
+     * 마지막 검사 이후 들어온 주문이 속한 달만 검사해, 합계가 어긋난 달만 다시 계산합니다.
+     * 주문 ID는 시간순이므로 새 주문은 PK 범위로 찾습니다.
+     *
+     * @return 다시 계산한 달의 수
+     */
+    public synchronized int rebuildRecentDrifted() {
+        Long latestOrderId = maxOrderId();
+        Long checked = checkedThroughOrderId;
+        if (latestOrderId == null || (checked != null && latestOrderId <= checked)) {
+            return 0;
+        }
+        long afterId = checked != null ? checked : Long.MIN_VALUE;
+        LocalDate first = firstOrderDateBetweenIds(afterId, latestOrderId);
+        LocalDate last = lastOrderDateBetweenIds(afterId, latestOrderId);
+        int rebuilt = first == null || last == null ? 0 : rebuildDrifted(first, last);
+        checkedThroughOrderId = latestOrderId;
+        return rebuilt;
+    }
+
+    private int rebuildDrifted(LocalDate first, LocalDate last) {
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(first); !month.isAfter(YearMonth.from(last)); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+
+        List<Future<Boolean>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(rebuildThreads, months.size()))) {
+            for (YearMonth month : months) {
+                results.add(executor.submit(() -> isDrifted(month) && rebuild(month)));
+            }
+            int rebuilt = 0;
+            for (Future<Boolean> result : results) {
+                rebuilt += result.get() ? 1 : 0;
+            }
+            return rebuilt;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Revenue rollup rebuild was interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Revenue rollup rebuild failed.", e.getCause());
+        }
+    }
+
+    /**
+     * 한 달의 일별/월별 행을 지우고 orders에서 다시 계산합니다. 달마다 별도 트랜잭션으로 실행합니다.
+     */
+    public boolean rebuild(YearMonth month) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.atEndOfMonth();
+        rebuildTransaction.executeWithoutResult(status -> {
+            deleteRollups(from, to);
+            insertDailyRollups(from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+            insertMonthlyRollup(from, to);
+        });
+        log.info("Rebuilt revenue rollups for {}", month);
+        return true;
+    }
+
+    // 월 합계 기준으로 orders와 일별 행, 월별 행이 모두 같은지 비교
+    boolean isDrifted(YearMonth month) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.atEndOfMonth();
+        RevenueBucket orders = orderTotals(from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+        return !sameTotals(orders, rollupTotals(RollupGranularity.DAY, from, to))
+                || !sameTotals(orders, rollupTotals(RollupGranularity.MONTH, from, from));
+    }
+
+    private boolean sameTotals(RevenueBucket expected, RevenueBucket actual) {
+        return expected.getOrderCount().equals(actual.getOrderCount())
+                && Math.abs(expected.getRevenue() - actual.getRevenue()) < 0.005;
+    }
+
+    // 시작 시에는 orders를 검사하지 않고 워터마크만 현재 마지막 주문으로 맞춘다
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        checkedThroughOrderId = maxOrderId();
+        if (rebuildIntervalMillis > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "revenue-rollup-rebuilder");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::rebuildQuietly, rebuildIntervalMillis, rebuildIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void rebuildQuietly() {
+        try {
+            int rebuilt = rebuildRecentDrifted();
+            if (rebuilt > 0) {
+                log.warn("Revenue rollups drifted from orders in {} month(s) and were rebuilt", rebuilt);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Revenue rollup rebuild failed", e);
+        }
+    }
+
+    // 같은 키끼리 합친 뒤 키 순서대로 증감해 동시 트랜잭션 간 락 순서를 맞춘다
+    private void apply(List<RevenueRollup> deltas) {
+        Map<RevenueRollup.Key, RevenueRollup> merged = new LinkedHashMap<>();
+        for (RevenueRollup delta : deltas) {
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                RevenueRollup row = new RevenueRollup();
+                row.setGranularity(granularity);
+                row.setPeriodStart(granularity == RollupGranularity.DAY ? delta.getPeriodStart() : delta.getPeriodStart().withDayOfMonth(1));
+                row.setProductId(delta.getProductId());
+                row.setStatus(delta.getStatus());
+                row.setOrderCount(delta.getOrderCount());
+                row.setQuantity(delta.getQuantity());
+                row.setRevenue(delta.getRevenue());
+                merged.merge(new RevenueRollup.Key(granularity, row.getPeriodStart(), row.getProductId(), row.getStatus()), row, (a, b) -> {
+                    a.setOrderCount(a.getOrderCount() + b.getOrderCount());
+                    a.setQuantity(a.getQuantity() + b.getQuantity());
+                    a.setRevenue(a.getRevenue() + b.getRevenue());
+                    return a;
+                });
+            }
+        }
+
+        merged.values().stream().sorted(KEY_ORDER).forEach(row -> {
+            if (incrementRollup(row) > 0) {
+                return;
+            }
+            try {
+                insertRollup(row);
+            } catch (DataIntegrityViolationException e) {
+                // 다른 트랜잭션이 같은 행을 먼저 만들었으면 충돌로 처리 (재시도 시 UPDATE로 반영)
+                throw new OptimisticLockingFailureException("Revenue rollup for product id " + row.getProductId()
+                        + " on " + row.getPeriodStart() + " was created concurrently.", e);
+            }
+        });
+    }
+
+    private RevenueRollup delta(Order order, OrderStatus status, long count, long quantity, double revenue) {
+        RevenueRollup delta = new RevenueRollup();
+        delta.setPeriodStart(order.getOrderDate().toLocalDate());
+        delta.setProductId(order.getProduct().getId());
+        delta.setStatus(status);
+        delta.setOrderCount(count);
+        delta.setQuantity(quantity);
+        delta.setRevenue(revenue);
+        return delta;
+    }
+
+    /**
+     * 키가 같은 행에 건수/수량/매출을 더합니다.
+     *
+     * @return 갱신된 행 수 (행이 없으면 0)
+     */
+    protected abstract int incrementRollup(RevenueRollup delta);
+
+    protected abstract void insertRollup(RevenueRollup row);
+
+    /**
+     * periodStart가 [from, to]인 행을 기준별로 합산합니다. 건수가 0인 키는 제외합니다.
+     */
+    protected abstract List<RevenueBucket> loadRollups(RollupGranularity granularity, RevenueGroup group, LocalDate from, LocalDate to);
+
+    // 가장 이른/늦은 주문일 또는 롤업 기간 (둘 다 없으면 null)
+    protected abstract LocalDate firstActivityDate();
+
+    protected abstract LocalDate lastActivityDate();
+
+    // 가장 큰(가장 최근) 주문 ID (주문이 없으면 null)
+    protected abstract Long maxOrderId();
+
+    // ID가 (afterId, throughId]인 주문 중 가장 이른/늦은 주문일 (없으면 null)
+    protected abstract LocalDate firstOrderDateBetweenIds(long afterId, long throughId);
+
+    protected abstract LocalDate lastOrderDateBetweenIds(long afterId, long throughId);
+
+    /**
+     * [from, to) 주문의 건수와 매출 합계를 반환합니다.
+     */
+    protected abstract RevenueBucket orderTotals(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * periodStart가 [from, to]인 롤업 행의 건수와 매출 합계를 반환합니다.
+     */
+    protected abstract RevenueBucket rollupTotals(RollupGranularity granularity, LocalDate from, LocalDate to);
+
+    // periodStart가 [from, to]인 일별/월별 행 삭제
+    protected abstract void deleteRollups(LocalDate from, LocalDate to);
+
+    // [from, to) 주문으로 일별 행 생성
+    protected abstract void insertDailyRollups(LocalDateTime from, LocalDateTime to);
+
+    // [from, to] 일별 행을 합쳐 from 기준 월별 행 생성
+    protected abstract void insertMonthlyRollup(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,119 @@
+package io.github.junhkang.springboottesting.service.support;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * TTL과 최대 크기가 있는 삽입 순서 캐시
+ *
+ * 조회는 ConcurrentHashMap.get 한 번으로 끝나 락을 잡지 않습니다. 항목은 TTL이 지나면 조회 시 제거되고,
+ * 저장할 때 가장 오래된 항목부터 만료/교체되었거나 최대 크기를 넘는 동안 제거합니다.
+ *
+ * 항목({@link Entry})은 동일성으로 비교하므로, 조회 시점의 항목을 {@link #replace}에 넘기면 그 사이 무효화나 다른 저장이
+ * 끼어든 경우 오래된 값을 버릴 수 있습니다. 값이 null인 항목은 "무효화됨" 같은 표시로 쓸 수 있습니다.
+ * 시각은 clock에서 읽으므로 테스트에서 시간 경과를 흉내 낼 수 있습니다.
+ */
+public class BoundedTtlCache<K, V> {
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Queue<Map.Entry<K, Entry<V>>> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final long ttlNanos;
+    private final int maxSize;
+    private final LongSupplier clock;
+    private final Runnable onEviction;
+
+    public BoundedTtlCache(long ttlSeconds, int maxSize, LongSupplier clock) {
+        this(ttlSeconds, maxSize, clock, () -> {
+        });
+    }
+
+    /**
+     * @param onEviction 만료나 최대 크기 초과로 항목이 제거될 때마다 호출 (메트릭 기록용)
+     */
+    public BoundedTtlCache(long ttlSeconds, int maxSize, LongSupplier clock, Runnable onEviction) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.onEviction = onEviction;
+    }
+
+    /**
+     * 만료되지 않은 항목을 반환합니다. 없거나 만료된 경우 null.
+     */
+    public Entry<V> get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && clock.getAsLong() - entry.createdAt > ttlNanos) {
+            if (entries.remove(key, entry)) {
+                onEviction.run();
+            }
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * 기존 항목과 관계없이 새 항목을 저장합니다.
+     */
+    public void put(K key, V value) {
+        Entry<V> entry = new Entry<>(value, clock.getAsLong());
+        entries.put(key, entry);
+        track(key, entry);
+    }
+
+    /**
+     * 현재 항목이 expected일 때만 새 항목으로 교체합니다. expected가 null이면 항목이 없을 때만 저장합니다.
+     *
+     * @return 저장했으면 true
+     */
+    public boolean replace(K key, Entry<V> expected, V value) {
+        Entry<V> entry = new Entry<>(value, clock.getAsLong());
+        boolean stored = expected == null
+                ? entries.putIfAbsent(key, entry) == null
+                : entries.replace(key, expected, entry);
+        if (stored) {
+            track(key, entry);
+        }
+        return stored;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void track(K key, Entry<V> entry) {
+        long now = entry.createdAt;
+        insertionOrder.add(Map.entry(key, entry));
+
+        Map.Entry<K, Entry<V>> oldest;
+        while ((oldest = insertionOrder.peek()) != null) {
+            boolean replaced = entries.get(oldest.getKey()) != oldest.getValue();
+            boolean expired = now - oldest.getValue().createdAt > ttlNanos;
+            if (!replaced && !expired && entries.size() <= maxSize) {
+                return;
+            }
+            Map.Entry<K, Entry<V>> evicted = insertionOrder.poll();
+            if (evicted != null && entries.remove(evicted.getKey(), evicted.getValue())) {
+                onEviction.run();
+            }
+        }
+    }
+
+    // 같은 값의 다른 항목을 지우거나 교체하지 않도록 equals를 재정의하지 않는다 (동일성 비교)
+    public static final class Entry<V> {
+        private final V value;
+        private final long createdAt;
+
+        private Entry(V value, long createdAt) {
+            this.value = value;
+            this.createdAt = createdAt;
+        }
+
+        public V value() {
+            return value;
+        }
+    }
+}
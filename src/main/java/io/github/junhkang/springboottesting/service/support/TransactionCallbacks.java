@@ -0,0 +1,68 @@
+package io.github.junhkang.springboottesting.service.support;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션의 결과에 맞춰 인메모리 상태(캐시, 인덱스, 원장)를 갱신하기 위한 콜백 등록 유틸리티
+ *
+ * 트랜잭션 밖(동기화가 비활성)에서 호출하면 변경이 이미 확정된 것으로 보고 커밋 쪽 동작을 바로 실행합니다.
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * 커밋된 뒤에 action을 실행합니다. 롤백되면 실행하지 않습니다.
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 커밋되면 onCommit을, 롤백되거나 결과를 알 수 없으면 onFailure를 실행합니다.
+     */
+    public static void afterCompletion(Runnable onCommit, Runnable onFailure) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else {
+                    onFailure.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * 롤백이 확인된 경우에만 action을 실행합니다. 트랜잭션 밖이거나 결과를 알 수 없으면 실행하지 않습니다.
+     */
+    public static void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.junhkang.springboottesting.service.validation;
+
+/**
+ * 이메일 형식 검사 (정규식 {@code ^[A-Za-z0-9+_.-]+@(.+)$}와 같은 문자열만 허용)
+ *
+ * 정규식 엔진 없이 한 번 훑어서 판단하므로 객체를 만들지 않습니다.
+ * - '@' 앞: 영문자, 숫자, '+', '_', '.', '-'로만 이루어진 한 글자 이상 ('@'는 이 문자 집합에 없으므로 첫 번째 '@'가 구분자)
+ * - '@' 뒤: 한 글자 이상이고, '.'가 매칭하지 않는 줄 종결 문자(\n, \r, U+0085, U+2028, U+2029)가 없음
+ */
+public final class EmailValidator {
+
+    private EmailValidator() {
+    }
+
+    public static boolean isValid(CharSequence email) {
+        if (email == null) {
+            return false;
+        }
+        int length = email.length();
+        int at = 0;
+        while (at < length && isLocalChar(email.charAt(at))) {
+            at++;
+        }
+        if (at == 0 || at >= length - 1 || email.charAt(at) != '@') {
+            return false;
+        }
+        for (int i = at + 1; i < length; i++) {
+            if (isLineTerminator(email.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLocalChar(char c) {
+        return (c >= 'a' && c <= 'z')
+                || (c >= 'A' && c <= 'Z')
+                || (c >= '0' && c <= '9')
+                || c == '+' || c == '_' || c == '.' || c == '-';
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.junhkang.springboottesting.controller;
+
+import io.github.junhkang.springboottesting.domain.OrderLine;
+import io.github.junhkang.springboottesting.domain.OrderTicket;
+import io.github.junhkang.springboottesting.exception.OrderIntakeRejectedException;
+import io.github.junhkang.springboottesting.service.OrderService;
+import io.github.junhkang.springboottesting.service.intake.OrderIntake;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 테스트 클래스: OrderControllerAsyncIntakeTest
+ *
+ * 비동기 주문 접수(OrderIntake)가 활성화된 경우의 OrderController 동작을 검증합니다.
+ */
+@WebMvcTest(OrderController.class)
+@DisplayName("OrderController 비동기 접수 테스트")
+class OrderControllerAsyncIntakeTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private OrderService orderService;
+
+    @MockBean
+    private OrderIntake orderIntake;
+
+    @Test
+    @DisplayName("주문 생성 요청은 큐에 접수되고 202와 티켓을 반환한다")
+    void testCreateOrderReturnsTicket() throws Exception {
+        // Given: 접수 시 대기 상태의 티켓 반환
+        Mockito.when(orderIntake.submit(any(OrderLine.class))).thenReturn(OrderTicket.pending("ticket-1"));
+
+        // When & Then: 202 Accepted와 티켓 정보 반환, 서비스는 직접 호출되지 않음
+        mockMvc.perform(post("/orders")
+                        .param("userId", "1")
+                        .param("productId", "1")
+                        .param("quantity", "2"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id", is("ticket-1")))
+                .andExpect(jsonPath("$.status", is("PENDING")));
+        Mockito.verifyNoInteractions(orderService);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 503을 반환한다")
+    void testCreateOrderRejectedWhenQueueFull() throws Exception {
+        // Given
+        Mockito.when(orderIntake.submit(any(OrderLine.class)))
+                .thenThrow(new OrderIntakeRejectedException("Order intake queue is full."));
+
+        // When & Then
+        mockMvc.perform(post("/orders")
+                        .param("userId", "1")
+                        .param("productId", "1")
+                        .param("quantity", "2"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(content().string("Order intake queue is full."));
+    }
+
+    @Test
+    @DisplayName("티켓 ID로 처리 상태 조회")
+    void testGetTicket() throws Exception {
+        // Given: 처리 완료된 티켓
+        OrderTicket ticket = OrderTicket.pending("ticket-1");
+        ticket.setStatus(OrderTicket.TicketStatus.COMPLETED);
+        ticket.setOrderId(10L);
+        Mockito.when(orderIntake.getTicket("ticket-1")).thenReturn(ticket);
+
+        // When & Then
+        mockMvc.perform(get("/orders/tickets/ticket-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("COMPLETED")))
+                .andExpect(jsonPath("$.orderId", is(10)));
+    }
+}
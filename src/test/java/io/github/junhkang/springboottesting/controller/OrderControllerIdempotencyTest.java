@@ -0,0 +1,130 @@
+package io.github.junhkang.springboottesting.controller;
+
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderStatus;
+import io.github.junhkang.springboottesting.exception.IdempotencyKeyConflictException;
+import io.github.junhkang.springboottesting.service.OrderService;
+import io.github.junhkang.springboottesting.service.idempotency.IdempotencyCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 테스트 클래스: OrderControllerIdempotencyTest
+ *
+ * Idempotency-Key 헤더가 있는 주문 생성 요청의 처리(캐시 적중, 파라미터 불일치, 동시 요청 충돌)를 검증합니다.
+ */
+@WebMvcTest(OrderController.class)
+@Import(IdempotencyCache.class)
+@DisplayName("OrderController 멱등 키 테스트")
+class OrderControllerIdempotencyTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private OrderService orderService;
+
+    @Test
+    @DisplayName("같은 멱등 키로 재요청하면 캐시에서 최초 주문을 찾아 반환한다")
+    void testReplayedRequestIsServedFromCache() throws Exception {
+        // Given: 최초 요청 시 주문 생성
+        Order order = new Order();
+        order.setId(1L);
+        order.setStatus(OrderStatus.PENDING);
+        Mockito.when(orderService.createOrder(anyLong(), anyLong(), any(), eq("replay-key"))).thenReturn(order);
+        Mockito.when(orderService.getOrderById(1L)).thenReturn(order);
+
+        // When: 같은 키로 두 번 요청
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/orders")
+                            .header("Idempotency-Key", "replay-key")
+                            .param("userId", "1")
+                            .param("productId", "1")
+                            .param("quantity", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id", is(1)));
+        }
+
+        // Then: 주문 생성은 한 번만 실행되고 두 번째 요청은 조회로 처리됨
+        Mockito.verify(orderService, Mockito.times(1)).createOrder(anyLong(), anyLong(), any(), eq("replay-key"));
+        Mockito.verify(orderService, Mockito.times(1)).getOrderById(1L);
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키로 다른 파라미터의 요청이 오면 캐시된 주문을 반환하지 않고 422로 응답한다")
+    void testReplayWithDifferentParametersIsRejected() throws Exception {
+        // Given: 수량 2로 최초 주문 생성
+        Order order = new Order();
+        order.setId(1L);
+        order.setStatus(OrderStatus.PENDING);
+        Mockito.when(orderService.createOrder(anyLong(), anyLong(), any(), eq("mismatch-key"))).thenReturn(order);
+        mockMvc.perform(post("/orders")
+                        .header("Idempotency-Key", "mismatch-key")
+                        .param("userId", "1")
+                        .param("productId", "1")
+                        .param("quantity", "2"))
+                .andExpect(status().isOk());
+
+        // When & Then: 같은 키로 수량만 바꿔 재요청
+        mockMvc.perform(post("/orders")
+                        .header("Idempotency-Key", "mismatch-key")
+                        .param("userId", "1")
+                        .param("productId", "1")
+                        .param("quantity", "5"))
+                .andExpect(status().isUnprocessableEntity());
+        Mockito.verify(orderService, Mockito.times(1)).createOrder(anyLong(), anyLong(), any(), eq("mismatch-key"));
+        Mockito.verify(orderService, Mockito.never()).getOrderById(1L);
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 요청과 충돌하면 다시 호출하여 먼저 커밋된 주문을 반환한다")
+    void testConcurrentDuplicateKeyReturnsWinningOrder() throws Exception {
+        // Given: 첫 호출은 키 중복으로 실패, 다시 호출하면 저장된 주문 반환
+        Order winner = new Order();
+        winner.setId(7L);
+        winner.setStatus(OrderStatus.PENDING);
+        Mockito.when(orderService.createOrder(anyLong(), anyLong(), any(), eq("race-key")))
+                .thenThrow(new IdempotencyKeyConflictException("race-key", null))
+                .thenReturn(winner);
+
+        // When & Then
+        mockMvc.perform(post("/orders")
+                        .header("Idempotency-Key", "race-key")
+                        .param("userId", "1")
+                        .param("productId", "1")
+                        .param("quantity", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(7)));
+    }
+
+    @Test
+    @DisplayName("멱등 키와 무관한 무결성 위반은 다시 호출하지 않고 409로 응답한다")
+    void testOtherIntegrityViolationIsNotReplayed() throws Exception {
+        // Given: 멱등 키 INSERT가 아닌 곳에서 발생한 제약 위반
+        Mockito.when(orderService.createOrder(anyLong(), anyLong(), any(), eq("broken-key")))
+                .thenThrow(new DataIntegrityViolationException("fk violation"));
+
+        // When & Then
+        mockMvc.perform(post("/orders")
+                        .header("Idempotency-Key", "broken-key")
+                        .param("userId", "1")
+                        .param("productId", "1")
+                        .param("quantity", "2"))
+                .andExpect(status().isConflict());
+        Mockito.verify(orderService, Mockito.times(1)).createOrder(anyLong(), anyLong(), any(), eq("broken-key"));
+    }
+}
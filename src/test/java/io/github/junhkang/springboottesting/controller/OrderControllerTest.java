@@ -1,7 +1,13 @@
 package io.github.junhkang.springboottesting.controller;
 
 import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderLineResult;
+import io.github.junhkang.springboottesting.domain.OrderPage;
 import io.github.junhkang.springboottesting.domain.OrderStatus;
+import io.github.junhkang.springboottesting.domain.OrderSummary;
+import io.github.junhkang.springboottesting.domain.OrderSummaryPage;
+import io.github.junhkang.springboottesting.domain.RevenueBucket;
+import io.github.junhkang.springboottesting.domain.RevenueGroup;
 import io.github.junhkang.springboottesting.service.OrderService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,11 +17,14 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -84,6 +93,25 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.status", is("PENDING")));
     }
 
+    @Test
+    @DisplayName("대량 주문 생성 테스트")
+    void testCreateOrders() throws Exception {
+        // Given: Mocking service layer - 첫 번째 라인은 성공, 두 번째 라인은 재고 부족
+        Mockito.when(orderService.createOrders(any())).thenReturn(Arrays.asList(
+                OrderLineResult.succeeded(0, 10L),
+                OrderLineResult.failed(1, "Insufficient stock for product id 2")));
+
+        // When & Then: POST 요청을 수행하고 라인별 결과를 검증
+        mockMvc.perform(post("/orders/batch")
+                        .content("[{\"userId\":1,\"productId\":1,\"quantity\":2},{\"userId\":1,\"productId\":2,\"quantity\":100}]")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].success", is(true)))
+                .andExpect(jsonPath("$[0].orderId", is(10)))
+                .andExpect(jsonPath("$[1].success", is(false)))
+                .andExpect(jsonPath("$[1].error", is("Insufficient stock for product id 2")));
+    }
+
     @Test
     @DisplayName("주문 취소 테스트")
     void testCancelOrder() throws Exception {
@@ -170,4 +198,180 @@ class OrderControllerTest {
             .andExpect(jsonPath("$", is(500.0)))
             .andExpect(content().string("500.0"));
     }
+
+    @Test
+    @DisplayName("키셋 페이지 조회 테스트 - 토큰을 디코딩하고 limit을 최대 크기로 제한")
+    void testGetOrdersPage() throws Exception {
+        // Given: Mocking service layer
+        Order order = new Order();
+        order.setId(11L);
+        order.setStatus(OrderStatus.PENDING);
+        Mockito.when(orderService.getOrders(10L, 100))
+                .thenReturn(OrderPage.of(Collections.singletonList(order), true));
+
+        // When & Then: 최대 크기(100)를 넘는 limit은 잘리고, next 토큰은 마지막 주문 ID를 가리킴
+        mockMvc.perform(get("/orders")
+                        .param("after", OrderPage.encodeToken(10L))
+                        .param("limit", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders[0].id", is(11)))
+                .andExpect(jsonPath("$.next", is(OrderPage.encodeToken(11L))));
+    }
+
+    @Test
+    @DisplayName("키셋 페이지 조회 테스트 - 잘못된 토큰은 400")
+    void testGetOrdersPageWithInvalidToken() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/orders").param("after", "not-a-token"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Invalid page token."));
+    }
+
+    @Test
+    @DisplayName("사용자별 키셋 페이지 조회 테스트 - limit 미지정 시 기본 크기 사용")
+    void testGetOrdersByUserIdPage() throws Exception {
+        // Given: Mocking service layer
+        Order order = new Order();
+        order.setId(1L);
+        Mockito.when(orderService.getOrdersByUserId(1L, null, 20))
+                .thenReturn(OrderPage.of(Collections.singletonList(order), false));
+
+        // When & Then: 마지막 페이지라 next가 없음
+        mockMvc.perform(get("/orders/user/1").param("after", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders[0].id", is(1)))
+                .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("limit만 지정해도 배열 대신 키셋 페이지로 응답한다")
+    void testGetOrdersWithLimitOnlyReturnsPage() throws Exception {
+        // Given: Mocking service layer
+        Order order = new Order();
+        order.setId(1L);
+        Mockito.when(orderService.getOrders(null, 5))
+                .thenReturn(OrderPage.of(Collections.singletonList(order), true));
+
+        // When & Then
+        mockMvc.perform(get("/orders").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders[0].id", is(1)))
+                .andExpect(jsonPath("$.next", is(OrderPage.encodeToken(1L))));
+        Mockito.verify(orderService, Mockito.never()).getAllOrders();
+    }
+
+    @Test
+    @DisplayName("주문 NDJSON 내보내기 테스트")
+    void testExportOrders() throws Exception {
+        // Given: 서비스가 주문 2건을 순서대로 전달
+        Order order1 = new Order();
+        order1.setId(1L);
+        order1.setStatus(OrderStatus.PENDING);
+        Order order2 = new Order();
+        order2.setId(2L);
+        order2.setStatus(OrderStatus.CANCELED);
+        Mockito.when(orderService.exportOrders(any())).thenAnswer(invocation -> {
+            Consumer<Order> sink = invocation.getArgument(0);
+            sink.accept(order1);
+            sink.accept(order2);
+            return 2L;
+        });
+
+        // When: 스트리밍 응답은 비동기로 작성되므로 asyncDispatch로 결과를 받음
+        MvcResult result = mockMvc.perform(get("/orders/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then: 한 줄에 주문 하나씩
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(body.split("\n")).hasSize(2);
+        assertThat(body).startsWith("{\"id\":1,").contains("\"status\":\"CANCELED\"");
+    }
+
+    @Test
+    @DisplayName("요약 보기 조회 테스트")
+    void testGetOrderSummaries() throws Exception {
+        // Given: Mocking service layer
+        OrderSummary summary = new OrderSummary();
+        summary.setId(1L);
+        summary.setStatus(OrderStatus.PENDING);
+        summary.setTotalAmount(300.0);
+        Mockito.when(orderService.getOrderSummaries(null, 20))
+                .thenReturn(OrderSummaryPage.of(Collections.singletonList(summary), false));
+        Mockito.when(orderService.getOrderSummariesByUserId(1L, null, 20))
+                .thenReturn(OrderSummaryPage.of(Collections.singletonList(summary), false));
+
+        // When & Then: 요약 필드만 포함되고 user/product는 없으며, 페이지 파라미터가 없어도 기본 크기의 페이지로 응답
+        mockMvc.perform(get("/orders").param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.summaries[0].id", is(1)))
+                .andExpect(jsonPath("$.summaries[0].totalAmount", is(300.0)))
+                .andExpect(jsonPath("$.summaries[0].user").doesNotExist())
+                .andExpect(jsonPath("$.next").doesNotExist());
+        mockMvc.perform(get("/orders/user/1").param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.summaries[0].status", is("PENDING")));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 보기 조회 시 400")
+    void testGetOrdersWithUnknownView() throws Exception {
+        mockMvc.perform(get("/orders").param("view", "compact"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Unknown view: compact"));
+    }
+
+    @Test
+    @DisplayName("요약 보기 페이지 조회 테스트 - 토큰을 디코딩하고 limit을 최대 크기로 제한")
+    void testGetOrderSummariesWithPaging() throws Exception {
+        // Given: Mocking service layer
+        OrderSummary summary = new OrderSummary();
+        summary.setId(11L);
+        Mockito.when(orderService.getOrderSummariesByUserId(1L, 10L, 100))
+                .thenReturn(OrderSummaryPage.of(Collections.singletonList(summary), true));
+
+        // When & Then: next 토큰은 전체 보기와 같은 형식
+        mockMvc.perform(get("/orders/user/1")
+                        .param("view", "summary")
+                        .param("after", OrderPage.encodeToken(10L))
+                        .param("limit", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.summaries[0].id", is(11)))
+                .andExpect(jsonPath("$.next", is(OrderPage.encodeToken(11L))));
+    }
+
+    @Test
+    @DisplayName("매출 집계 조회 테스트")
+    void testGetRevenue() throws Exception {
+        // Given: Mocking service layer
+        RevenueBucket bucket = new RevenueBucket();
+        bucket.setKey("PENDING");
+        bucket.setOrderCount(2L);
+        bucket.setRevenue(3400.0);
+        Mockito.when(orderService.getRevenue(RevenueGroup.STATUS,
+                        LocalDateTime.parse("2024-01-01T00:00"), LocalDateTime.parse("2024-12-31T23:59")))
+                .thenReturn(Collections.singletonList(bucket));
+
+        // When & Then: 집계 결과만 반환
+        mockMvc.perform(get("/orders/revenue/status")
+                        .param("startDate", "2024-01-01T00:00")
+                        .param("endDate", "2024-12-31T23:59"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].key", is("PENDING")))
+                .andExpect(jsonPath("$[0].orderCount", is(2)))
+                .andExpect(jsonPath("$[0].revenue", is(3400.0)));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 집계 기준은 400")
+    void testGetRevenueWithUnknownGrouping() throws Exception {
+        mockMvc.perform(get("/orders/revenue/region")
+                        .param("startDate", "2024-01-01T00:00")
+                        .param("endDate", "2024-12-31T23:59"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Unknown revenue grouping: region"));
+    }
 }
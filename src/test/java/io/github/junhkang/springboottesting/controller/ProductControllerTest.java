@@ -1,6 +1,9 @@
 package io.github.junhkang.springboottesting.controller;
 
 import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.ProductImportReport;
+import io.github.junhkang.springboottesting.domain.ProductImportRow;
+import io.github.junhkang.springboottesting.domain.ProductNameMatch;
 import io.github.junhkang.springboottesting.service.ProductService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,11 +14,16 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -81,4 +89,59 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.id", is(1)))
                 .andExpect(jsonPath("$.name", is("New Product")));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("CSV 대량 상품 등록 테스트 - 본문을 한 줄씩 서비스에 전달")
+    void testImportProductsCsv() throws Exception {
+        // Given: 서비스가 전달받은 행을 모아 두고 건수만 보고
+        List<ProductImportRow> received = new ArrayList<>();
+        Mockito.when(productService.importProducts(any())).thenAnswer(invocation -> {
+            Iterator<ProductImportRow> rows = invocation.getArgument(0);
+            rows.forEachRemaining(received::add);
+            ProductImportReport report = new ProductImportReport();
+            report.setImported(received.size());
+            return report;
+        });
+
+        // When & Then
+        mockMvc.perform(post("/products/import")
+                        .contentType("text/csv")
+                        .content("name,price,stock\n\"Desk, oak\",120.5,3\nLamp,15,10\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", is(2)));
+        assertThat(received).extracting(row -> row.getProduct().getName()).containsExactly("Desk, oak", "Lamp");
+        assertThat(received.get(0).getLine()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식의 대량 상품 등록은 415를 반환한다")
+    void testImportProductsUnsupportedMediaType() throws Exception {
+        mockMvc.perform(post("/products/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
+    @Test
+    @DisplayName("상품 이름 검색 테스트 - match/limit 전달")
+    void testSearchProducts() throws Exception {
+        // Given
+        Product product = new Product();
+        product.setId(1L);
+        product.setName("Oak Desk");
+        Mockito.when(productService.searchProducts(eq("oak"), eq(ProductNameMatch.TOKEN), eq(100)))
+                .thenReturn(Collections.singletonList(product));
+
+        // When & Then: limit은 max-limit(100)으로 잘림
+        mockMvc.perform(get("/products/search").param("q", "oak").param("match", "token").param("limit", "500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name", is("Oak Desk")));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 검색 방식은 400을 반환한다")
+    void testSearchProductsUnknownMatch() throws Exception {
+        mockMvc.perform(get("/products/search").param("q", "oak").param("match", "fuzzy"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -69,6 +69,25 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.username", is("test_user")));
     }
 
+    /**
+     * username으로 사용자 조회 테스트
+     */
+    @Test
+    @DisplayName("username으로 사용자 조회 테스트")
+    void testGetUserByUsername() throws Exception {
+        // Given: Mocking the service layer
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("test_user");
+        Mockito.when(userService.getUserByUsername("test_user")).thenReturn(user);
+
+        // When & Then: GET 요청을 수행하고 응답을 검증
+        mockMvc.perform(get("/users/by-username/test_user"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(1)))
+                .andExpect(jsonPath("$.username", is("test_user")));
+    }
+
     /**
      * 사용자 생성 테스트
      */
@@ -9,6 +9,8 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -52,4 +54,18 @@ class GlobalExceptionHandlerTest {
                 .andExpect(content().string("Invalid input"));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("DataIntegrityViolationException 처리 테스트")
+    void testHandleDataIntegrityViolationException() throws Exception {
+        // Given: 중복 username으로 유니크 제약 위반
+        when(userService.createUser(Mockito.any(User.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_users_username"));
+
+        // When & Then: 409 상태 코드와 고정 메시지를 반환 (제약 이름 등 내부 정보는 노출하지 않음)
+        mockMvc.perform(post("/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"john_doe\",\"email\":\"john@example.com\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(content().string("Request conflicts with existing data."));
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.junhkang.springboottesting.id;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderLine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("TimeOrderedIdGenerator 테스트")
+class TimeOrderedIdGeneratorTest {
+
+    @Test
+    @DisplayName("ID에 노드 ID와 시각이 인코딩된다")
+    void testIdLayout() {
+        // Given: 노드 7, 고정된 시각
+        long now = TimeOrderedIdGenerator.EPOCH + 1_000;
+        TimeOrderedIdGenerator generator = new FixedClockGenerator(7, now);
+
+        // When
+        long id = generator.nextId();
+
+        // Then
+        assertThat(id >>> 22).isEqualTo(1_000);
+        assertThat((id >>> 12) & TimeOrderedIdGenerator.MAX_NODE_ID).isEqualTo(7);
+        assertThat(id & TimeOrderedIdGenerator.MAX_SEQUENCE).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 밀리초의 시퀀스를 모두 쓰거나 시계가 뒤로 가도 ID는 계속 증가한다")
+    void testMonotonicUnderSequenceOverflowAndClockRollback() {
+        // Given: 시각이 고정된 생성기
+        FixedClockGenerator generator = new FixedClockGenerator(1, TimeOrderedIdGenerator.EPOCH + 5_000);
+
+        // When: 한 밀리초의 시퀀스(4096개)를 넘게 발급하고, 시계를 되돌린 뒤 다시 발급
+        long previous = -1;
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+        generator.now -= 60_000;
+        long afterRollback = generator.nextId();
+
+        // Then
+        assertThat(afterRollback).isGreaterThan(previous);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 발급해도 ID가 중복되지 않는다")
+    void testConcurrentUniqueness() throws InterruptedException {
+        // Given
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(3);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When: 8개 스레드가 각각 25,000개씩 발급
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 25_000; i++) {
+                    ids.add(generator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        assertThat(ids).hasSize(200_000);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 노드 ID는 거부된다")
+    void testInvalidNodeId() {
+        assertThrows(IllegalArgumentException.class, () -> new TimeOrderedIdGenerator(1024));
+        assertThrows(IllegalArgumentException.class, () -> new TimeOrderedIdGenerator(-1));
+    }
+
+    @Test
+    @DisplayName("ID는 기본적으로 숫자로, id.json-as-string 모듈을 켜면 문자열로 직렬화되고 요청에서는 둘 다 읽힌다")
+    void testIdsExceedJavaScriptSafeIntegerAndSerializeAsStringsWhenEnabled() throws Exception {
+        // Given: 현재 시각으로 발급한 ID는 JavaScript의 Number.MAX_SAFE_INTEGER를 넘음
+        long id = new TimeOrderedIdGenerator(1).nextId();
+        assertThat(id).isGreaterThan((1L << 53) - 1);
+        Order order = new Order();
+        order.setId(id);
+        order.setQuantity(2);
+        ObjectMapper defaultMapper = new ObjectMapper().findAndRegisterModules();
+        ObjectMapper stringIdMapper = new ObjectMapper().findAndRegisterModules().registerModule(new TimeOrderedIdJsonModule());
+
+        // When
+        JsonNode numeric = defaultMapper.readTree(defaultMapper.writeValueAsString(order));
+        JsonNode textual = stringIdMapper.readTree(stringIdMapper.writeValueAsString(order));
+
+        // Then: 기본은 숫자, 모듈을 켜면 ID만 문자열
+        assertThat(numeric.get("id").isNumber()).isTrue();
+        assertThat(numeric.get("id").asLong()).isEqualTo(id);
+        assertThat(textual.get("id").isTextual()).isTrue();
+        assertThat(textual.get("id").asText()).isEqualTo(Long.toString(id));
+        assertThat(textual.get("quantity").isNumber()).isTrue();
+
+        // Then: 요청으로 받을 때는 문자열과 숫자 모두 같은 값으로 읽힘
+        assertThat(stringIdMapper.readValue(textual.toString(), Order.class).getId()).isEqualTo(id);
+        assertThat(defaultMapper.readValue("{\"userId\": \"" + id + "\", \"productId\": " + id + "}", OrderLine.class))
+                .extracting(OrderLine::getUserId, OrderLine::getProductId)
+                .containsExactly(id, id);
+    }
+
+    private static class FixedClockGenerator extends TimeOrderedIdGenerator {
+        private long now;
+
+        FixedClockGenerator(int nodeId, long now) {
+            super(nodeId);
+            this.now = now;
+        }
+
+        @Override
+        long currentTimeMillis() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package io.github.junhkang.springboottesting.id;
+
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderDTO;
+import io.github.junhkang.springboottesting.domain.OrderStatus;
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.User;
+import io.github.junhkang.springboottesting.repository.mybatis.OrderMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: TimeOrderedIdInsertBenchmarkTest
+ *
+ * 주문 100만 건을 IDENTITY 방식(행마다 INSERT 후 생성된 키를 받아옴)과 미리 발급한 시간순 ID로 배치 INSERT하는
+ * 방식(JPA persist, MyBatis BATCH 실행기)으로 각각 적재해 걸린 시간을 비교합니다.
+ * IDENTITY 방식은 같은 컬럼의 AUTO_INCREMENT 테이블에 JDBC로 재현합니다. (Hibernate도 IDENTITY에서는 행마다 같은 왕복을 함)
+ *
+ * -Dbenchmark=true로 실행할 때만 수행하고, 행 수는 -Did.benchmark.rows로 바꿀 수 있습니다.
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("jpa")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("시간순 ID INSERT 벤치마크")
+class TimeOrderedIdInsertBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("id.benchmark.rows", 1_000_000);
+    private static final int CHUNK = 1000;
+    private static final LocalDateTime ORDER_DATE = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private long userId;
+    private long productId;
+
+    @BeforeEach
+    void setUp() {
+        userId = TimeOrderedIdGenerator.shared().nextId();
+        productId = TimeOrderedIdGenerator.shared().nextId();
+        jdbcTemplate.update("INSERT INTO users (id, username, email) VALUES (?, 'id_benchmark_user', 'id.benchmark@example.com')", userId);
+        jdbcTemplate.update("INSERT INTO product (id, name, description, price, stock, version) VALUES (?, 'Id Benchmark Product', '', 10.0, 0, 0)", productId);
+        jdbcTemplate.execute("CREATE TABLE orders_identity (id BIGINT AUTO_INCREMENT PRIMARY KEY, order_date TIMESTAMP, "
+                + "user_id BIGINT, product_id BIGINT, quantity INT, status VARCHAR(20), total_amount DOUBLE)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE orders_identity");
+        jdbcTemplate.update("DELETE FROM orders WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM product WHERE id = ?", productId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    @DisplayName("100만 건 주문 INSERT: IDENTITY vs 시간순 ID 배치")
+    void benchmarkInsertOneMillionOrders() {
+        // When: IDENTITY 방식 - 행마다 INSERT하고 생성된 키를 받아옴
+        long identity = timeInChunks(i -> {
+            GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement("INSERT INTO orders_identity "
+                        + "(order_date, user_id, product_id, quantity, status, total_amount) VALUES (?, ?, ?, 1, 'PENDING', 10.0)",
+                        Statement.RETURN_GENERATED_KEYS);
+                statement.setTimestamp(1, Timestamp.valueOf(ORDER_DATE));
+                statement.setLong(2, userId);
+                statement.setLong(3, productId);
+                return statement;
+            }, keyHolder);
+        }, () -> { });
+
+        // When: JPA - 시간순 ID를 미리 받아 Hibernate JDBC 배치로 INSERT
+        long jpa = timeInChunks(i -> {
+            Order order = new Order();
+            order.setOrderDate(ORDER_DATE);
+            order.setUser(entityManager.getReference(User.class, userId));
+            order.setProduct(entityManager.getReference(Product.class, productId));
+            order.setQuantity(1);
+            order.setStatus(OrderStatus.PENDING);
+            order.setTotalAmount(10.0);
+            entityManager.persist(order);
+        }, () -> {
+            entityManager.flush();
+            entityManager.clear();
+        });
+        jdbcTemplate.update("DELETE FROM orders WHERE user_id = ?", userId);
+
+        // When: MyBatis - IdAssigningInterceptor가 채운 ID로 BATCH 실행기에서 INSERT
+        SqlSessionTemplate batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        OrderMapper batchMapper = batchSqlSession.getMapper(OrderMapper.class);
+        long myBatis = timeInChunks(i -> {
+            OrderDTO order = new OrderDTO();
+            order.setOrderDate(ORDER_DATE);
+            order.setUserId(userId);
+            order.setProductId(productId);
+            order.setQuantity(1);
+            order.setStatus("PENDING");
+            order.setTotalAmount(10.0);
+            batchMapper.insert(order);
+        }, batchSqlSession::flushStatements);
+
+        // Then
+        log.info("{} orders - IDENTITY row by row: {} ms, JPA batched time-ordered ids: {} ms, MyBatis batched time-ordered ids: {} ms",
+                ROWS, identity, jpa, myBatis);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders_identity", Long.class)).isEqualTo(ROWS);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders WHERE user_id = ?", Long.class, userId)).isEqualTo(ROWS);
+    }
+
+    // CHUNK건마다 별도 트랜잭션으로 커밋하면서 전체 걸린 시간(ms)을 잰다
+    private long timeInChunks(IntConsumer insert, Runnable endOfChunk) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long start = System.nanoTime();
+        for (int from = 0; from < ROWS; from += CHUNK) {
+            int to = Math.min(from + CHUNK, ROWS);
+            int first = from;
+            transaction.executeWithoutResult(status -> {
+                for (int i = first; i < to; i++) {
+                    insert.accept(i);
+                }
+                endOfChunk.run();
+            });
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.junhkang.springboottesting.service.amount;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: OrderTotalCacheTest
+ *
+ * 시간을 직접 조정할 수 있는 캐시로 적중/무효화/TTL과, 조회 도중 무효화된 값이 저장되지 않는지 검증합니다.
+ */
+@DisplayName("OrderTotalCache 테스트")
+class OrderTotalCacheTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("두 번째 조회는 loader를 호출하지 않고 캐시에서 반환한다")
+    void testSecondReadIsHit() {
+        // Given
+        ManualClockCache cache = new ManualClockCache(60, 10);
+        TableLoader loader = new TableLoader(Map.of(1L, 300.0));
+
+        // When
+        cache.get(1L, loader);
+        Double second = cache.get(1L, loader);
+
+        // Then
+        assertThat(second).isEqualTo(300.0);
+        assertThat(loader.calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("orders.total.cache.gets").tag("result", "hit").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("무효화된 주문만 다시 읽어 바뀐 총액을 반환한다")
+    void testInvalidateOnlyAffectsThatOrder() {
+        // Given: 주문 두 건 캐시
+        ManualClockCache cache = new ManualClockCache(60, 10);
+        TableLoader loader = new TableLoader(Map.of(1L, 300.0, 2L, 50.0));
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+
+        // When: 주문 1의 수량 변경 후 무효화
+        loader.totals.put(1L, 500.0);
+        cache.invalidate(1L);
+
+        // Then: 주문 1만 다시 읽음
+        assertThat(cache.get(1L, loader)).isEqualTo(500.0);
+        assertThat(cache.get(2L, loader)).isEqualTo(50.0);
+        assertThat(loader.calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 읽은 총액은 저장되지 않는다")
+    void testLoadRacingInvalidationIsDiscarded() {
+        // Given: 읽는 사이에 수량 변경이 커밋되어 무효화되는 상황
+        ManualClockCache cache = new ManualClockCache(60, 10);
+        TableLoader loader = new TableLoader(Map.of(1L, 300.0));
+        Function<Long, Double> racingLoader = orderId -> {
+            Double stale = loader.apply(orderId);
+            loader.totals.put(orderId, 500.0);
+            cache.invalidate(orderId);
+            return stale;
+        };
+
+        // When
+        assertThat(cache.get(1L, racingLoader)).isEqualTo(300.0);
+
+        // Then: 오래된 값 대신 다시 읽은 값
+        assertThat(cache.get(1L, loader)).isEqualTo(500.0);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 다시 읽는다")
+    void testEntryExpiresAfterTtl() {
+        // Given
+        ManualClockCache cache = new ManualClockCache(60, 10);
+        TableLoader loader = new TableLoader(Map.of(1L, 300.0));
+        cache.get(1L, loader);
+
+        // When: TTL 경과
+        cache.now += TimeUnit.SECONDS.toNanos(61);
+        cache.get(1L, loader);
+
+        // Then
+        assertThat(loader.calls.get()).isEqualTo(2);
+    }
+
+    private class ManualClockCache extends OrderTotalCache {
+        long now = 0;
+
+        ManualClockCache(long ttlSeconds, int maxSize) {
+            super(meterRegistry, ttlSeconds, maxSize);
+        }
+
+        @Override
+        long nanoTime() {
+            return now;
+        }
+    }
+
+    private static class TableLoader implements Function<Long, Double> {
+        final AtomicInteger calls = new AtomicInteger();
+        final Map<Long, Double> totals;
+
+        TableLoader(Map<Long, Double> totals) {
+            this.totals = new HashMap<>(totals);
+        }
+
+        @Override
+        public Double apply(Long orderId) {
+            calls.incrementAndGet();
+            return totals.get(orderId);
+        }
+    }
+}
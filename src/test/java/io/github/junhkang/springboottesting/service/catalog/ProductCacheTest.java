@@ -0,0 +1,184 @@
+package io.github.junhkang.springboottesting.service.catalog;
+
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 테스트 클래스: ProductCacheTest
+ *
+ * 트랜잭션 밖에서 캐시를 직접 사용해 적중/write-through/재고 변경/TTL과 빈도 기반 입장 정책을 검증합니다.
+ */
+@DisplayName("ProductCache 테스트")
+class ProductCacheTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("두 번째 조회는 DB를 읽지 않고 캐시의 사본을 반환한다")
+    void testSecondReadIsHit() {
+        // Given
+        TableCache cache = new TableCache(100, 60);
+        cache.rows.put(1L, product(1L, 10));
+
+        // When
+        Product first = cache.get(1L);
+        first.setStock(0);
+        Product second = cache.get(1L);
+
+        // Then: 반환 객체를 바꿔도 캐시된 값은 그대로
+        assertThat(second.getStock()).isEqualTo(10);
+        assertThat(cache.loads.get()).isEqualTo(1);
+        assertThat(cache.hitRatio()).isEqualTo(0.5);
+        assertThat(meterRegistry.get("products.cache.load").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("없는 상품은 ResourceNotFoundException을 던진다")
+    void testMissingProductThrows() {
+        TableCache cache = new TableCache(100, 60);
+
+        assertThatThrownBy(() -> cache.get(99L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("99");
+    }
+
+    @Test
+    @DisplayName("생성한 상품은 write-through로 저장되어 첫 조회부터 적중한다")
+    void testPutWritesThrough() {
+        // Given
+        TableCache cache = new TableCache(100, 60);
+
+        // When
+        cache.put(product(1L, 5));
+
+        // Then
+        assertThat(cache.get(1L).getStock()).isEqualTo(5);
+        assertThat(cache.loads.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 재고 변경은 항목을 제거해 다음 조회가 DB 값을 읽는다")
+    void testAdjustStockOutsideTransactionInvalidates() {
+        // Given
+        TableCache cache = new TableCache(100, 60);
+        cache.rows.put(1L, product(1L, 10));
+        cache.get(1L);
+
+        // When: 재고 3개 차감
+        cache.rows.get(1L).setStock(7);
+        cache.adjustStock(1L, -3);
+
+        // Then
+        assertThat(cache.get(1L).getStock()).isEqualTo(7);
+        assertThat(cache.loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 읽은 상품은 저장되지 않는다")
+    void testLoadRacingInvalidationIsDiscarded() {
+        // Given: 읽는 사이에 재고 변경이 반영되는 상황
+        TableCache cache = new TableCache(100, 60);
+        cache.rows.put(1L, product(1L, 10));
+        cache.onLoad = () -> cache.invalidate(1L);
+
+        // When
+        cache.get(1L);
+        cache.onLoad = () -> { };
+
+        // Then: 오래된 값이 남지 않아 다시 읽음
+        cache.get(1L);
+        assertThat(cache.loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 다시 읽는다")
+    void testEntryExpiresAfterTtl() {
+        // Given
+        TableCache cache = new TableCache(100, 60);
+        cache.rows.put(1L, product(1L, 10));
+        cache.get(1L);
+
+        // When: TTL 경과
+        cache.now += TimeUnit.SECONDS.toNanos(61);
+        cache.get(1L);
+
+        // Then
+        assertThat(cache.loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("자주 조회된 상품은 한 번씩 훑는 조회에 밀려나지 않는다")
+    void testFrequentEntriesSurviveScan() {
+        // Given: 상품 1~50을 여러 번 조회해 빈도를 쌓음
+        TableCache cache = new TableCache(100, 60);
+        for (long id = 1; id <= 400; id++) {
+            cache.rows.put(id, product(id, 1));
+        }
+        for (int round = 0; round < 5; round++) {
+            for (long id = 1; id <= 50; id++) {
+                cache.get(id);
+            }
+        }
+
+        // When: 한 번씩만 쓰이는 상품을 대량으로 조회
+        for (long id = 51; id <= 400; id++) {
+            cache.get(id);
+        }
+        int loadsBefore = cache.loads.get();
+        for (long id = 1; id <= 50; id++) {
+            cache.get(id);
+        }
+        int reloaded = cache.loads.get() - loadsBefore;
+
+        // Then: 크기는 한도 안이고, 인기 상품 대부분이 남아 있음
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+        assertThat(reloaded).isLessThanOrEqualTo(5);
+        assertThat(meterRegistry.get("products.cache.evictions").counter().count()).isPositive();
+    }
+
+    private static Product product(Long id, int stock) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName("Product " + id);
+        product.setPrice(100.0);
+        product.setStock(stock);
+        product.setVersion(0L);
+        return product;
+    }
+
+    private class TableCache extends ProductCache {
+        final Map<Long, Product> rows = new HashMap<>();
+        final AtomicInteger loads = new AtomicInteger();
+        Runnable onLoad = () -> { };
+        long now = 0;
+
+        TableCache(int maxSize, long ttlSeconds) {
+            super(meterRegistry, maxSize, ttlSeconds);
+        }
+
+        @Override
+        protected Product load(Long productId) {
+            loads.incrementAndGet();
+            Product row = rows.get(productId);
+            onLoad.run();
+            return row == null ? null : product(row.getId(), row.getStock());
+        }
+
+        @Override
+        long nanoTime() {
+            return now;
+        }
+    }
+}
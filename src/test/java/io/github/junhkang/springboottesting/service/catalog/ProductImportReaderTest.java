@@ -0,0 +1,95 @@
+package io.github.junhkang.springboottesting.service.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.junhkang.springboottesting.domain.ProductImportRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: ProductImportReaderTest
+ *
+ * CSV/NDJSON 본문을 줄 번호와 함께 상품 또는 오류 행으로 읽는지 검증합니다.
+ */
+@DisplayName("ProductImportReader 테스트")
+class ProductImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("CSV 헤더의 열 순서를 따르고 따옴표로 감싼 값을 읽는다")
+    void testCsvFollowsHeaderAndQuotes() {
+        // Given
+        String body = "stock,price,name,description\n"
+                + "3,120.5,\"Desk, oak\",\"Says \"\"hi\"\"\"\n"
+                + "\n"
+                + "10,15,Lamp,\n";
+
+        // When
+        List<ProductImportRow> rows = read(body, ProductImportReader.Format.CSV);
+
+        // Then: 빈 줄은 건너뛰고 줄 번호는 본문 기준
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).getLine()).isEqualTo(2);
+        assertThat(rows.get(0).getProduct().getName()).isEqualTo("Desk, oak");
+        assertThat(rows.get(0).getProduct().getDescription()).isEqualTo("Says \"hi\"");
+        assertThat(rows.get(0).getProduct().getPrice()).isEqualTo(120.5);
+        assertThat(rows.get(0).getProduct().getStock()).isEqualTo(3);
+        assertThat(rows.get(1).getLine()).isEqualTo(4);
+        assertThat(rows.get(1).getProduct().getName()).isEqualTo("Lamp");
+    }
+
+    @Test
+    @DisplayName("CSV 숫자 형식 오류와 닫히지 않은 따옴표는 오류 행으로 반환한다")
+    void testCsvMalformedRowsAreReported() {
+        // Given
+        String body = "name,price,stock\n"
+                + "Chair,abc,1\n"
+                + "Table,10,many\n"
+                + "\"Sofa,10,1\n"
+                + "Shelf,20,2\n";
+
+        // When
+        List<ProductImportRow> rows = read(body, ProductImportReader.Format.CSV);
+
+        // Then: 잘못된 줄 이후도 계속 읽음
+        assertThat(rows).extracting(ProductImportRow::getError).containsExactly(
+                "Invalid price: abc",
+                "Invalid stock: many",
+                "Malformed CSV: unterminated quote.",
+                null);
+        assertThat(rows.get(3).getProduct().getName()).isEqualTo("Shelf");
+    }
+
+    @Test
+    @DisplayName("NDJSON은 줄마다 상품을 읽고 id/version은 무시한다")
+    void testNdjsonIgnoresIdAndVersion() {
+        // Given
+        String body = "{\"id\": 7, \"name\": \"Desk\", \"price\": 120.5, \"stock\": 3, \"version\": 4}\n"
+                + "{not json}\n";
+
+        // When
+        List<ProductImportRow> rows = read(body, ProductImportReader.Format.NDJSON);
+
+        // Then
+        assertThat(rows.get(0).getProduct().getName()).isEqualTo("Desk");
+        assertThat(rows.get(0).getProduct().getId()).isNull();
+        assertThat(rows.get(0).getProduct().getVersion()).isNull();
+        assertThat(rows.get(1).getLine()).isEqualTo(2);
+        assertThat(rows.get(1).getError()).startsWith("Malformed JSON");
+    }
+
+    private List<ProductImportRow> read(String body, ProductImportReader.Format format) {
+        ProductImportReader reader = new ProductImportReader(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format, objectMapper);
+        List<ProductImportRow> rows = new ArrayList<>();
+        reader.forEachRemaining(rows::add);
+        return rows;
+    }
+}
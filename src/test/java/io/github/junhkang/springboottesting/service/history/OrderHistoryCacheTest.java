@@ -0,0 +1,218 @@
+package io.github.junhkang.springboottesting.service.history;
+
+import io.github.junhkang.springboottesting.domain.Order;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: OrderHistoryCacheTest
+ *
+ * 시간을 직접 조정할 수 있는 캐시로 적중/무효화/TTL/최대 크기와 메트릭, 그리고 트랜잭션 커밋 시점 저장을 검증합니다.
+ */
+@DisplayName("OrderHistoryCache 테스트")
+class OrderHistoryCacheTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("두 번째 조회는 loader를 호출하지 않고 캐시에서 반환한다")
+    void testSecondReadIsHit() {
+        // Given
+        ManualClockCache cache = new ManualClockCache(60, 10);
+        CountingLoader loader = new CountingLoader();
+
+        // When
+        List<Order> first = cache.get(1L, loader);
+        List<Order> second = cache.get(1L, loader);
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        assertThat(loader.calls.get()).isEqualTo(1);
+        assertThat(count("hit")).isEqualTo(1.0);
+        assertThat(count("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("캐시 적중 시 복사본을 반환하므로 반환된 주문을 바꿔도 캐시는 그대로다")
+    void testHitsReturnCopies() {
+        // Given
+        ManualClockCache cache = new ManualClockCache(60, 10);
+        CountingLoader loader = new CountingLoader();
+        List<Order> loaded = cache.get(1L, loader);
+
+        // When: 적중으로 받은 주문과 처음 읽은 주문을 모두 수정
+        List<Order> hit = cache.get(1L, loader);
+        hit.get(0).setQuantity(99);
+        loaded.get(0).setQuantity(42);
+
+        // Then: 다음 적중은 loader가 읽은 원래 값을 반환
+        List<Order> next = cache.get(1L, loader);
+        assertThat(next.get(0)).isNotSameAs(hit.get(0));
+        assertThat(next.get(0).getQuantity()).isEqualTo(1);
+        assertThat(loader.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화된 사용자만 다시 읽고, 이때 사용자 존재 확인은 생략 가능하다고 알려준다")
+    void testInvalidateOnlyAffectsThatUser() {
+        // Given: 두 사용자 캐시
+        ManualClockCache cache = new ManualClockCache(60, 10);
+        CountingLoader loader = new CountingLoader();
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+
+        // When: 사용자 1만 무효화 후 다시 조회
+        cache.invalidate(1L);
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+
+        // Then: 사용자 1만 다시 읽었고, 그때 userKnown = true
+        assertThat(loader.calls.get()).isEqualTo(3);
+        assertThat(loader.knownFlags).containsExactly(false, false, true);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 다시 읽고 제거 수를 기록한다")
+    void testEntryExpiresAfterTtl() {
+        // Given
+        ManualClockCache cache = new ManualClockCache(60, 10);
+        CountingLoader loader = new CountingLoader();
+        cache.get(1L, loader);
+
+        // When: TTL 경과
+        cache.now += TimeUnit.SECONDS.toNanos(61);
+        cache.get(1L, loader);
+
+        // Then: 만료 후에는 존재 여부도 모르는 상태로 다시 읽음
+        assertThat(loader.knownFlags).containsExactly(false, false);
+        assertThat(meterRegistry.get("orders.history.cache.evictions").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("최대 사용자 수를 넘으면 가장 먼저 들어온 사용자부터 제거된다")
+    void testOldestEntryIsEvictedWhenFull() {
+        // Given: 최대 2명
+        ManualClockCache cache = new ManualClockCache(60, 2);
+        CountingLoader loader = new CountingLoader();
+
+        // When: 3명 조회
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+        cache.get(3L, loader);
+
+        // Then
+        assertThat(cache.size()).isEqualTo(2);
+        cache.get(1L, loader);
+        assertThat(loader.calls.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 읽은 목록은 커밋 후에만 저장되고, 그 사이 무효화되면 버려진다")
+    void testStoreWaitsForCommitAndLosesToInvalidation() {
+        // Given
+        ManualClockCache cache = new ManualClockCache(60, 10);
+        CountingLoader loader = new CountingLoader();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When: 트랜잭션 안에서 조회 → 커밋 전 다른 쓰기가 무효화
+            cache.get(1L, loader);
+            assertThat(cache.size()).isZero();
+            cache.invalidate(1L);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then: 오래된 목록 대신 무효화 표시만 남아 다음 조회는 다시 읽음
+        cache.get(1L, loader);
+        assertThat(loader.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 시각에 두 번 무효화되어도 조회 도중 무효화된 목록은 저장되지 않는다")
+    void testLoadRacingInvalidationIsDiscarded() {
+        // Given: 트랜잭션 밖에서 읽는 사이에 무효화가 (즉시 + 커밋 후) 두 번 일어남
+        ManualClockCache cache = new ManualClockCache(60, 10);
+        CountingLoader loader = new CountingLoader();
+        BiFunction<Long, Boolean, List<Order>> racingLoader = (userId, userKnown) -> {
+            List<Order> stale = loader.apply(userId, userKnown);
+            cache.invalidate(userId);
+            return stale;
+        };
+
+        // When
+        cache.get(1L, racingLoader);
+        cache.get(1L, loader);
+
+        // Then: 두 번째 조회는 캐시가 아닌 loader에서 읽음
+        assertThat(loader.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("사용자 존재 확인은 캐시에 항목이 있으면 생략하고, 확인된 사용자만 기억한다")
+    void testIsKnownUserRemembersConfirmedUsers() {
+        // Given: 사용자 1은 목록이 캐시되어 있음
+        ManualClockCache cache = new ManualClockCache(60, 10);
+        cache.get(1L, new CountingLoader());
+        List<Long> checked = new ArrayList<>();
+
+        // When
+        boolean cached = cache.isKnownUser(1L, id -> checked.add(id) && false);
+        boolean confirmed = cache.isKnownUser(2L, checked::add);
+        boolean confirmedAgain = cache.isKnownUser(2L, id -> checked.add(id) && false);
+        boolean missing = cache.isKnownUser(3L, id -> !checked.add(id));
+
+        // Then: 사용자 2와 3만 확인했고, 존재하지 않는 사용자 3은 기억하지 않음
+        assertThat(cached).isTrue();
+        assertThat(confirmed).isTrue();
+        assertThat(confirmedAgain).isTrue();
+        assertThat(missing).isFalse();
+        assertThat(checked).containsExactly(2L, 3L);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("orders.history.cache.gets").tag("result", result).counter().count();
+    }
+
+    private class ManualClockCache extends OrderHistoryCache {
+        long now = 0;
+
+        ManualClockCache(long ttlSeconds, int maxUsers) {
+            super(meterRegistry, ttlSeconds, maxUsers);
+        }
+
+        @Override
+        long nanoTime() {
+            return now;
+        }
+    }
+
+    private static class CountingLoader implements BiFunction<Long, Boolean, List<Order>> {
+        final AtomicInteger calls = new AtomicInteger();
+        final List<Boolean> knownFlags = new ArrayList<>();
+
+        @Override
+        public List<Order> apply(Long userId, Boolean userKnown) {
+            calls.incrementAndGet();
+            knownFlags.add(userKnown);
+            Order order = new Order();
+            order.setId(userId * 100);
+            order.setQuantity(1);
+            return List.of(order);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.junhkang.springboottesting.service.idempotency;
+
+import io.github.junhkang.springboottesting.exception.IdempotencyKeyMismatchException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 테스트 클래스: IdempotencyCacheTest
+ *
+ * 시간을 직접 조정할 수 있는 캐시로 TTL 만료와 최대 크기 제한을 검증합니다.
+ */
+@DisplayName("IdempotencyCache 테스트")
+class IdempotencyCacheTest {
+
+    @Test
+    @DisplayName("TTL이 지난 키는 조회되지 않는다")
+    void testEntryExpiresAfterTtl() {
+        // Given: TTL 60초
+        ManualClockCache cache = new ManualClockCache(60, 10);
+        cache.put("key", 1L, "hash");
+
+        // When & Then: 59초 후에는 조회되고, 61초 후에는 만료
+        cache.now += TimeUnit.SECONDS.toNanos(59);
+        assertThat(cache.get("key", "hash")).isEqualTo(1L);
+        cache.now += TimeUnit.SECONDS.toNanos(2);
+        assertThat(cache.get("key", "hash")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 먼저 들어온 키부터 제거된다")
+    void testOldestEntryIsEvictedWhenFull() {
+        // Given: 최대 2개
+        ManualClockCache cache = new ManualClockCache(60, 2);
+
+        // When: 3개 저장
+        cache.put("a", 1L, "hash");
+        cache.put("b", 2L, "hash");
+        cache.put("c", 3L, "hash");
+
+        // Then: 첫 번째 키만 제거됨
+        assertThat(cache.get("a", "hash")).isNull();
+        assertThat(cache.get("b", "hash")).isEqualTo(2L);
+        assertThat(cache.get("c", "hash")).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("새 키를 저장할 때 만료된 키도 함께 정리된다")
+    void testPutPurgesExpiredEntries() {
+        // Given: 키 하나 저장 후 TTL 경과
+        ManualClockCache cache = new ManualClockCache(60, 10);
+        cache.put("old", 1L, "hash");
+        cache.now += TimeUnit.SECONDS.toNanos(61);
+
+        // When: 새 키 저장
+        cache.put("new", 2L, "hash");
+
+        // Then: 조회하지 않은 만료 키도 제거됨
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장된 요청 해시와 다른 해시로 조회하면 IdempotencyKeyMismatchException을 던진다")
+    void testGetWithDifferentRequestHashThrows() {
+        // Given
+        ManualClockCache cache = new ManualClockCache(60, 10);
+        cache.put("key", 1L, "hash");
+
+        // When & Then
+        assertThrows(IdempotencyKeyMismatchException.class, () -> cache.get("key", "other-hash"));
+        assertThat(cache.get("key", "hash")).isEqualTo(1L);
+    }
+
+    private static class ManualClockCache extends IdempotencyCache {
+        long now = 0;
+
+        ManualClockCache(long ttlSeconds, int maxSize) {
+            super(ttlSeconds, maxSize);
+        }
+
+        @Override
+        long nanoTime() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.User;
+import io.github.junhkang.springboottesting.repository.jpa.OrderRepository;
+import io.github.junhkang.springboottesting.repository.jpa.ProductRepository;
+import io.github.junhkang.springboottesting.repository.jpa.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: JpaOrderServiceImplConcurrencyTest
+ *
+ * 여러 스레드가 동시에 같은 상품을 주문할 때 JPQL 조건부 재고 차감이
+ * 초과 판매(oversell) 없이 동작하는지 검증합니다.
+ *
+ * @DataJpaTest는 테스트 트랜잭션 하나로 묶여 다른 스레드에서 데이터를 볼 수 없으므로
+ * @SpringBootTest로 실제 트랜잭션을 사용하고, 생성한 데이터는 @AfterEach에서 정리합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("jpa")
+@DisplayName("JpaOrderServiceImpl 동시성 테스트")
+class JpaOrderServiceImplConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int ORDERS = 200;
+    private static final int STOCK = 50;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JpaOrderServiceImpl orderService;
+
+    private User testUser;
+    private Product testProduct;
+    private final Queue<Long> createdOrderIds = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setUsername("concurrency_user");
+        testUser.setEmail("concurrency.user@example.com");
+        userRepository.save(testUser);
+
+        testProduct = new Product();
+        testProduct.setName("Hot Product");
+        testProduct.setDescription("Flash sale product");
+        testProduct.setPrice(10.0);
+        testProduct.setStock(STOCK);
+        productRepository.save(testProduct);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAllById(createdOrderIds);
+        productRepository.deleteById(testProduct.getId());
+        userRepository.deleteById(testUser.getId());
+    }
+
+    @Test
+    @DisplayName("동시 주문 시 재고 이상으로 판매되지 않는다")
+    void testConcurrentCreateOrderNeverOversells() throws InterruptedException {
+        // Given: 재고 50개인 상품에 200건의 주문이 동시에 들어옴
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(ORDERS);
+
+        // When: 16개 스레드가 동시에 1개씩 주문
+        for (int i = 0; i < ORDERS; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+                    createdOrderIds.add(order.getId());
+                    succeeded.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    rejected.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // Then: 정확히 재고 수만큼만 주문이 성공하고 재고는 0이 됨
+        assertThat(succeeded.get()).isEqualTo(STOCK);
+        assertThat(rejected.get()).isEqualTo(ORDERS - STOCK);
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 주문을 동시에 취소해도 한 번만 취소되고 재고도 한 번만 복구된다")
+    void testConcurrentCancelRestoresStockOnce() throws InterruptedException {
+        // Given: 5개 주문 (재고 45)
+        Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 5);
+        createdOrderIds.add(order.getId());
+        AtomicInteger canceled = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+
+        // When: 16개 스레드가 같은 주문을 동시에 취소
+        for (int i = 0; i < THREADS; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    orderService.cancelOrder(order.getId());
+                    canceled.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    rejected.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // Then: 한 요청만 취소에 성공하고 재고는 원래대로 50
+        assertThat(canceled.get()).isEqualTo(1);
+        assertThat(rejected.get()).isEqualTo(THREADS - 1);
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStock()).isEqualTo(STOCK);
+    }
+}
@@ -0,0 +1,155 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderPage;
+import io.github.junhkang.springboottesting.domain.OrderStatus;
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.User;
+import io.github.junhkang.springboottesting.repository.jpa.OrderRepository;
+import io.github.junhkang.springboottesting.repository.jpa.ProductRepository;
+import io.github.junhkang.springboottesting.repository.jpa.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: JpaOrderServiceImplFetchTest
+ *
+ * Order.user / Order.product가 LAZY로 바뀐 뒤에도 주문 조회가 사용자/상품 수와 무관하게
+ * 고정된 수의 SQL만 실행하는지 Hibernate 통계(준비된 구문 수)로 검증합니다. N+1 조회가 다시 생기면 실패합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(JpaOrderServiceImpl.class)
+@ActiveProfiles("jpa")
+@DisplayName("JpaOrderServiceImpl N+1 조회 방지 테스트")
+class JpaOrderServiceImplFetchTest {
+
+    private static final int USERS = 3;
+    private static final int PRODUCTS = 4;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JpaOrderServiceImpl orderService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private final List<User> users = new ArrayList<>();
+    private final List<Order> orders = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // Given: 사용자 3명 x 상품 4개 조합으로 주문 12건 (사용자/상품이 모두 다름)
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            User user = new User();
+            user.setUsername("fetch_user_" + i);
+            user.setEmail("fetch.user" + i + "@example.com");
+            users.add(userRepository.save(user));
+        }
+        for (int i = 0; i < PRODUCTS; i++) {
+            Product product = new Product();
+            product.setName("Fetch Product " + i);
+            product.setPrice(10.0 * (i + 1));
+            product.setStock(100);
+            products.add(productRepository.save(product));
+        }
+        for (User user : users) {
+            for (Product product : products) {
+                Order order = new Order();
+                order.setOrderDate(LocalDateTime.now());
+                order.setUser(user);
+                order.setProduct(product);
+                order.setQuantity(1);
+                order.setStatus(OrderStatus.PENDING);
+                order.setTotalAmount(product.getPrice());
+                orders.add(orderRepository.save(order));
+            }
+        }
+
+        // 영속성 컨텍스트를 비워 조회 시 실제 SQL이 실행되도록 함
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("전체 주문 조회는 1개의 구문만 실행한다")
+    void testGetAllOrders() {
+        assertStatements(1, () -> orderService.getAllOrders());
+    }
+
+    @Test
+    @DisplayName("주문 ID 조회는 1개의 구문만 실행한다")
+    void testGetOrderById() {
+        assertStatements(1, () -> List.of(orderService.getOrderById(orders.get(0).getId())));
+    }
+
+    @Test
+    @DisplayName("사용자별 주문 조회는 사용자 조회 + 주문 조회 2개의 구문만 실행한다")
+    void testGetOrdersByUserId() {
+        assertStatements(2, () -> orderService.getOrdersByUserId(users.get(0).getId()));
+    }
+
+    @Test
+    @DisplayName("날짜 범위 주문 조회는 1개의 구문만 실행한다")
+    void testGetOrdersByDateRange() {
+        assertStatements(1, () -> orderService.getOrdersByDateRange(
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("키셋 페이지 조회는 1개의 구문만 실행한다")
+    void testGetOrdersPage() {
+        assertStatements(1, () -> orderService.getOrders(null, 10).getOrders());
+    }
+
+    @Test
+    @DisplayName("사용자별 키셋 페이지 조회는 사용자 조회 + 주문 조회 2개의 구문만 실행한다")
+    void testGetOrdersByUserIdPage() {
+        assertStatements(2, () -> {
+            OrderPage page = orderService.getOrdersByUserId(users.get(1).getId(), null, 10);
+            return page.getOrders();
+        });
+    }
+
+    /**
+     * 조회 결과의 사용자/상품 필드까지 모두 읽은 뒤 실행된 구문 수를 검증합니다.
+     */
+    private void assertStatements(long expected, Supplier<List<Order>> query) {
+        // When: 조회 후 연관 엔티티의 필드까지 접근 (지연 로딩이 남아 있다면 여기서 추가 SELECT 발생)
+        List<Order> result = query.get();
+        for (Order order : result) {
+            order.getUser().getUsername();
+            order.getProduct().getName();
+        }
+
+        // Then
+        assertThat(result).isNotEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.User;
+import io.github.junhkang.springboottesting.repository.jpa.OrderRepository;
+import io.github.junhkang.springboottesting.repository.jpa.ProductRepository;
+import io.github.junhkang.springboottesting.repository.jpa.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: JpaOrderServiceImplHistoryCacheTest
+ *
+ * JPA 구현에서 사용자별 주문 목록 캐시가 반환하는 주문이 지연 로딩 프록시 없이 JSON으로 직렬화되는지 검증합니다.
+ * 캐시는 커밋된 데이터만 저장하므로 @Transactional을 사용하지 않고, 테스트가 만든 데이터는 @AfterEach에서 직접 정리합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("jpa")
+@DisplayName("JpaOrderServiceImpl 주문 목록 캐시 테스트")
+class JpaOrderServiceImplHistoryCacheTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JpaOrderServiceImpl orderService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User testUser;
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setUsername("jpa_history_user");
+        testUser.setEmail("jpa.history.user@example.com");
+        userRepository.save(testUser);
+
+        testProduct = new Product();
+        testProduct.setName("JPA History Product");
+        testProduct.setDescription("Order history cache product");
+        testProduct.setPrice(10.0);
+        testProduct.setStock(100);
+        productRepository.save(testProduct);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll(orderRepository.findByUser(testUser));
+        productRepository.deleteById(testProduct.getId());
+        userRepository.deleteById(testUser.getId());
+    }
+
+    @Test
+    @DisplayName("무효화 후 다시 읽어 캐시된 목록도 사용자/상품을 포함해 직렬화된다")
+    void testCacheHitSerializesAfterInvalidation() throws Exception {
+        // Given: 목록을 캐시에 적재한 뒤 주문 생성으로 무효화 → 사용자 존재 확인 없이 다시 읽어 캐시에 적재
+        orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+        orderService.getOrdersByUserId(testUser.getId());
+        Order second = orderService.createOrder(testUser.getId(), testProduct.getId(), 2);
+        orderService.getOrdersByUserId(testUser.getId());
+        double hitsBefore = hits();
+
+        // When: 캐시 적중 응답을 JSON으로 직렬화
+        List<Order> cached = orderService.getOrdersByUserId(testUser.getId());
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(cached));
+
+        // Then: 캐시에서 반환했고, 프록시 필드 없이 사용자/상품 값이 채워져 있음
+        assertThat(hits()).isEqualTo(hitsBefore + 1);
+        assertThat(json).hasSize(2);
+        assertThat(json.get(1).get("id").asText()).isEqualTo(second.getId().toString());
+        assertThat(json.get(1).get("user").get("username").asText()).isEqualTo("jpa_history_user");
+        assertThat(json.get(1).get("product").get("name").asText()).isEqualTo("JPA History Product");
+        assertThat(json.get(1).get("user").has("hibernateLazyInitializer")).isFalse();
+    }
+
+    @Test
+    @DisplayName("캐시에서 받은 주문을 바꿔도 다음 조회 결과는 그대로다")
+    void testCachedOrdersAreNotShared() {
+        // Given: 목록을 캐시에 적재
+        orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+        orderService.getOrdersByUserId(testUser.getId());
+
+        // When: 적중으로 받은 주문을 수정
+        orderService.getOrdersByUserId(testUser.getId()).get(0).setQuantity(99);
+
+        // Then
+        assertThat(orderService.getOrdersByUserId(testUser.getId()))
+                .extracting(Order::getQuantity).containsExactly(1);
+    }
+
+    private double hits() {
+        return meterRegistry.get("orders.history.cache.gets").tag("result", "hit").counter().count();
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderStatus;
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.User;
+import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import io.github.junhkang.springboottesting.repository.jpa.OrderRepository;
+import io.github.junhkang.springboottesting.repository.jpa.ProductRepository;
+import io.github.junhkang.springboottesting.repository.jpa.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 테스트 클래스: JpaOrderServiceImplPlacementTest
+ *
+ * orders.placement.single-statement=true일 때 단일 구문 주문 생성이 기존 경로와 같은 결과와 예외를 내는지 검증합니다.
+ */
+@DataJpaTest
+@Import(JpaOrderServiceImpl.class)
+@ActiveProfiles("jpa")
+@TestPropertySource(properties = "orders.placement.single-statement=true")
+@DisplayName("JpaOrderServiceImpl 단일 구문 주문 테스트")
+class JpaOrderServiceImplPlacementTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JpaOrderServiceImpl orderService;
+
+    private User testUser;
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setUsername("placement_user");
+        testUser.setEmail("placement.user@example.com");
+        userRepository.save(testUser);
+
+        testProduct = new Product();
+        testProduct.setName("Placement Product");
+        testProduct.setDescription("Single statement product");
+        testProduct.setPrice(100.0);
+        testProduct.setStock(10);
+        productRepository.save(testProduct);
+    }
+
+    @Test
+    @DisplayName("주문 생성 시 생성된 행과 ID를 반환하고 재고를 차감한다")
+    void testPlaceOrder() {
+        // When
+        Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 3);
+
+        // Then: 반환된 주문의 값과 저장된 주문, 차감된 재고를 검증
+        assertThat(order.getId()).isNotNull();
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(order.getTotalAmount()).isEqualTo(300.0);
+        assertThat(order.getUser().getUsername()).isEqualTo("placement_user");
+        assertThat(order.getProduct().getName()).isEqualTo("Placement Product");
+        assertThat(orderRepository.findById(order.getId())).isPresent();
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStock()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("재고가 부족하면 IllegalArgumentException이 발생하고 주문은 생성되지 않는다")
+    void testPlaceOrderInsufficientStock() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> orderService.createOrder(testUser.getId(), testProduct.getId(), 11));
+        assertThat(exception.getMessage()).isEqualTo("Insufficient stock for product id " + testProduct.getId());
+        assertThat(orderRepository.findByUser(testUser)).isEmpty();
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStock()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자면 ResourceNotFoundException이 발생하고 재고는 차감되지 않는다")
+    void testPlaceOrderUserNotFound() {
+        // When & Then
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> orderService.createOrder(999L, testProduct.getId(), 1));
+        assertThat(exception.getMessage()).isEqualTo("User not found with id 999");
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStock()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품이면 ResourceNotFoundException이 발생한다")
+    void testPlaceOrderProductNotFound() {
+        // When & Then
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> orderService.createOrder(testUser.getId(), 999L, 1));
+        assertThat(exception.getMessage()).isEqualTo("Product not found with id 999");
+    }
+}
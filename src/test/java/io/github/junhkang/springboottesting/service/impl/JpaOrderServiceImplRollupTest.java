@@ -0,0 +1,147 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.RevenueBucket;
+import io.github.junhkang.springboottesting.domain.RevenueGroup;
+import io.github.junhkang.springboottesting.domain.User;
+import io.github.junhkang.springboottesting.repository.jpa.OrderRepository;
+import io.github.junhkang.springboottesting.repository.jpa.ProductRepository;
+import io.github.junhkang.springboottesting.repository.jpa.RevenueRollupRepository;
+import io.github.junhkang.springboottesting.repository.jpa.UserRepository;
+import io.github.junhkang.springboottesting.service.rollup.JpaRevenueRollups;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: JpaOrderServiceImplRollupTest
+ *
+ * JPA 구현에서 주문 변경이 매출 롤업에 반영되고, 재계산(네이티브 INSERT ... SELECT)이 orders와 같은 값을 만드는지 검증합니다.
+ * @SpringBootTest로 실제 트랜잭션을 사용하고, 생성한 데이터는 @AfterEach에서 정리합니다.
+ */
+@SpringBootTest(properties = "orders.rollups.enabled=true")
+@ActiveProfiles("jpa")
+@DisplayName("JpaOrderServiceImpl 매출 롤업 테스트")
+class JpaOrderServiceImplRollupTest {
+
+    private static final LocalTime END_OF_DAY = LocalTime.of(23, 59, 59, 999_999_000);
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private RevenueRollupRepository revenueRollupRepository;
+
+    @Autowired
+    private JpaRevenueRollups revenueRollups;
+
+    @Autowired
+    private JpaOrderServiceImpl orderService;
+
+    private User testUser;
+    private Product testProduct;
+    private final List<Long> createdOrderIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        revenueRollups.rebuildDrifted();
+
+        testUser = new User();
+        testUser.setUsername("jpa_rollup_user");
+        testUser.setEmail("jpa.rollup.user@example.com");
+        userRepository.save(testUser);
+
+        testProduct = new Product();
+        testProduct.setName("JPA Rollup Product");
+        testProduct.setDescription("Revenue rollup product");
+        testProduct.setPrice(20.0);
+        testProduct.setStock(100);
+        productRepository.save(testProduct);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAllById(createdOrderIds);
+        productRepository.deleteById(testProduct.getId());
+        userRepository.deleteById(testUser.getId());
+        revenueRollups.rebuildDrifted();
+    }
+
+    @Test
+    @DisplayName("주문 생성/취소/수량 변경 후 롤업 집계가 orders 집계와 같다")
+    void testRollupsFollowOrderChanges() {
+        // Given: 2건 주문 후 1건 취소, 1건 수량 변경
+        Order first = createOrder(1);
+        Order second = createOrder(2);
+        orderService.cancelOrder(first.getId());
+        orderService.updateOrderQuantity(second.getId(), 4);
+
+        // When: 오늘 하루 전체
+        LocalDateTime start = LocalDate.now().atStartOfDay();
+        LocalDateTime end = LocalDate.now().atTime(END_OF_DAY);
+        List<RevenueBucket> byStatus = orderService.getRevenue(RevenueGroup.STATUS, start, end);
+
+        // Then: 상태별 건수/매출이 orders 직접 집계와 같음
+        List<OrderRepository.RevenueView> expected = orderRepository.revenueByStatus(start, end);
+        assertThat(byStatus).extracting(RevenueBucket::getKey)
+                .containsExactlyElementsOf(expected.stream().map(row -> String.valueOf(row.getBucketKey())).toList());
+        assertThat(byStatus).extracting(RevenueBucket::getOrderCount)
+                .containsExactlyElementsOf(expected.stream().map(OrderRepository.RevenueView::getOrderCount).toList());
+
+        assertThat(orderService.getRevenue(RevenueGroup.DAY, start, end)).extracting(RevenueBucket::getOrderCount)
+                .containsExactlyElementsOf(orderRepository.revenueByDay(start, end).stream().map(OrderRepository.RevenueView::getOrderCount).toList());
+
+        RevenueBucket product = orderService.getRevenue(RevenueGroup.PRODUCT, start, end).stream()
+                .filter(bucket -> bucket.getKey().equals(String.valueOf(testProduct.getId())))
+                .findFirst()
+                .orElseThrow();
+        assertThat(product.getOrderCount()).isEqualTo(2L);
+        assertThat(product.getRevenue()).isEqualTo(100.0);
+    }
+
+    @Test
+    @DisplayName("지운 롤업은 재계산으로 orders와 같은 값으로 복구된다")
+    void testRebuildRestoresDeletedRollups() {
+        // Given: 2024년 1~5월 집계 후 롤업 행 삭제
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime end = LocalDate.of(2024, 5, 31).atTime(END_OF_DAY);
+        List<RevenueBucket> before = orderService.getRevenue(RevenueGroup.PRODUCT, start, end);
+        revenueRollupRepository.deleteAll();
+        assertThat(orderService.getRevenue(RevenueGroup.PRODUCT, start, end)).isEmpty();
+
+        // When
+        int rebuilt = revenueRollups.rebuildDrifted();
+
+        // Then: 주문이 있는 달마다 다시 계산되어 집계가 복구됨
+        assertThat(rebuilt).isGreaterThanOrEqualTo(5);
+        assertThat(orderService.getRevenue(RevenueGroup.PRODUCT, start, end)).isEqualTo(before);
+        assertThat(revenueRollups.rebuild(YearMonth.of(2024, 1))).isTrue();
+        assertThat(orderService.getRevenue(RevenueGroup.DAY, start, end)).hasSize(5);
+    }
+
+    private Order createOrder(int quantity) {
+        Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), quantity);
+        createdOrderIds.add(order.getId());
+        return order;
+    }
+}
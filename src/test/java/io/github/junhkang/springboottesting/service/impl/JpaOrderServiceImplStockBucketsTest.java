@@ -0,0 +1,103 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.User;
+import io.github.junhkang.springboottesting.repository.jpa.OrderRepository;
+import io.github.junhkang.springboottesting.repository.jpa.ProductRepository;
+import io.github.junhkang.springboottesting.repository.jpa.StockBucketRepository;
+import io.github.junhkang.springboottesting.repository.jpa.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 테스트 클래스: JpaOrderServiceImplStockBucketsTest
+ *
+ * 재고 분할 모드(inventory.buckets.enabled=true)에서 JPA 구현의 주문/취소/조회가 버킷 재고를 사용하는지 검증합니다.
+ * @SpringBootTest로 실제 트랜잭션을 사용하고, 생성한 데이터는 @AfterEach에서 정리합니다.
+ */
+@SpringBootTest(properties = "inventory.buckets.enabled=true")
+@ActiveProfiles("jpa")
+@DisplayName("JpaOrderServiceImpl 재고 분할 테스트")
+class JpaOrderServiceImplStockBucketsTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockBucketRepository stockBucketRepository;
+
+    @Autowired
+    private JpaProductServiceImpl productService;
+
+    @Autowired
+    private JpaOrderServiceImpl orderService;
+
+    private User testUser;
+    private Product testProduct;
+    private final List<Long> createdOrderIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setUsername("bucket_user");
+        testUser.setEmail("bucket.user@example.com");
+        userRepository.save(testUser);
+
+        testProduct = new Product();
+        testProduct.setName("Launch Product");
+        testProduct.setDescription("Sharded stock product");
+        testProduct.setPrice(10.0);
+        testProduct.setStock(10);
+        productRepository.save(testProduct);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAllById(createdOrderIds);
+        stockBucketRepository.deleteAll(stockBucketRepository.findByProductId(testProduct.getId()));
+        productRepository.deleteById(testProduct.getId());
+        userRepository.deleteById(testUser.getId());
+    }
+
+    @Test
+    @DisplayName("분할 후 주문/취소는 버킷 재고를 사용하고 조회 시 합산된다")
+    void testOrderAndCancelUseBuckets() {
+        // Given: 재고 10개를 버킷으로 분할
+        Product split = productService.splitStock(testProduct.getId());
+        assertThat(split.getStock()).isEqualTo(10);
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStock()).isZero();
+
+        // When: 4개 주문 후 다른 주문 하나를 취소
+        Order kept = orderService.createOrder(testUser.getId(), testProduct.getId(), 4);
+        Order canceled = orderService.createOrder(testUser.getId(), testProduct.getId(), 3);
+        createdOrderIds.addAll(List.of(kept.getId(), canceled.getId()));
+        orderService.cancelOrder(canceled.getId());
+
+        // Then: 조회한 재고는 버킷 합계(10 - 4)이고, product 행은 그대로 0
+        assertThat(productService.getProductById(testProduct.getId()).getStock()).isEqualTo(6);
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStock()).isZero();
+
+        // Then: 남은 재고를 넘는 주문은 거절되고 재고는 변하지 않음
+        assertThrows(IllegalArgumentException.class,
+                () -> orderService.createOrder(testUser.getId(), testProduct.getId(), 7));
+        assertThat(productService.getProductById(testProduct.getId()).getStock()).isEqualTo(6);
+    }
+}
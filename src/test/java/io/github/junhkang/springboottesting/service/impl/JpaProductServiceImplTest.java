@@ -1,8 +1,10 @@
 package io.github.junhkang.springboottesting.service.impl;
 
 import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.ProductNameMatch;
 import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
 import io.github.junhkang.springboottesting.repository.jpa.ProductRepository;
+import io.github.junhkang.springboottesting.service.catalog.JpaProductImporter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -26,7 +28,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * 'jpa' 프로파일을 활성화하여 JPA 관련 설정과 빈만 로드합니다.
  */
 @DataJpaTest
-@Import(JpaProductServiceImpl.class)
+@Import({JpaProductServiceImpl.class, JpaProductImporter.class})
 @ActiveProfiles("jpa")
 class JpaProductServiceImplTest {
 
@@ -215,4 +217,45 @@ class JpaProductServiceImplTest {
             assertThat(exception.getMessage()).isEqualTo("Product stock cannot be negative.");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 검색 관련 테스트 그룹
+     *
+     * 이 테스트는 이름 검색 인덱스 빈 없이 실행되므로 DB 조회로 검색합니다.
+     */
+    @Nested
+    @DisplayName("검색 관련 테스트 (이름 검색 인덱스 없음)")
+    class SearchWithoutIndexTests {
+
+        /**
+         * 인덱스와 같은 기준(앞뒤 공백, 대소문자 무시)으로 찾는지 검증
+         */
+        @Test
+        @DisplayName("EXACT/PREFIX는 인덱스처럼 앞뒤 공백과 대소문자를 무시한다")
+        void testSearchIgnoresCaseAndSurroundingSpaces() {
+            // Given
+            Product desk = productRepository.save(product("Fallback Oak_Desk"));
+            Product lowerDesk = productRepository.save(product("fallback oak_desk"));
+            Product lamp = productRepository.save(product("Fallback OakXLamp"));
+
+            // When
+            List<Product> exact = productService.searchProducts("  FALLBACK OAK_DESK ", ProductNameMatch.EXACT, 10);
+            List<Product> prefix = productService.searchProducts(" fallback OAK", ProductNameMatch.PREFIX, 10);
+            List<Product> escaped = productService.searchProducts("fallback oak_", ProductNameMatch.PREFIX, 10);
+
+            // Then: EXACT는 ID 순, PREFIX는 정규화한 이름/ID 순, '_'는 문자 그대로 비교
+            assertThat(exact).extracting(Product::getId).containsExactly(desk.getId(), lowerDesk.getId());
+            assertThat(prefix).extracting(Product::getId).containsExactly(desk.getId(), lowerDesk.getId(), lamp.getId());
+            assertThat(escaped).extracting(Product::getId).containsExactly(desk.getId(), lowerDesk.getId());
+        }
+
+        private Product product(String name) {
+            Product product = new Product();
+            product.setName(name);
+            product.setDescription("Search Description");
+            product.setPrice(10.0);
+            product.setStock(1);
+            return product;
+        }
+    }
+}
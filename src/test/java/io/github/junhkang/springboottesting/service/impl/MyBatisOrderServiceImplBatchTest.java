@@ -0,0 +1,118 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.OrderDTO;
+import io.github.junhkang.springboottesting.domain.OrderLine;
+import io.github.junhkang.springboottesting.domain.OrderLineResult;
+import io.github.junhkang.springboottesting.domain.ProductDTO;
+import io.github.junhkang.springboottesting.domain.UserDTO;
+import io.github.junhkang.springboottesting.repository.mybatis.OrderMapper;
+import io.github.junhkang.springboottesting.repository.mybatis.ProductMapper;
+import io.github.junhkang.springboottesting.repository.mybatis.UserMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: MyBatisOrderServiceImplBatchTest
+ *
+ * MyBatis BATCH 실행기로 동작하는 대량 주문(createOrders)을 검증합니다.
+ *
+ * 하나의 트랜잭션 안에서는 SIMPLE/BATCH 실행기를 섞을 수 없으므로, 테스트 데이터 준비(SIMPLE)와
+ * 대량 주문(BATCH)이 같은 트랜잭션에 묶이지 않도록 @Transactional을 사용하지 않고 @AfterEach에서 정리합니다.
+ */
+@SpringBootTest
+@Import(MyBatisOrderServiceImpl.class)
+@ActiveProfiles("mybatis")
+@DisplayName("MyBatisOrderServiceImpl 대량 주문 테스트")
+class MyBatisOrderServiceImplBatchTest {
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private MyBatisOrderServiceImpl orderService;
+
+    private UserDTO testUser;
+    private ProductDTO testProduct;
+    private ProductDTO otherProduct;
+    private final List<Long> createdOrderIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        testUser = new UserDTO();
+        testUser.setUsername("batch_user");
+        testUser.setEmail("batch.user@example.com");
+        userMapper.insert(testUser);
+
+        testProduct = new ProductDTO();
+        testProduct.setName("Batch Product");
+        testProduct.setDescription("Batch Description");
+        testProduct.setPrice(100.0);
+        testProduct.setStock(50);
+        productMapper.insert(testProduct);
+
+        otherProduct = new ProductDTO();
+        otherProduct.setName("Other Product");
+        otherProduct.setDescription("Other Description");
+        otherProduct.setPrice(10.0);
+        otherProduct.setStock(3);
+        productMapper.insert(otherProduct);
+    }
+
+    @AfterEach
+    void tearDown() {
+        createdOrderIds.forEach(orderMapper::delete);
+        productMapper.delete(testProduct.getId());
+        productMapper.delete(otherProduct.getId());
+        userMapper.delete(testUser.getId());
+    }
+
+    @Test
+    @DisplayName("대량 주문 생성 테스트 - 라인별 성공/실패")
+    void testCreateOrdersReportsPerLineResult() {
+        // Given: 정상 라인, 존재하지 않는 사용자/상품, 재고를 초과하는 라인, 수량 누락 라인
+        List<OrderLine> lines = List.of(
+                new OrderLine(testUser.getId(), testProduct.getId(), 20),
+                new OrderLine(999L, testProduct.getId(), 1),
+                new OrderLine(testUser.getId(), 999L, 1),
+                new OrderLine(testUser.getId(), otherProduct.getId(), 2),
+                new OrderLine(testUser.getId(), testProduct.getId(), 25),
+                new OrderLine(testUser.getId(), otherProduct.getId(), 2),
+                new OrderLine(testUser.getId(), testProduct.getId(), null));
+
+        // When: 대량 주문 생성
+        List<OrderLineResult> results = orderService.createOrders(lines);
+        results.stream().filter(OrderLineResult::isSuccess).forEach(result -> createdOrderIds.add(result.getOrderId()));
+
+        // Then: 라인 순서대로 결과가 반환됨
+        assertThat(results).extracting(OrderLineResult::isSuccess)
+                .containsExactly(true, false, false, true, true, false, false);
+        assertThat(results.get(1).getError()).isEqualTo("User not found with id 999");
+        assertThat(results.get(2).getError()).isEqualTo("Product not found with id 999");
+        assertThat(results.get(5).getError()).isEqualTo("Insufficient stock for product id " + otherProduct.getId());
+        assertThat(results.get(6).getError()).isEqualTo("userId, productId and a positive quantity are required.");
+
+        // Then: 배치로 INSERT된 주문에 생성된 ID가 채워지고, 재고는 상품별 합계만큼 차감됨
+        OrderDTO saved = orderMapper.findById(results.get(4).getOrderId());
+        assertThat(saved.getQuantity()).isEqualTo(25);
+        assertThat(saved.getTotalAmount()).isEqualTo(2500.0);
+        assertThat(productMapper.findById(testProduct.getId()).getStock()).isEqualTo(5);
+        assertThat(productMapper.findById(otherProduct.getId()).getStock()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,214 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.ProductDTO;
+import io.github.junhkang.springboottesting.domain.UserDTO;
+import io.github.junhkang.springboottesting.repository.mybatis.OrderMapper;
+import io.github.junhkang.springboottesting.repository.mybatis.ProductMapper;
+import io.github.junhkang.springboottesting.repository.mybatis.UserMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: MyBatisOrderServiceImplConcurrencyTest
+ *
+ * 여러 스레드가 동시에 같은 상품을 주문할 때 조건부 재고 차감(UPDATE ... WHERE stock >= ?)이
+ * 초과 판매(oversell) 없이 동작하는지 검증합니다.
+ *
+ * 각 스레드가 별도의 트랜잭션으로 커밋해야 하므로 @Transactional을 사용하지 않고,
+ * 테스트가 만든 데이터는 @AfterEach에서 직접 정리합니다.
+ *
+ * 기존 read-modify-write 방식과의 처리량 비교는 -Dbenchmark=true로 실행할 때만 수행합니다.
+ */
+@Slf4j
+@SpringBootTest
+@Import(MyBatisOrderServiceImpl.class)
+@ActiveProfiles("mybatis")
+@DisplayName("MyBatisOrderServiceImpl 동시성 테스트")
+class MyBatisOrderServiceImplConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int ORDERS = 200;
+    private static final int STOCK = 50;
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private MyBatisOrderServiceImpl orderService;
+
+    private UserDTO testUser;
+    private ProductDTO testProduct;
+    private final Queue<Long> createdOrderIds = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        testUser = new UserDTO();
+        testUser.setUsername("concurrency_user");
+        testUser.setEmail("concurrency.user@example.com");
+        userMapper.insert(testUser);
+
+        testProduct = new ProductDTO();
+        testProduct.setName("Hot Product");
+        testProduct.setDescription("Flash sale product");
+        testProduct.setPrice(10.0);
+        testProduct.setStock(STOCK);
+        productMapper.insert(testProduct);
+    }
+
+    @AfterEach
+    void tearDown() {
+        createdOrderIds.forEach(orderMapper::delete);
+        productMapper.delete(testProduct.getId());
+        userMapper.delete(testUser.getId());
+    }
+
+    @Test
+    @DisplayName("동시 주문 시 재고 이상으로 판매되지 않는다")
+    void testConcurrentCreateOrderNeverOversells() throws InterruptedException {
+        // Given: 재고 50개인 상품에 200건의 주문이 동시에 들어옴
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // When: 16개 스레드가 동시에 1개씩 주문
+        runConcurrently(() -> {
+            try {
+                Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+                createdOrderIds.add(order.getId());
+                succeeded.incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        // Then: 정확히 재고 수만큼만 주문이 성공하고 재고는 0이 됨
+        assertThat(succeeded.get()).isEqualTo(STOCK);
+        assertThat(rejected.get()).isEqualTo(ORDERS - STOCK);
+        assertThat(productMapper.findById(testProduct.getId()).getStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("기존 read-modify-write 방식은 충돌이 드러나고, 조건부 UPDATE는 모두 반영된다")
+    void testReadModifyWriteConflictsWhileConditionalUpdateDoesNot() throws InterruptedException {
+        // Given & When: 기존 방식(조회 후 Java에서 검사, 전체 컬럼 UPDATE)을 그대로 재현
+        resetStock(ORDERS);
+        AtomicInteger conflicts = new AtomicInteger();
+        runConcurrently(() -> readModifyWrite(conflicts));
+
+        // Then: 버전 검사 덕분에 유실된 차감 없이, 반영되지 못한 차감은 모두 충돌로 드러남
+        assertThat(productMapper.findById(testProduct.getId()).getStock()).isEqualTo(conflicts.get());
+
+        // When: 조건부 UPDATE 방식으로 같은 양을 처리
+        resetStock(ORDERS);
+        runConcurrently(() -> productMapper.decreaseStock(testProduct.getId(), 1));
+
+        // Then: 조건부 UPDATE는 충돌 없이 모두 반영됨
+        assertThat(productMapper.findById(testProduct.getId()).getStock()).isZero();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("기존 read-modify-write 방식과 처리량 비교")
+    void benchmarkReadModifyWriteAgainstConditionalUpdate() throws InterruptedException {
+        // Given & When: 같은 양의 차감을 두 방식으로 각각 처리
+        resetStock(ORDERS);
+        AtomicInteger conflicts = new AtomicInteger();
+        long readModifyWrite = runConcurrently(() -> readModifyWrite(conflicts));
+        resetStock(ORDERS);
+        long conditional = runConcurrently(() -> productMapper.decreaseStock(testProduct.getId(), 1));
+
+        // Then
+        log.info("{} orders - read-modify-write: {} ms ({} version conflicts), conditional update: {} ms",
+                ORDERS, readModifyWrite, conflicts.get(), conditional);
+        assertThat(productMapper.findById(testProduct.getId()).getStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 주문을 동시에 취소해도 한 번만 취소되고 재고도 한 번만 복구된다")
+    void testConcurrentCancelRestoresStockOnce() throws InterruptedException {
+        // Given: 5개 주문 (재고 45)
+        Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 5);
+        createdOrderIds.add(order.getId());
+        AtomicInteger canceled = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // When: 같은 주문에 대한 취소 요청이 동시에 들어옴
+        runConcurrently(() -> {
+            try {
+                orderService.cancelOrder(order.getId());
+                canceled.incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        // Then: 한 요청만 취소에 성공하고 재고는 원래대로 50
+        assertThat(canceled.get()).isEqualTo(1);
+        assertThat(rejected.get()).isEqualTo(ORDERS - 1);
+        assertThat(productMapper.findById(testProduct.getId()).getStock()).isEqualTo(STOCK);
+        assertThat(orderMapper.findById(order.getId()).getStatus()).isEqualTo("CANCELED");
+    }
+
+    private void readModifyWrite(AtomicInteger conflicts) {
+        ProductDTO product = productMapper.findById(testProduct.getId());
+        if (product.getStock() >= 1) {
+            product.setStock(product.getStock() - 1);
+            if (productMapper.update(product) == 0) {
+                conflicts.incrementAndGet();
+            }
+        }
+    }
+
+    private void resetStock(int stock) {
+        ProductDTO product = productMapper.findById(testProduct.getId());
+        product.setStock(stock);
+        productMapper.update(product);
+    }
+
+    private long runConcurrently(Runnable task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(ORDERS);
+        for (int i = 0; i < ORDERS; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.ProductDTO;
+import io.github.junhkang.springboottesting.domain.UserDTO;
+import io.github.junhkang.springboottesting.repository.mybatis.OrderMapper;
+import io.github.junhkang.springboottesting.repository.mybatis.ProductMapper;
+import io.github.junhkang.springboottesting.repository.mybatis.UserMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: MyBatisOrderServiceImplDateIndexTest
+ *
+ * orders.date-index.enabled=true일 때 기간 조회가 인덱스 없이 조회한 결과와 같은 주문을 반환하고,
+ * 인덱스 적재 이후에 생성된 주문도 반영하는지 검증합니다.
+ * 인덱스는 커밋된 주문만 추가하므로 @Transactional을 사용하지 않고, 테스트가 만든 데이터는 @AfterEach에서 직접 정리합니다.
+ */
+@SpringBootTest(properties = "orders.date-index.enabled=true")
+@Import(MyBatisOrderServiceImpl.class)
+@ActiveProfiles("mybatis")
+@DisplayName("MyBatisOrderServiceImpl 주문일 인덱스 테스트")
+class MyBatisOrderServiceImplDateIndexTest {
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private MyBatisOrderServiceImpl orderService;
+
+    private UserDTO testUser;
+    private ProductDTO testProduct;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new UserDTO();
+        testUser.setUsername("date_index_user");
+        testUser.setEmail("date.index.user@example.com");
+        userMapper.insert(testUser);
+
+        testProduct = new ProductDTO();
+        testProduct.setName("Date Index Product");
+        testProduct.setDescription("Date index product");
+        testProduct.setPrice(10.0);
+        testProduct.setStock(100);
+        productMapper.insert(testProduct);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderMapper.findByUserId(testUser.getId()).forEach(order -> orderMapper.delete(order.getId()));
+        productMapper.delete(testProduct.getId());
+        userMapper.delete(testUser.getId());
+    }
+
+    @Test
+    @DisplayName("인덱스 기반 기간 조회는 SQL 기간 조회와 같은 주문을 반환한다")
+    void testMatchesSqlRangeQuery() {
+        // Given: data.sql 주문 + 방금 생성한 주문
+        orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+        LocalDateTime start = LocalDateTime.of(2000, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.now().plusDays(1);
+
+        // When
+        List<Order> indexed = orderService.getOrdersByDateRange(start, end);
+
+        // Then
+        List<Long> expected = orderMapper.findByOrderDateBetween(start, end).stream().map(dto -> dto.getId()).sorted().toList();
+        assertThat(indexed).extracting(Order::getId).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("인덱스가 적재된 뒤 생성된 주문도 기간 조회에 포함된다")
+    void testNewOrdersAreIndexed() {
+        // Given: 인덱스 적재
+        LocalDateTime start = LocalDateTime.now().minusMinutes(1);
+        orderService.getOrdersByDateRange(start, start.plusHours(1));
+
+        // When: 새 주문 생성 후 조회
+        Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 2);
+        List<Order> orders = orderService.getOrdersByDateRange(start, LocalDateTime.now().plusMinutes(1));
+
+        // Then: 사용자/상품 정보까지 채워진 새 주문이 포함됨
+        assertThat(orders).extracting(Order::getId).contains(order.getId());
+        Order found = orders.stream().filter(o -> o.getId().equals(order.getId())).findFirst().orElseThrow();
+        assertThat(found.getUser().getUsername()).isEqualTo("date_index_user");
+        assertThat(found.getQuantity()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,148 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderStatus;
+import io.github.junhkang.springboottesting.domain.ProductDTO;
+import io.github.junhkang.springboottesting.domain.UserDTO;
+import io.github.junhkang.springboottesting.id.TimeOrderedIdGenerator;
+import io.github.junhkang.springboottesting.repository.mybatis.ProductMapper;
+import io.github.junhkang.springboottesting.repository.mybatis.UserMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: MyBatisOrderServiceImplExportTest
+ *
+ * Cursor 기반 주문 내보내기가 모든 주문을 ID 순으로 한 번씩 전달하는지 검증합니다.
+ * 처리량과 힙 사용량 측정은 -Dbenchmark=true로 실행할 때만 수행하며, 행 수는 -Dexport.benchmark.rows=10000000 처럼 바꿀 수 있습니다.
+ */
+@Slf4j
+@SpringBootTest
+@Import(MyBatisOrderServiceImpl.class)
+@ActiveProfiles("mybatis")
+@Transactional
+@DisplayName("MyBatisOrderServiceImpl 주문 내보내기 테스트")
+class MyBatisOrderServiceImplExportTest {
+
+    private static final int ROWS = 1000;
+    private static final int BENCHMARK_ROWS = Integer.getInteger("export.benchmark.rows", 100_000);
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MyBatisOrderServiceImpl orderService;
+
+    private UserDTO testUser;
+    private ProductDTO testProduct;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new UserDTO();
+        testUser.setUsername("export_user");
+        testUser.setEmail("export.user@example.com");
+        userMapper.insert(testUser);
+
+        testProduct = new ProductDTO();
+        testProduct.setName("Export Product");
+        testProduct.setDescription("Export benchmark product");
+        testProduct.setPrice(10.0);
+        testProduct.setStock(0);
+        productMapper.insert(testProduct);
+    }
+
+    @Test
+    @DisplayName("모든 주문을 ID 순으로 한 건씩 내보낸다")
+    void testExportsEveryOrderInIdOrder() {
+        // Given: data.sql의 주문 5건 + 주문 ROWS건 (JDBC 배치로 직접 적재)
+        insertOrders(ROWS);
+
+        // When & Then: 모든 주문이 오름차순으로 정확히 한 번씩 전달됨
+        assertThat(exportInIdOrder(order -> { })).isEqualTo(ROWS + 5L);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("대량 주문 내보내기 처리량과 힙 사용량 측정")
+    void benchmarkExportThroughput() {
+        // Given
+        insertOrders(BENCHMARK_ROWS);
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+
+        // When: sink는 1만 건마다 힙 사용량만 기록
+        AtomicLong peakHeap = new AtomicLong();
+        AtomicLong seen = new AtomicLong();
+        long begin = System.nanoTime();
+        long exported = exportInIdOrder(order -> {
+            if (seen.incrementAndGet() % 10_000 == 0) {
+                peakHeap.accumulateAndGet(runtime.totalMemory() - runtime.freeMemory(), Math::max);
+            }
+        });
+        long elapsed = System.nanoTime() - begin;
+
+        // Then
+        assertThat(exported).isEqualTo(BENCHMARK_ROWS + 5L);
+        log.info("export: {} rows in {} ms ({} rows/s), heap before {} MB, peak {} MB",
+                exported, elapsed / 1_000_000, exported * 1_000_000_000L / Math.max(elapsed, 1),
+                heapBefore >> 20, peakHeap.get() >> 20);
+    }
+
+    // 전체 내보내기를 실행하면서 ID가 오름차순이고 전달 건수가 반환값과 같은지 확인
+    private long exportInIdOrder(Consumer<Order> sink) {
+        AtomicLong lastId = new AtomicLong(Long.MIN_VALUE);
+        AtomicLong outOfOrder = new AtomicLong();
+        AtomicLong seen = new AtomicLong();
+        long exported = orderService.exportOrders(order -> {
+            if (order.getId() <= lastId.getAndSet(order.getId())) {
+                outOfOrder.incrementAndGet();
+            }
+            seen.incrementAndGet();
+            sink.accept(order);
+        });
+        assertThat(seen.get()).isEqualTo(exported);
+        assertThat(outOfOrder.get()).isZero();
+        return exported;
+    }
+
+    private void insertOrders(int rows) {
+        TimeOrderedIdGenerator ids = TimeOrderedIdGenerator.shared();
+        Timestamp orderDate = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < rows; i++) {
+            batch.add(new Object[]{ids.nextId(), orderDate, testUser.getId(), testProduct.getId(), 1,
+                    OrderStatus.PENDING.name(), 10.0});
+            if (batch.size() == INSERT_BATCH_SIZE || i == rows - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO orders (id, order_date, user_id, product_id, quantity, status, total_amount) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+}
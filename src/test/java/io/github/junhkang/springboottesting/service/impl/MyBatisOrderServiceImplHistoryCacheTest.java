@@ -0,0 +1,175 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderDTO;
+import io.github.junhkang.springboottesting.domain.OrderPage;
+import io.github.junhkang.springboottesting.domain.OrderStatus;
+import io.github.junhkang.springboottesting.domain.ProductDTO;
+import io.github.junhkang.springboottesting.domain.UserDTO;
+import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import io.github.junhkang.springboottesting.repository.mybatis.OrderMapper;
+import io.github.junhkang.springboottesting.repository.mybatis.ProductMapper;
+import io.github.junhkang.springboottesting.repository.mybatis.UserMapper;
+import io.github.junhkang.springboottesting.service.history.OrderHistoryCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 테스트 클래스: MyBatisOrderServiceImplHistoryCacheTest
+ *
+ * 사용자별 주문 목록 캐시가 반복 조회를 캐시에서 처리하고, 주문 생성/취소/수량 변경 후에는
+ * 최신 목록을 반환하는지 검증합니다. 캐시는 커밋된 데이터만 저장하므로 @Transactional을 사용하지 않고,
+ * 테스트가 만든 데이터는 @AfterEach에서 직접 정리합니다.
+ */
+@SpringBootTest
+@Import(MyBatisOrderServiceImpl.class)
+@ActiveProfiles("mybatis")
+@DisplayName("MyBatisOrderServiceImpl 주문 목록 캐시 테스트")
+class MyBatisOrderServiceImplHistoryCacheTest {
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private MyBatisOrderServiceImpl orderService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private OrderHistoryCache orderHistoryCache;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UserDTO testUser;
+    private ProductDTO testProduct;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new UserDTO();
+        testUser.setUsername("history_user");
+        testUser.setEmail("history.user@example.com");
+        userMapper.insert(testUser);
+
+        testProduct = new ProductDTO();
+        testProduct.setName("History Product");
+        testProduct.setDescription("Order history cache product");
+        testProduct.setPrice(10.0);
+        testProduct.setStock(100);
+        productMapper.insert(testProduct);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderMapper.findByUserId(testUser.getId()).forEach(order -> orderMapper.delete(order.getId()));
+        productMapper.delete(testProduct.getId());
+        userMapper.delete(testUser.getId());
+    }
+
+    @Test
+    @DisplayName("반복 조회는 캐시에서 반환하고, 주문 생성 후에는 새 주문이 포함된다")
+    void testRepeatedReadHitsAndCreateInvalidates() {
+        // Given: 첫 조회로 캐시 적재
+        double hitsBefore = hits();
+        assertThat(orderService.getOrdersByUserId(testUser.getId())).isEmpty();
+
+        // When: 다시 조회
+        orderService.getOrdersByUserId(testUser.getId());
+
+        // Then: 캐시 적중
+        assertThat(hits()).isEqualTo(hitsBefore + 1);
+
+        // When: 주문 생성 후 조회
+        Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 2);
+
+        // Then: 새 주문이 보임
+        assertThat(orderService.getOrdersByUserId(testUser.getId()))
+                .extracting(Order::getId).containsExactly(order.getId());
+    }
+
+    @Test
+    @DisplayName("취소와 수량 변경 후에는 바뀐 주문이 조회된다")
+    void testCancelAndUpdateInvalidate() {
+        // Given: 주문 2건을 만들고 목록을 캐시에 적재
+        Order toUpdate = orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+        Order toCancel = orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+        orderService.getOrdersByUserId(testUser.getId());
+
+        // When: 수량 변경 후 조회
+        orderService.updateOrderQuantity(toUpdate.getId(), 5);
+        List<Order> afterUpdate = orderService.getOrdersByUserId(testUser.getId());
+
+        // Then
+        assertThat(afterUpdate).filteredOn(order -> order.getId().equals(toUpdate.getId()))
+                .extracting(Order::getQuantity).containsExactly(5);
+
+        // When: 취소 후 조회
+        orderService.cancelOrder(toCancel.getId());
+        List<Order> afterCancel = orderService.getOrdersByUserId(testUser.getId());
+
+        // Then
+        assertThat(afterCancel).filteredOn(order -> order.getId().equals(toCancel.getId()))
+                .extracting(Order::getStatus).containsExactly(OrderStatus.CANCELED);
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션에서 읽은 목록은 캐시에 남지 않는다")
+    void testRolledBackReadIsNotCached() {
+        // Given: 트랜잭션 안에서 주문을 INSERT하고 목록을 조회한 뒤 롤백
+        transactionTemplate.executeWithoutResult(status -> {
+            OrderDTO order = new OrderDTO();
+            order.setOrderDate(LocalDateTime.now());
+            order.setUserId(testUser.getId());
+            order.setProductId(testProduct.getId());
+            order.setQuantity(1);
+            order.setStatus(OrderStatus.PENDING.name());
+            order.setTotalAmount(10.0);
+            orderMapper.insert(order);
+            assertThat(orderService.getOrdersByUserId(testUser.getId())).hasSize(1);
+            status.setRollbackOnly();
+        });
+
+        // When & Then: 롤백 이후 조회에는 롤백된 주문이 없음
+        assertThat(orderService.getOrdersByUserId(testUser.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("페이지 조회도 주문 목록 캐시로 사용자 존재를 확인하고, 확인한 사용자를 캐시에 남긴다")
+    void testPagedReadUsesCacheForUserCheck() {
+        // Given
+        Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+
+        // When
+        OrderPage page = orderService.getOrdersByUserId(testUser.getId(), null, 10);
+
+        // Then: 이후 확인은 쿼리 없이 캐시에서 처리되고, 없는 사용자는 여전히 예외
+        assertThat(page.getOrders()).extracting(Order::getId).containsExactly(order.getId());
+        assertThat(orderHistoryCache.isKnownUser(testUser.getId(), id -> false)).isTrue();
+        assertThrows(ResourceNotFoundException.class, () -> orderService.getOrdersByUserId(999L, null, 10));
+    }
+
+    private double hits() {
+        return meterRegistry.get("orders.history.cache.gets").tag("result", "hit").counter().count();
+    }
+}
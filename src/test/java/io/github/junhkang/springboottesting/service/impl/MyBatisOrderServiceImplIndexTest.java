@@ -0,0 +1,139 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.OrderStatus;
+import io.github.junhkang.springboottesting.id.TimeOrderedIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: MyBatisOrderServiceImplIndexTest
+ *
+ * 엔티티에 선언한 보조 인덱스가 스키마에 생성되고, 사용자별/기간별/상태별 주문 조회와 상품명 조회가
+ * 전체 스캔 대신 인덱스를 사용하는지 실행 계획(EXPLAIN)으로 검증합니다.
+ * 각 조회의 평균 지연 시간 측정은 -Dbenchmark=true로 실행할 때만 수행하며, 이때 기본 주문 수는 100k입니다.
+ * 1M/10M 측정은 -Dindex.benchmark.rows=1000000 처럼 행 수를 지정해 실행합니다.
+ */
+@Slf4j
+@SpringBootTest
+@Import(MyBatisOrderServiceImpl.class)
+@ActiveProfiles("mybatis")
+@Transactional
+@DisplayName("MyBatisOrderServiceImpl 주문 인덱스 테스트")
+class MyBatisOrderServiceImplIndexTest {
+
+    private static final int ROWS = Boolean.getBoolean("benchmark") ? Integer.getInteger("index.benchmark.rows", 100_000) : 10_000;
+    private static final int USERS = 1000;
+    private static final int PRODUCTS = 100;
+    private static final int DAYS = 365;
+    private static final int INSERT_BATCH_SIZE = 10_000;
+    private static final int ITERATIONS = 200;
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MyBatisOrderServiceImpl orderService;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<Long> productIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        TimeOrderedIdGenerator ids = TimeOrderedIdGenerator.shared();
+        for (int i = 0; i < USERS; i++) {
+            long id = ids.nextId();
+            jdbcTemplate.update("INSERT INTO users (id, username, email) VALUES (?, ?, ?)",
+                    id, "index_user_" + i, "index.user" + i + "@example.com");
+            userIds.add(id);
+        }
+        for (int i = 0; i < PRODUCTS; i++) {
+            long id = ids.nextId();
+            jdbcTemplate.update("INSERT INTO product (id, name, description, price, stock, version) VALUES (?, ?, ?, ?, ?, 0)",
+                    id, "Index Product " + i, "Index benchmark product", 10.0, 0);
+            productIds.add(id);
+        }
+
+        // 주문은 사용자/상품/날짜/상태를 고르게 분산해서 적재
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        OrderStatus[] statuses = OrderStatus.values();
+        for (int i = 0; i < ROWS; i++) {
+            batch.add(new Object[]{ids.nextId(), Timestamp.valueOf(BASE_DATE.plusMinutes((long) i * DAYS * 24 * 60 / ROWS)),
+                    userIds.get(i % USERS), productIds.get(i % PRODUCTS), 1, statuses[i % statuses.length].name(), 10.0});
+            if (batch.size() == INSERT_BATCH_SIZE || i == ROWS - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO orders (id, order_date, user_id, product_id, quantity, status, total_amount) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("주문/상품 조회가 전체 스캔 없이 인덱스를 사용한다")
+    void testQueriesUseIndexes() {
+        // When & Then: 각 조회의 실행 계획에 기대한 인덱스가 나타나고 tableScan이 없음
+        assertThat(plan("SELECT * FROM orders WHERE user_id = 1 AND order_date BETWEEN DATE '2030-01-01' AND DATE '2030-01-31'"))
+                .contains("IDX_ORDERS_USER_DATE").doesNotContain("tableScan");
+        assertThat(plan("SELECT * FROM orders WHERE user_id = 1"))
+                .doesNotContain("tableScan");
+        assertThat(plan("SELECT * FROM orders WHERE order_date BETWEEN DATE '2030-01-01' AND DATE '2030-01-02'"))
+                .contains("IDX_ORDERS_ORDER_DATE").doesNotContain("tableScan");
+        assertThat(plan("SELECT * FROM orders WHERE status = 'CANCELED'"))
+                .contains("IDX_ORDERS_STATUS").doesNotContain("tableScan");
+        assertThat(plan("SELECT * FROM product WHERE name = 'Index Product 1'"))
+                .contains("IDX_PRODUCT_NAME").doesNotContain("tableScan");
+        assertThat(plan("SELECT * FROM users WHERE username = 'index_user_1'"))
+                .contains("UK_USERS_USERNAME").doesNotContain("tableScan");
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("인덱스 조회의 평균 지연 시간 측정")
+    void benchmarkQueryLatency() {
+        // When: 각 조회를 반복 실행
+        long byUser = averageMicros(i -> orderService.getOrdersByUserId(userIds.get(i % USERS)).size());
+        long byDate = averageMicros(i -> orderService.getOrdersByDateRange(
+                BASE_DATE.plusDays(i % DAYS), BASE_DATE.plusDays(i % DAYS).plusHours(1)).size());
+        long byStatus = averageMicros(i -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM orders WHERE status = ?", Integer.class, OrderStatus.CANCELED.name()));
+        long byName = averageMicros(i -> jdbcTemplate.queryForList(
+                "SELECT id FROM product WHERE name = ?", "Index Product " + (i % PRODUCTS)).size());
+
+        // Then: 사용자별 조회는 해당 사용자의 주문만 반환
+        assertThat(orderService.getOrdersByUserId(userIds.get(0))).hasSize(ROWS / USERS);
+        log.info("{} orders - by user: {} us, by date (1h): {} us, count by status: {} us, product by name: {} us",
+                ROWS, byUser, byDate, byStatus, byName);
+    }
+
+    private String plan(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+
+    private long averageMicros(IntUnaryOperator query) {
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.applyAsInt(i); // 워밍업
+        }
+        long begin = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.applyAsInt(i);
+        }
+        return (System.nanoTime() - begin) / ITERATIONS / 1000;
+    }
+}
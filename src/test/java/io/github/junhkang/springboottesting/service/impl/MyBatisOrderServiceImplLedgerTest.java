@@ -0,0 +1,118 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderLine;
+import io.github.junhkang.springboottesting.domain.OrderLineResult;
+import io.github.junhkang.springboottesting.domain.ProductDTO;
+import io.github.junhkang.springboottesting.domain.UserDTO;
+import io.github.junhkang.springboottesting.repository.mybatis.OrderMapper;
+import io.github.junhkang.springboottesting.repository.mybatis.ProductMapper;
+import io.github.junhkang.springboottesting.repository.mybatis.UserMapper;
+import io.github.junhkang.springboottesting.service.inventory.InventoryLedger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: MyBatisOrderServiceImplLedgerTest
+ *
+ * 재고 원장(inventory.ledger.enabled=true)을 켠 상태에서 단건 주문과 BATCH 실행기로 동작하는 대량 주문이
+ * 원장에서 재고를 예약하고, flush하면 DB 재고에 반영되는지 검증합니다.
+ * 대량 주문은 BATCH 세션 트랜잭션에서 실행되므로 @Transactional을 사용하지 않고 @AfterEach에서 정리합니다.
+ */
+@SpringBootTest(properties = "inventory.ledger.enabled=true")
+@Import(MyBatisOrderServiceImpl.class)
+@ActiveProfiles("mybatis")
+@DisplayName("MyBatisOrderServiceImpl 재고 원장 테스트")
+class MyBatisOrderServiceImplLedgerTest {
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private InventoryLedger inventoryLedger;
+
+    @Autowired
+    private MyBatisOrderServiceImpl orderService;
+
+    private UserDTO testUser;
+    private ProductDTO testProduct;
+    private final List<Long> createdOrderIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        testUser = new UserDTO();
+        testUser.setUsername("ledger_user");
+        testUser.setEmail("ledger.user@example.com");
+        userMapper.insert(testUser);
+
+        testProduct = new ProductDTO();
+        testProduct.setName("Ledger Product");
+        testProduct.setDescription("Ledger Description");
+        testProduct.setPrice(10.0);
+        testProduct.setStock(10);
+        productMapper.insert(testProduct);
+    }
+
+    @AfterEach
+    void tearDown() {
+        inventoryLedger.flush();
+        createdOrderIds.forEach(orderMapper::delete);
+        productMapper.delete(testProduct.getId());
+        userMapper.delete(testUser.getId());
+    }
+
+    @Test
+    @DisplayName("대량 주문은 BATCH 트랜잭션 안에서 원장으로 재고를 예약한다")
+    void testCreateOrdersReservesThroughLedger() {
+        // Given: 상품을 처음 예약하는 대량 주문 (원장이 BATCH 트랜잭션 안에서 재고를 읽음)
+        List<OrderLine> lines = List.of(
+                new OrderLine(testUser.getId(), testProduct.getId(), 6),
+                new OrderLine(testUser.getId(), testProduct.getId(), 5),
+                new OrderLine(testUser.getId(), testProduct.getId(), 4));
+
+        // When
+        List<OrderLineResult> results = orderService.createOrders(lines);
+        results.stream().filter(OrderLineResult::isSuccess).forEach(result -> createdOrderIds.add(result.getOrderId()));
+
+        // Then: 원장 재고를 넘는 라인만 실패하고, flush하면 예약한 만큼 DB 재고가 줄어듦
+        assertThat(results).extracting(OrderLineResult::isSuccess).containsExactly(true, false, true);
+        assertThat(results.get(1).getError()).isEqualTo("Insufficient stock for product id " + testProduct.getId());
+        assertThat(inventoryLedger.getAvailable(testProduct.getId())).isZero();
+        inventoryLedger.flush();
+        assertThat(productMapper.findById(testProduct.getId()).getStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("단건 주문과 취소가 원장 재고에 반영된다")
+    void testCreateAndCancelOrderThroughLedger() {
+        // Given
+        Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 3);
+        createdOrderIds.add(order.getId());
+        assertThat(inventoryLedger.getAvailable(testProduct.getId())).isEqualTo(7);
+
+        // When
+        orderService.cancelOrder(order.getId());
+
+        // Then
+        assertThat(inventoryLedger.getAvailable(testProduct.getId())).isEqualTo(10);
+        inventoryLedger.flush();
+        assertThat(productMapper.findById(testProduct.getId()).getStock()).isEqualTo(10);
+    }
+}
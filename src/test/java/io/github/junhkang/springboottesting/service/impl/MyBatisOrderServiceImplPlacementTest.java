@@ -0,0 +1,142 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderDTO;
+import io.github.junhkang.springboottesting.domain.OrderStatus;
+import io.github.junhkang.springboottesting.domain.ProductDTO;
+import io.github.junhkang.springboottesting.domain.UserDTO;
+import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import io.github.junhkang.springboottesting.repository.mybatis.OrderMapper;
+import io.github.junhkang.springboottesting.repository.mybatis.ProductMapper;
+import io.github.junhkang.springboottesting.repository.mybatis.UserMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 테스트 클래스: MyBatisOrderServiceImplPlacementTest
+ *
+ * orders.placement.single-statement=true일 때 단일 구문 주문 생성이 기존 경로와 같은 결과와 예외를 내는지 검증합니다.
+ * 기존 4개 구문(사용자 조회, 상품 조회, 재고 차감, 주문 INSERT)과의 처리 시간 비교는 -Dbenchmark=true로 실행할 때만 수행합니다.
+ */
+@Slf4j
+@SpringBootTest(properties = "orders.placement.single-statement=true")
+@Import(MyBatisOrderServiceImpl.class)
+@ActiveProfiles("mybatis")
+@Transactional
+@DisplayName("MyBatisOrderServiceImpl 단일 구문 주문 테스트")
+class MyBatisOrderServiceImplPlacementTest {
+
+    private static final int ITERATIONS = 2000;
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private MyBatisOrderServiceImpl orderService;
+
+    private UserDTO testUser;
+    private ProductDTO testProduct;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new UserDTO();
+        testUser.setUsername("placement_user");
+        testUser.setEmail("placement.user@example.com");
+        userMapper.insert(testUser);
+
+        testProduct = new ProductDTO();
+        testProduct.setName("Placement Product");
+        testProduct.setDescription("Single statement product");
+        testProduct.setPrice(100.0);
+        testProduct.setStock(10);
+        productMapper.insert(testProduct);
+    }
+
+    @Test
+    @DisplayName("주문 생성 시 생성된 행과 ID를 반환하고 재고를 차감한다")
+    void testPlaceOrder() {
+        // When
+        Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 3);
+
+        // Then
+        assertThat(order.getId()).isNotNull();
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(order.getTotalAmount()).isEqualTo(300.0);
+        assertThat(order.getUser().getUsername()).isEqualTo("placement_user");
+        assertThat(order.getProduct().getPrice()).isEqualTo(100.0);
+        assertThat(orderMapper.findById(order.getId())).isNotNull();
+        assertThat(productMapper.findById(testProduct.getId()).getStock()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("재고 부족, 존재하지 않는 사용자/상품은 기존과 같은 예외를 던지고 재고를 바꾸지 않는다")
+    void testPlaceOrderFailures() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> orderService.createOrder(testUser.getId(), testProduct.getId(), 11));
+        ResourceNotFoundException userNotFound = assertThrows(ResourceNotFoundException.class,
+                () -> orderService.createOrder(999L, testProduct.getId(), 1));
+        ResourceNotFoundException productNotFound = assertThrows(ResourceNotFoundException.class,
+                () -> orderService.createOrder(testUser.getId(), 999L, 1));
+
+        assertThat(userNotFound.getMessage()).isEqualTo("User not found with id 999");
+        assertThat(productNotFound.getMessage()).isEqualTo("Product not found with id 999");
+        assertThat(orderMapper.findByUserId(testUser.getId())).isEmpty();
+        assertThat(productMapper.findById(testProduct.getId()).getStock()).isEqualTo(10);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("기존 4개 구문 방식과 처리 시간 비교")
+    void benchmarkAgainstMultiStatementPlacement() {
+        // Given: 두 방식 모두 충분한 재고
+        productMapper.increaseStock(testProduct.getId(), ITERATIONS * 2);
+
+        // When: 기존 방식(사용자 조회, 상품 조회, 조건부 차감, 주문 INSERT)
+        long begin = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            userMapper.findById(testUser.getId());
+            ProductDTO product = productMapper.findById(testProduct.getId());
+            productMapper.decreaseStock(testProduct.getId(), 1);
+            OrderDTO order = new OrderDTO();
+            order.setOrderDate(LocalDateTime.now());
+            order.setUserId(testUser.getId());
+            order.setProductId(testProduct.getId());
+            order.setQuantity(1);
+            order.setStatus(OrderStatus.PENDING.name());
+            order.setTotalAmount(product.getPrice());
+            orderMapper.insert(order);
+        }
+        long multiStatement = System.nanoTime() - begin;
+
+        // When: 단일 구문 방식
+        begin = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+        }
+        long singleStatement = System.nanoTime() - begin;
+
+        // Then: 두 방식 모두 같은 수만큼 재고를 차감
+        assertThat(productMapper.findById(testProduct.getId()).getStock()).isEqualTo(10);
+        log.info("{} orders - multi statement: {} us/order, single statement: {} us/order",
+                ITERATIONS, multiStatement / ITERATIONS / 1000, singleStatement / ITERATIONS / 1000);
+    }
+}
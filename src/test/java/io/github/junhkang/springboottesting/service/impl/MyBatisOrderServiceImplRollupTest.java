@@ -0,0 +1,225 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderDTO;
+import io.github.junhkang.springboottesting.domain.OrderLine;
+import io.github.junhkang.springboottesting.domain.ProductDTO;
+import io.github.junhkang.springboottesting.domain.RevenueBucket;
+import io.github.junhkang.springboottesting.domain.RevenueGroup;
+import io.github.junhkang.springboottesting.domain.UserDTO;
+import io.github.junhkang.springboottesting.repository.mybatis.OrderMapper;
+import io.github.junhkang.springboottesting.repository.mybatis.ProductMapper;
+import io.github.junhkang.springboottesting.repository.mybatis.UserMapper;
+import io.github.junhkang.springboottesting.service.rollup.RevenueRollups;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: MyBatisOrderServiceImplRollupTest
+ *
+ * 주문 생성/취소/수량 변경이 매출 롤업(revenue_rollups)에 반영되어, 롤업에서 읽은 집계가 orders를 직접 집계한
+ * 결과(OrderMapper.revenueBy*)와 같은지 검증합니다. 롤업 재계산은 별도 트랜잭션에서 실행되므로
+ * @Transactional을 사용하지 않고, 테스트가 만든 데이터는 @AfterEach에서 정리한 뒤 롤업도 다시 맞춥니다.
+ */
+@SpringBootTest(properties = "orders.rollups.enabled=true")
+@Import(MyBatisOrderServiceImpl.class)
+@ActiveProfiles("mybatis")
+@DisplayName("MyBatisOrderServiceImpl 매출 롤업 테스트")
+class MyBatisOrderServiceImplRollupTest {
+
+    private static final LocalTime END_OF_DAY = LocalTime.of(23, 59, 59, 999_999_000);
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private RevenueRollups revenueRollups;
+
+    @Autowired
+    private MyBatisOrderServiceImpl orderService;
+
+    private UserDTO testUser;
+    private ProductDTO testProduct;
+    private final List<Long> createdOrderIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 다른 테스트가 orders를 직접 지운 경우를 대비해 롤업을 먼저 맞춘다
+        revenueRollups.rebuildDrifted();
+
+        testUser = new UserDTO();
+        testUser.setUsername("rollup_user");
+        testUser.setEmail("rollup.user@example.com");
+        userMapper.insert(testUser);
+
+        testProduct = new ProductDTO();
+        testProduct.setName("Rollup Product");
+        testProduct.setDescription("Revenue rollup product");
+        testProduct.setPrice(10.0);
+        testProduct.setStock(100);
+        productMapper.insert(testProduct);
+    }
+
+    @AfterEach
+    void tearDown() {
+        createdOrderIds.forEach(orderMapper::delete);
+        productMapper.delete(testProduct.getId());
+        userMapper.delete(testUser.getId());
+        revenueRollups.rebuildDrifted();
+    }
+
+    @Test
+    @DisplayName("주문 생성/취소/수량 변경 후 롤업 집계가 orders 집계와 같다")
+    void testRollupsFollowOrderChanges() {
+        // Given: 3건 주문 후 1건 취소, 1건 수량 변경
+        Order first = createOrder(1);
+        Order second = createOrder(2);
+        createOrder(3);
+        orderService.cancelOrder(first.getId());
+        orderService.updateOrderQuantity(second.getId(), 5);
+
+        // When: 오늘 하루 전체 (롤업만 읽는 구간)
+        LocalDateTime start = LocalDate.now().atStartOfDay();
+        LocalDateTime end = LocalDate.now().atTime(END_OF_DAY);
+
+        // Then: 기준별로 orders 직접 집계와 같음
+        assertThat(orderService.getRevenue(RevenueGroup.DAY, start, end)).isEqualTo(orderMapper.revenueByDay(start, end));
+        assertThat(orderService.getRevenue(RevenueGroup.PRODUCT, start, end)).isEqualTo(orderMapper.revenueByProduct(start, end));
+        assertThat(orderService.getRevenue(RevenueGroup.STATUS, start, end)).isEqualTo(orderMapper.revenueByStatus(start, end));
+
+        RevenueBucket product = productBucket(start, end);
+        assertThat(product.getOrderCount()).isEqualTo(3L);
+        assertThat(product.getRevenue()).isEqualTo(90.0);
+    }
+
+    @Test
+    @DisplayName("대량 주문도 롤업에 반영된다")
+    void testBulkOrdersAreRolledUp() {
+        // Given: 같은 상품 2라인 대량 주문
+        createOrder(1);
+        LocalDateTime start = LocalDate.now().atStartOfDay();
+        LocalDateTime end = LocalDate.now().atTime(END_OF_DAY);
+
+        OrderLine line = new OrderLine();
+        line.setUserId(testUser.getId());
+        line.setProductId(testProduct.getId());
+        line.setQuantity(2);
+        orderService.createOrders(List.of(line, line)).forEach(result -> createdOrderIds.add(result.getOrderId()));
+
+        // Then: 단건 1개 + 대량 2라인
+        RevenueBucket product = productBucket(start, end);
+        assertThat(product.getOrderCount()).isEqualTo(3L);
+        assertThat(product.getRevenue()).isEqualTo(50.0);
+    }
+
+    @Test
+    @DisplayName("롤업을 거치지 않고 바뀐 주문은 재계산 작업이 어긋난 달만 다시 계산한다")
+    void testRebuildDriftedMonths() {
+        // Given: 서비스 주문 1건 + 롤업을 거치지 않고 직접 INSERT한 주문 1건
+        createOrder(1);
+        OrderDTO direct = new OrderDTO();
+        direct.setOrderDate(LocalDateTime.now());
+        direct.setUserId(testUser.getId());
+        direct.setProductId(testProduct.getId());
+        direct.setQuantity(4);
+        direct.setStatus("PENDING");
+        direct.setTotalAmount(40.0);
+        orderMapper.insert(direct);
+        createdOrderIds.add(direct.getId());
+
+        LocalDateTime start = LocalDate.now().atStartOfDay();
+        LocalDateTime end = LocalDate.now().atTime(END_OF_DAY);
+        assertThat(productBucket(start, end).getOrderCount()).isEqualTo(1L);
+
+        // When: 재계산
+        int rebuilt = revenueRollups.rebuildDrifted();
+
+        // Then: 이번 달만 다시 계산되어 직접 INSERT한 주문까지 반영
+        assertThat(rebuilt).isEqualTo(1);
+        assertThat(productBucket(start, end).getOrderCount()).isEqualTo(2L);
+        assertThat(productBucket(start, end).getRevenue()).isEqualTo(50.0);
+        assertThat(revenueRollups.rebuildDrifted()).isZero();
+    }
+
+    @Test
+    @DisplayName("주기 검사는 마지막 검사 이후 들어온 주문의 달만 비교하고, 그 밖의 변경은 전체 검사로 맞춘다")
+    void testRecentCheckCoversOnlyNewOrders() {
+        // Given: setUp의 전체 검사로 워터마크가 마지막 주문까지 올라간 뒤, 롤업을 거치지 않고 과거 날짜 주문을 직접 INSERT
+        OrderDTO backfilled = new OrderDTO();
+        backfilled.setOrderDate(LocalDateTime.of(2023, 3, 10, 10, 0));
+        backfilled.setUserId(testUser.getId());
+        backfilled.setProductId(testProduct.getId());
+        backfilled.setQuantity(2);
+        backfilled.setStatus("PENDING");
+        backfilled.setTotalAmount(20.0);
+        orderMapper.insert(backfilled);
+        createdOrderIds.add(backfilled.getId());
+
+        // When & Then: 새 주문이 속한 달만 다시 계산되고, 새 주문이 없으면 검사하지 않음
+        assertThat(revenueRollups.rebuildRecentDrifted()).isEqualTo(1);
+        assertThat(productBucket(LocalDateTime.of(2023, 3, 10, 0, 0), LocalDate.of(2023, 3, 10).atTime(END_OF_DAY)).getOrderCount())
+                .isEqualTo(1L);
+        assertThat(revenueRollups.rebuildRecentDrifted()).isZero();
+
+        // When: 같은 주문을 직접 삭제 (새 주문이 아니므로 주기 검사 대상이 아님)
+        orderMapper.delete(backfilled.getId());
+        createdOrderIds.remove(backfilled.getId());
+
+        // Then: 주기 검사는 지나치고, 전체 검사가 그 달을 다시 계산
+        assertThat(revenueRollups.rebuildRecentDrifted()).isZero();
+        assertThat(revenueRollups.rebuildDrifted()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "2024-01-01T00:00, 2024-12-31T23:59",
+            "2024-01-15T10:00, 2024-05-25T11:20",
+            "2024-02-01T00:00, 2024-04-30T23:59:59.999999",
+            "2024-01-15T11:00, 2024-01-15T12:00",
+            "2024-03-05T09:15, 2024-04-10T16:00"
+    })
+    @DisplayName("하루/한 달 전체가 아닌 구간이 섞여도 orders 집계와 같다")
+    void testPartialRangesMatchOrders(String startDate, String endDate) {
+        LocalDateTime start = LocalDateTime.parse(startDate);
+        LocalDateTime end = LocalDateTime.parse(endDate);
+
+        assertThat(orderService.getRevenue(RevenueGroup.DAY, start, end)).isEqualTo(orderMapper.revenueByDay(start, end));
+        assertThat(orderService.getRevenue(RevenueGroup.PRODUCT, start, end)).isEqualTo(orderMapper.revenueByProduct(start, end));
+        assertThat(orderService.getRevenue(RevenueGroup.STATUS, start, end)).isEqualTo(orderMapper.revenueByStatus(start, end));
+    }
+
+    private Order createOrder(int quantity) {
+        Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), quantity);
+        createdOrderIds.add(order.getId());
+        return order;
+    }
+
+    private RevenueBucket productBucket(LocalDateTime start, LocalDateTime end) {
+        return orderService.getRevenue(RevenueGroup.PRODUCT, start, end).stream()
+                .filter(bucket -> bucket.getKey().equals(String.valueOf(testProduct.getId())))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,217 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderLine;
+import io.github.junhkang.springboottesting.domain.OrderLineResult;
+import io.github.junhkang.springboottesting.domain.ProductDTO;
+import io.github.junhkang.springboottesting.domain.UserDTO;
+import io.github.junhkang.springboottesting.repository.mybatis.OrderMapper;
+import io.github.junhkang.springboottesting.repository.mybatis.ProductMapper;
+import io.github.junhkang.springboottesting.repository.mybatis.StockBucketMapper;
+import io.github.junhkang.springboottesting.repository.mybatis.UserMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: MyBatisOrderServiceImplStockBucketsTest
+ *
+ * 재고 분할 모드(inventory.buckets.enabled=true)에서 64개 스레드가 한 상품에 동시에 주문할 때
+ * 초과 판매 없이 재고가 정확히 소진되는지 검증합니다.
+ * 분할하지 않은 상품과의 처리 시간 비교는 -Dbenchmark=true로 실행할 때만 수행합니다.
+ *
+ * 각 스레드가 별도의 트랜잭션으로 커밋해야 하므로 @Transactional을 사용하지 않고,
+ * 테스트가 만든 데이터는 @AfterEach에서 직접 정리합니다.
+ */
+@Slf4j
+@SpringBootTest(properties = "inventory.buckets.enabled=true")
+@Import(MyBatisOrderServiceImpl.class)
+@ActiveProfiles("mybatis")
+@DisplayName("MyBatisOrderServiceImpl 재고 분할 테스트")
+class MyBatisOrderServiceImplStockBucketsTest {
+
+    private static final int THREADS = 64;
+    private static final int ORDERS = 640;
+    private static final int STOCK = 500;
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private StockBucketMapper stockBucketMapper;
+
+    @Autowired
+    private MyBatisProductServiceImpl productService;
+
+    @Autowired
+    private MyBatisOrderServiceImpl orderService;
+
+    private UserDTO testUser;
+    private final List<ProductDTO> createdProducts = new ArrayList<>();
+    private final Queue<Long> createdOrderIds = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        testUser = new UserDTO();
+        testUser.setUsername("bucket_user");
+        testUser.setEmail("bucket.user@example.com");
+        userMapper.insert(testUser);
+    }
+
+    @AfterEach
+    void tearDown() {
+        createdOrderIds.forEach(orderMapper::delete);
+        createdProducts.forEach(product -> {
+            stockBucketMapper.deleteByProductId(product.getId());
+            productMapper.delete(product.getId());
+        });
+        userMapper.delete(testUser.getId());
+    }
+
+    @Test
+    @DisplayName("분할된 상품은 조회 시 버킷 재고를 합산한다")
+    void testGetProductByIdSumsBuckets() {
+        // Given
+        ProductDTO product = createProduct(STOCK);
+
+        // When: 재고를 버킷으로 분할
+        productService.splitStock(product.getId());
+
+        // Then: product 행은 비고, 조회한 재고는 버킷의 합
+        assertThat(productMapper.findById(product.getId()).getStock()).isZero();
+        assertThat(stockBucketMapper.findByProductId(product.getId())).hasSize(8);
+        assertThat(productService.getProductById(product.getId()).getStock()).isEqualTo(STOCK);
+    }
+
+    @Test
+    @DisplayName("주문 취소와 대량 주문도 버킷 재고를 사용한다")
+    void testCancelAndBatchUseBuckets() {
+        // Given
+        ProductDTO product = createProduct(20);
+        productService.splitStock(product.getId());
+
+        // When: 단건 주문 후 취소, 이어서 남은 재고를 넘는 대량 주문
+        Order order = orderService.createOrder(testUser.getId(), product.getId(), 5);
+        createdOrderIds.add(order.getId());
+        orderService.cancelOrder(order.getId());
+        List<OrderLineResult> results = orderService.createOrders(List.of(
+                new OrderLine(testUser.getId(), product.getId(), 15),
+                new OrderLine(testUser.getId(), product.getId(), 6)));
+        results.stream().filter(OrderLineResult::isSuccess).forEach(result -> createdOrderIds.add(result.getOrderId()));
+
+        // Then: 취소된 재고가 돌아와 15개는 성공, 나머지 6개는 재고 부족
+        assertThat(results).extracting(OrderLineResult::isSuccess).containsExactly(true, false);
+        assertThat(productService.getProductById(product.getId()).getStock()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("64개 스레드가 한 상품에 동시 주문해도 재고 이상으로 판매되지 않는다")
+    void testConcurrentOrdersOnShardedProduct() throws InterruptedException {
+        // Given: 같은 재고의 상품 두 개 중 하나만 분할
+        ProductDTO single = createProduct(STOCK);
+        ProductDTO sharded = createProduct(STOCK);
+        productService.splitStock(sharded.getId());
+
+        // When: 각 상품에 재고보다 많은 주문을 64개 스레드로 동시에 실행
+        AtomicInteger singleSucceeded = new AtomicInteger();
+        runConcurrently(() -> order(single, singleSucceeded));
+        AtomicInteger shardedSucceeded = new AtomicInteger();
+        runConcurrently(() -> order(sharded, shardedSucceeded));
+
+        // Then: 두 방식 모두 정확히 재고 수만큼만 성공하고 재고는 0이 됨
+        assertThat(singleSucceeded.get()).isEqualTo(STOCK);
+        assertThat(shardedSucceeded.get()).isEqualTo(STOCK);
+        assertThat(productService.getProductById(single.getId()).getStock()).isZero();
+        assertThat(productService.getProductById(sharded.getId()).getStock()).isZero();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("64개 스레드 동시 주문 처리 시간: product 행 하나 vs 8개 버킷")
+    void benchmarkContentionOnShardedProduct() throws InterruptedException {
+        // Given: 주문 수만큼 재고가 있는 상품 두 개 중 하나만 분할
+        ProductDTO single = createProduct(ORDERS);
+        ProductDTO sharded = createProduct(ORDERS);
+        productService.splitStock(sharded.getId());
+
+        // When
+        AtomicInteger singleSucceeded = new AtomicInteger();
+        long singleElapsed = runConcurrently(() -> order(single, singleSucceeded));
+        AtomicInteger shardedSucceeded = new AtomicInteger();
+        long shardedElapsed = runConcurrently(() -> order(sharded, shardedSucceeded));
+
+        // Then
+        log.info("{} orders on {} threads - single row: {} ms, 8 buckets: {} ms", ORDERS, THREADS, singleElapsed, shardedElapsed);
+        assertThat(singleSucceeded.get()).isEqualTo(ORDERS);
+        assertThat(shardedSucceeded.get()).isEqualTo(ORDERS);
+    }
+
+    private void order(ProductDTO product, AtomicInteger succeeded) {
+        try {
+            Order order = orderService.createOrder(testUser.getId(), product.getId(), 1);
+            createdOrderIds.add(order.getId());
+            succeeded.incrementAndGet();
+        } catch (IllegalArgumentException e) {
+            // 재고 부족
+        }
+    }
+
+    private ProductDTO createProduct(int stock) {
+        ProductDTO product = new ProductDTO();
+        product.setName("Launch Product");
+        product.setDescription("Sharded stock product");
+        product.setPrice(10.0);
+        product.setStock(stock);
+        productMapper.insert(product);
+        createdProducts.add(product);
+        return product;
+    }
+
+    private long runConcurrently(Runnable task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(ORDERS);
+        for (int i = 0; i < ORDERS; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+    }
+}
@@ -0,0 +1,121 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.junhkang.springboottesting.domain.ProductDTO;
+import io.github.junhkang.springboottesting.domain.UserDTO;
+import io.github.junhkang.springboottesting.repository.mybatis.ProductMapper;
+import io.github.junhkang.springboottesting.repository.mybatis.UserMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: MyBatisOrderServiceImplSummaryTest
+ *
+ * 같은 주문 목록을 전체 조회와 요약 조회로 읽어 JSON으로 직렬화했을 때의 응답 크기를 비교합니다.
+ * 요청당 할당량(조회 + 직렬화, 현재 스레드 기준) 측정은 -Dbenchmark=true로 실행할 때만 수행합니다.
+ */
+@Slf4j
+@SpringBootTest
+@Import(MyBatisOrderServiceImpl.class)
+@ActiveProfiles("mybatis")
+@Transactional
+@DisplayName("MyBatisOrderServiceImpl 요약 조회 측정")
+class MyBatisOrderServiceImplSummaryTest {
+
+    private static final int ORDERS = 1000;
+    private static final int ITERATIONS = 50;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private MyBatisOrderServiceImpl orderService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private UserDTO testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new UserDTO();
+        testUser.setUsername("summary_user");
+        testUser.setEmail("summary.user@example.com");
+        userMapper.insert(testUser);
+
+        ProductDTO testProduct = new ProductDTO();
+        testProduct.setName("Summary Product");
+        testProduct.setDescription("Product used to compare full and summary order views");
+        testProduct.setPrice(100.0);
+        testProduct.setStock(ORDERS);
+        productMapper.insert(testProduct);
+
+        for (int i = 0; i < ORDERS; i++) {
+            orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+        }
+    }
+
+    @Test
+    @DisplayName("요약 조회는 전체 조회보다 응답 크기가 작다")
+    void testSummaryIsSmallerOnTheWire() {
+        // When: 같은 사용자의 주문을 두 방식으로 조회 + 직렬화
+        byte[] full = serialize(orderService.getOrdersByUserId(testUser.getId()));
+        byte[] summary = serialize(orderService.getOrderSummariesByUserId(testUser.getId()));
+
+        // Then
+        assertThat(summary.length).isLessThan(full.length);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("전체 조회 대비 요약 조회의 응답 크기와 요청당 할당량 측정")
+    void benchmarkWireSizeAndAllocation() {
+        // When
+        Supplier<byte[]> full = () -> serialize(orderService.getOrdersByUserId(testUser.getId()));
+        Supplier<byte[]> summary = () -> serialize(orderService.getOrderSummariesByUserId(testUser.getId()));
+        int fullBytes = full.get().length;
+        int summaryBytes = summary.get().length;
+        long fullAllocated = allocatedPerRequest(full);
+        long summaryAllocated = allocatedPerRequest(summary);
+
+        // Then
+        log.info("{} orders - full: {} bytes, {} KB allocated/request; summary: {} bytes, {} KB allocated/request",
+                ORDERS, fullBytes, fullAllocated >> 10, summaryBytes, summaryAllocated >> 10);
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long allocatedPerRequest(Supplier<byte[]> request) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < ITERATIONS; i++) {
+            request.get(); // 워밍업
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            request.get();
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - before) / ITERATIONS;
+    }
+}
@@ -1,10 +1,13 @@
 package io.github.junhkang.springboottesting.service.impl;
 
 import io.github.junhkang.springboottesting.domain.*;
+import io.github.junhkang.springboottesting.exception.IdempotencyKeyMismatchException;
 import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import io.github.junhkang.springboottesting.repository.mybatis.IdempotencyKeyMapper;
 import io.github.junhkang.springboottesting.repository.mybatis.OrderMapper;
 import io.github.junhkang.springboottesting.repository.mybatis.ProductMapper;
 import io.github.junhkang.springboottesting.repository.mybatis.UserMapper;
+import io.github.junhkang.springboottesting.service.idempotency.IdempotencyKeyPurger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,6 +19,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
@@ -60,6 +64,12 @@ class MyBatisOrderServiceImplTest {
     @Autowired
     private MyBatisOrderServiceImpl orderService;
 
+    @Autowired
+    private IdempotencyKeyMapper idempotencyKeyMapper;
+
+    @Autowired
+    private IdempotencyKeyPurger idempotencyKeyPurger;
+
     private UserDTO testUser;
     private ProductDTO testProduct;
 
@@ -405,6 +415,228 @@ class MyBatisOrderServiceImplTest {
         }
     }
 
+    /**
+     * 멱등 키 관련 테스트 그룹
+     */
+    @Nested
+    @DisplayName("멱등 키 관련 테스트")
+    class IdempotencyTests {
+
+        @Test
+        @DisplayName("같은 멱등 키로 재요청하면 최초 주문을 반환하고 재고를 다시 차감하지 않는다")
+        void testCreateOrderWithSameKeyReturnsOriginalOrder() {
+            // Given: 멱등 키로 주문 생성
+            Order first = orderService.createOrder(testUser.getId(), testProduct.getId(), 3, "key-1");
+
+            // When: 같은 키로 다시 요청
+            Order replayed = orderService.createOrder(testUser.getId(), testProduct.getId(), 3, "key-1");
+
+            // Then: 같은 주문이 반환되고, 주문은 하나만 저장되며 재고는 한 번만 차감됨
+            assertThat(replayed.getId()).isEqualTo(first.getId());
+            assertThat(orderMapper.findByUserId(testUser.getId())).hasSize(1);
+            assertThat(productMapper.findById(testProduct.getId()).getStock()).isEqualTo(47);
+        }
+
+        @Test
+        @DisplayName("다른 멱등 키는 별도의 주문을 생성한다")
+        void testCreateOrderWithDifferentKeys() {
+            // When: 서로 다른 키로 주문 2건 생성
+            Order first = orderService.createOrder(testUser.getId(), testProduct.getId(), 3, "key-1");
+            Order second = orderService.createOrder(testUser.getId(), testProduct.getId(), 3, "key-2");
+
+            // Then: 주문 2건이 생성되고 재고도 두 번 차감됨
+            assertThat(second.getId()).isNotEqualTo(first.getId());
+            assertThat(productMapper.findById(testProduct.getId()).getStock()).isEqualTo(44);
+        }
+
+        @Test
+        @DisplayName("같은 멱등 키로 다른 파라미터의 요청이 오면 IdempotencyKeyMismatchException을 던진다")
+        void testCreateOrderWithSameKeyAndDifferentParameters() {
+            // Given: 수량 3으로 멱등 키 사용
+            Order first = orderService.createOrder(testUser.getId(), testProduct.getId(), 3, "key-1");
+
+            // When & Then: 같은 키로 수량만 바꿔 요청하면 거부되고, 최초 주문 외에 재고는 차감되지 않음
+            assertThrows(IdempotencyKeyMismatchException.class,
+                    () -> orderService.createOrder(testUser.getId(), testProduct.getId(), 5, "key-1"));
+            assertThat(orderMapper.findByUserId(testUser.getId())).extracting(OrderDTO::getId).containsExactly(first.getId());
+            assertThat(productMapper.findById(testProduct.getId()).getStock()).isEqualTo(47);
+        }
+
+        @Test
+        @DisplayName("TTL이 지난 멱등 키만 정리된다")
+        void testPurgeExpiredKeys() {
+            // Given: 방금 사용한 키와 TTL(1일)보다 오래된 키
+            Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 1, "fresh-key");
+            idempotencyKeyMapper.insert("stale-key", order.getId(),
+                    IdempotencyKey.hashRequest(testUser.getId(), testProduct.getId(), 1), LocalDateTime.now().minusDays(2));
+
+            // When
+            int purged = idempotencyKeyPurger.purgeExpired();
+
+            // Then
+            assertThat(purged).isEqualTo(1);
+            assertThat(idempotencyKeyMapper.findByKey("stale-key")).isNull();
+            assertThat(idempotencyKeyMapper.findByKey("fresh-key").getOrderId()).isEqualTo(order.getId());
+        }
+    }
+
+    /**
+     * 키셋 페이지네이션 관련 테스트 그룹
+     */
+    @Nested
+    @DisplayName("키셋 페이지네이션 관련 테스트")
+    class PaginationTests {
+
+        @Test
+        @DisplayName("토큰을 따라가면 모든 주문을 ID 순으로 중복 없이 조회한다")
+        void testWalkAllPages() {
+            // Given: data.sql의 주문 5건 + 이 테스트에서 2건 = 총 7건
+            orderService.createOrder(testUser.getId(), testProduct.getId(), 2);
+            orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+
+            // When: 3건씩 다음 페이지 토큰을 따라가며 조회
+            List<Long> ids = new ArrayList<>();
+            int pages = 0;
+            String next = null;
+            do {
+                OrderPage page = orderService.getOrders(OrderPage.decodeToken(next), 3);
+                page.getOrders().forEach(order -> ids.add(order.getId()));
+                next = page.getNext();
+                pages++;
+            } while (next != null);
+
+            // Then: 3페이지(3 + 3 + 1)에 걸쳐 전체 주문이 오름차순으로 한 번씩 반환됨
+            assertThat(pages).isEqualTo(3);
+            assertThat(ids).hasSize(7).doesNotHaveDuplicates().isSorted();
+        }
+
+        @Test
+        @DisplayName("사용자별 페이지는 해당 사용자의 주문만 반환한다")
+        void testGetOrdersByUserIdPage() {
+            // Given: testUser의 주문 3건
+            Order order1 = orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+            Order order2 = orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+            Order order3 = orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+
+            // When: 2건씩 조회
+            OrderPage first = orderService.getOrdersByUserId(testUser.getId(), null, 2);
+            OrderPage second = orderService.getOrdersByUserId(testUser.getId(), OrderPage.decodeToken(first.getNext()), 2);
+
+            // Then: 첫 페이지 2건 + 마지막 페이지 1건, 마지막 페이지에는 다음 토큰이 없음
+            assertThat(first.getOrders()).extracting(Order::getId).containsExactly(order1.getId(), order2.getId());
+            assertThat(second.getOrders()).extracting(Order::getId).containsExactly(order3.getId());
+            assertThat(second.getNext()).isNull();
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 사용자의 페이지 조회 시 예외가 발생한다")
+        void testGetOrdersByUserIdPageWithNonExistentUser() {
+            // When & Then
+            ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () ->
+                    orderService.getOrdersByUserId(999L, null, 10));
+            assertThat(exception.getMessage()).isEqualTo("User not found with id 999");
+        }
+    }
+
+    /**
+     * 주문 내보내기 관련 테스트 그룹
+     */
+    @Nested
+    @DisplayName("주문 내보내기 관련 테스트")
+    class ExportTests {
+
+        @Test
+        @DisplayName("모든 주문을 ID 순으로 한 건씩 전달하고 건수를 반환한다")
+        void testExportOrders() {
+            // Given: data.sql의 주문 5건 + 이 테스트에서 2건
+            Order order1 = orderService.createOrder(testUser.getId(), testProduct.getId(), 2);
+            Order order2 = orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+
+            // When
+            List<Order> exported = new ArrayList<>();
+            long count = orderService.exportOrders(exported::add);
+
+            // Then: 사용자/상품 정보까지 채워진 주문이 오름차순으로 전달됨
+            assertThat(count).isEqualTo(7);
+            assertThat(exported).extracting(Order::getId).doesNotHaveDuplicates().isSorted()
+                    .contains(order1.getId(), order2.getId());
+            assertThat(exported.get(exported.size() - 1).getUser().getUsername()).isEqualTo("test_user");
+            assertThat(exported.get(exported.size() - 1).getProduct().getName()).isEqualTo("Test Product");
+        }
+    }
+
+    /**
+     * 요약 조회 관련 테스트 그룹
+     */
+    @Nested
+    @DisplayName("요약 조회 관련 테스트")
+    class SummaryTests {
+
+        @Test
+        @DisplayName("요약 조회는 전체 조회와 같은 주문의 ID/상태/금액을 반환한다")
+        void testGetOrderSummaries() {
+            // Given
+            Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 2);
+
+            // When
+            List<OrderSummary> summaries = orderService.getOrderSummaries();
+
+            // Then
+            assertThat(summaries).hasSize(6);
+            OrderSummary summary = summaries.stream()
+                    .filter(s -> s.getId().equals(order.getId()))
+                    .findFirst().orElseThrow();
+            assertThat(summary.getStatus()).isEqualTo(OrderStatus.PENDING);
+            assertThat(summary.getTotalAmount()).isEqualTo(200.0);
+            assertThat(summary.getOrderDate()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("사용자별 요약 조회는 해당 사용자의 주문만 반환하고, 없는 사용자는 예외가 발생한다")
+        void testGetOrderSummariesByUserId() {
+            // Given
+            Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+
+            // When
+            List<OrderSummary> summaries = orderService.getOrderSummariesByUserId(testUser.getId());
+
+            // Then
+            assertThat(summaries).extracting(OrderSummary::getId).containsExactly(order.getId());
+            assertThrows(ResourceNotFoundException.class, () -> orderService.getOrderSummariesByUserId(999L));
+        }
+
+        @Test
+        @DisplayName("요약 페이지는 토큰을 따라가면 사용자의 주문을 ID 순으로 중복 없이 반환한다")
+        void testWalkOrderSummaryPagesByUserId() {
+            // Given: 사용자 주문 3건
+            Order first = orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+            Order second = orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+            Order third = orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+
+            // When: 2건씩 조회
+            OrderSummaryPage page1 = orderService.getOrderSummariesByUserId(testUser.getId(), null, 2);
+            OrderSummaryPage page2 = orderService.getOrderSummariesByUserId(
+                    testUser.getId(), OrderPage.decodeToken(page1.getNext()), 2);
+
+            // Then
+            assertThat(page1.getSummaries()).extracting(OrderSummary::getId).containsExactly(first.getId(), second.getId());
+            assertThat(page2.getSummaries()).extracting(OrderSummary::getId).containsExactly(third.getId());
+            assertThat(page2.getNext()).isNull();
+            assertThrows(ResourceNotFoundException.class, () -> orderService.getOrderSummariesByUserId(999L, null, 2));
+        }
+
+        @Test
+        @DisplayName("전체 요약 페이지는 limit건만 반환하고 다음 페이지 토큰을 준다")
+        void testGetOrderSummaryPage() {
+            // When: data.sql의 주문 5건 중 3건
+            OrderSummaryPage page = orderService.getOrderSummaries(null, 3);
+
+            // Then
+            assertThat(page.getSummaries()).hasSize(3);
+            assertThat(page.getNext()).isEqualTo(OrderPage.encodeToken(page.getSummaries().get(2).getId()));
+        }
+    }
+
     /**
      * 취소 관련 테스트 그룹
      */
@@ -0,0 +1,112 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.ProductDTO;
+import io.github.junhkang.springboottesting.domain.UserDTO;
+import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import io.github.junhkang.springboottesting.repository.mybatis.OrderMapper;
+import io.github.junhkang.springboottesting.repository.mybatis.ProductMapper;
+import io.github.junhkang.springboottesting.repository.mybatis.UserMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 테스트 클래스: MyBatisOrderServiceImplTotalAmountTest
+ *
+ * 주문 총액 조회가 반복 조회를 캐시에서 처리하고, 수량 변경 후에는 바뀐 총액을 반환하는지 검증합니다.
+ * 캐시는 커밋된 값만 저장하므로 @Transactional을 사용하지 않고, 테스트가 만든 데이터는 @AfterEach에서 직접 정리합니다.
+ */
+@SpringBootTest
+@Import(MyBatisOrderServiceImpl.class)
+@ActiveProfiles("mybatis")
+@DisplayName("MyBatisOrderServiceImpl 주문 총액 조회 테스트")
+class MyBatisOrderServiceImplTotalAmountTest {
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private MyBatisOrderServiceImpl orderService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private UserDTO testUser;
+    private ProductDTO testProduct;
+    private final List<Long> createdOrderIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        testUser = new UserDTO();
+        testUser.setUsername("total_user");
+        testUser.setEmail("total.user@example.com");
+        userMapper.insert(testUser);
+
+        testProduct = new ProductDTO();
+        testProduct.setName("Total Product");
+        testProduct.setDescription("Total amount cache product");
+        testProduct.setPrice(10.0);
+        testProduct.setStock(100);
+        productMapper.insert(testProduct);
+    }
+
+    @AfterEach
+    void tearDown() {
+        createdOrderIds.forEach(orderMapper::delete);
+        productMapper.delete(testProduct.getId());
+        userMapper.delete(testUser.getId());
+    }
+
+    @Test
+    @DisplayName("반복 조회는 캐시에서 반환하고, 수량 변경 후에는 바뀐 총액을 반환한다")
+    void testRepeatedReadHitsAndUpdateInvalidates() {
+        // Given: 수량 2 (총액 20)
+        Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 2);
+        createdOrderIds.add(order.getId());
+        assertThat(orderService.calculateTotalAmount(order.getId())).isEqualTo(20.0);
+
+        // When: 다시 조회
+        double hitsBefore = hits();
+        Double cached = orderService.calculateTotalAmount(order.getId());
+
+        // Then: 캐시 적중
+        assertThat(cached).isEqualTo(20.0);
+        assertThat(hits()).isEqualTo(hitsBefore + 1);
+
+        // When: 수량을 5로 변경
+        orderService.updateOrderQuantity(order.getId(), 5);
+
+        // Then: 바뀐 총액
+        assertThat(orderService.calculateTotalAmount(order.getId())).isEqualTo(50.0);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 주문은 ResourceNotFoundException")
+    void testMissingOrder() {
+        assertThrows(ResourceNotFoundException.class, () -> orderService.calculateTotalAmount(-1L));
+        assertThrows(ResourceNotFoundException.class, () -> orderService.calculateTotalAmount(-1L));
+    }
+
+    private double hits() {
+        return meterRegistry.get("orders.total.cache.gets").tag("result", "hit").counter().count();
+    }
+}
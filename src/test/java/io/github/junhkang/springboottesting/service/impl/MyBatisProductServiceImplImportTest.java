@@ -0,0 +1,175 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.junhkang.springboottesting.domain.ProductDTO;
+import io.github.junhkang.springboottesting.domain.ProductImportError;
+import io.github.junhkang.springboottesting.domain.ProductImportReport;
+import io.github.junhkang.springboottesting.repository.mybatis.ProductMapper;
+import io.github.junhkang.springboottesting.service.catalog.ProductImportReader;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: MyBatisProductServiceImplImportTest
+ *
+ * BATCH 실행기로 묶음마다 커밋하는 대량 상품 등록(importProducts)을 검증합니다.
+ * 등록은 묶음마다 별도 트랜잭션으로 커밋되므로 @Transactional 대신 @AfterEach에서 정리합니다.
+ *
+ * 100만 건 처리량 측정은 -Dbenchmark=true로 실행할 때만 수행합니다.
+ */
+@Slf4j
+@SpringBootTest
+@Import(MyBatisProductServiceImpl.class)
+@ActiveProfiles("mybatis")
+@DisplayName("MyBatisProductServiceImpl 대량 상품 등록 테스트")
+class MyBatisProductServiceImplImportTest {
+
+    @Autowired
+    private MyBatisProductServiceImpl productService;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM product WHERE name LIKE 'Import %'");
+    }
+
+    @Test
+    @DisplayName("검증을 통과한 행만 등록하고 실패한 행은 줄 번호와 함께 보고한다")
+    void testImportReportsInvalidRows() {
+        // Given: 정상 3건, 이름 누락/음수 가격/음수 재고/숫자 오류 각 1건
+        String body = "name,description,price,stock\n"
+                + "Import Desk,Oak desk,120.5,3\n"
+                + ",No name,10,1\n"
+                + "Import Lamp,,15,10\n"
+                + "Import Broken,,-1,1\n"
+                + "Import Empty,,1,-5\n"
+                + "Import Typo,,1,x\n"
+                + "Import Chair,,40,7\n";
+
+        // When
+        ProductImportReport report = productService.importProducts(reader(body, ProductImportReader.Format.CSV));
+
+        // Then
+        assertThat(report.getImported()).isEqualTo(3);
+        assertThat(report.getFailed()).isEqualTo(4);
+        assertThat(report.getErrors()).extracting(ProductImportError::getLine).containsExactly(3L, 5L, 6L, 7L);
+        assertThat(report.getErrors()).extracting(ProductImportError::getError).containsExactly(
+                "Product name is required.",
+                "Product price cannot be negative.",
+                "Product stock cannot be negative.",
+                "Invalid stock: x");
+        List<ProductDTO> imported = productMapper.findAll().stream()
+                .filter(product -> product.getName().startsWith("Import "))
+                .toList();
+        assertThat(imported).extracting(ProductDTO::getName)
+                .containsExactlyInAnyOrder("Import Desk", "Import Lamp", "Import Chair");
+        assertThat(imported).allSatisfy(product -> assertThat(product.getId()).isNotNull());
+    }
+
+    @Test
+    @DisplayName("NDJSON 본문도 같은 검증을 거쳐 등록한다")
+    void testImportNdjson() {
+        // Given
+        String body = "{\"name\": \"Import Desk\", \"price\": 120.5, \"stock\": 3}\n"
+                + "{\"name\": \"Import Free\", \"price\": null, \"stock\": 3}\n";
+
+        // When
+        ProductImportReport report = productService.importProducts(reader(body, ProductImportReader.Format.NDJSON));
+
+        // Then
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getErrors()).containsExactly(new ProductImportError(2, "Product price cannot be negative."));
+    }
+
+    @Test
+    @DisplayName("INSERT가 실패한 묶음은 행 단위로 다시 시도해 실패한 행만 일반 메시지로 보고한다")
+    void testFailedBatchIsRetriedRowByRow() {
+        // Given: 검증은 통과하지만 이름이 컬럼 길이(255)를 넘어 INSERT가 실패하는 행이 섞인 한 묶음
+        String body = "name,description,price,stock\n"
+                + "Import Desk,,120.5,3\n"
+                + "Import " + "x".repeat(300) + ",,10,1\n"
+                + "Import Chair,,40,7\n";
+
+        // When
+        ProductImportReport report = productService.importProducts(reader(body, ProductImportReader.Format.CSV));
+
+        // Then: 나머지 행은 등록되고, 실패한 줄만 드라이버 메시지 없이 보고됨
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getFailed()).isEqualTo(1);
+        assertThat(report.getErrors()).containsExactly(new ProductImportError(3, "Insert failed."));
+        assertThat(productMapper.findAll()).extracting(ProductDTO::getName)
+                .contains("Import Desk", "Import Chair");
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("100만 건 CSV 등록 처리량 측정")
+    void benchmarkImportOneMillionProducts() {
+        // Given: 100만 줄을 필요한 만큼만 생성하는 본문
+        int count = 1_000_000;
+        InputStream body = new GeneratedCsv(count);
+
+        // When
+        ProductImportReport report = productService.importProducts(
+                new ProductImportReader(body, ProductImportReader.Format.CSV, objectMapper));
+
+        // Then
+        double perSecond = report.getImported() * 1000.0 / Math.max(1, report.getElapsedMillis());
+        log.info("Imported {} products in {} ms ({} rows/s)", report.getImported(), report.getElapsedMillis(), Math.round(perSecond));
+        assertThat(report.getImported()).isEqualTo(count);
+        assertThat(report.getFailed()).isZero();
+    }
+
+    private ProductImportReader reader(String body, ProductImportReader.Format format) {
+        return new ProductImportReader(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format, objectMapper);
+    }
+
+    // 헤더와 count개의 상품 줄을 읽히는 대로 만들어 내는 본문
+    private static class GeneratedCsv extends InputStream {
+        private final int count;
+        private int next = -1;
+        private byte[] line = new byte[0];
+        private int position;
+
+        GeneratedCsv(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public int read() {
+            if (position == line.length) {
+                if (next == count) {
+                    return -1;
+                }
+                String text = next < 0 ? "name,description,price,stock\n" : "Import Bench " + next + ",Benchmark product," + (next % 1000) + ".5,100\n";
+                line = text.getBytes(StandardCharsets.UTF_8);
+                position = 0;
+                next++;
+            }
+            return line[position++] & 0xFF;
+        }
+    }
+}
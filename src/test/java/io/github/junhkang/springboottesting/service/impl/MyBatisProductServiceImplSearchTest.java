@@ -0,0 +1,87 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.ProductNameMatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 테스트 클래스: MyBatisProductServiceImplSearchTest
+ *
+ * 이름 검색 인덱스로 찾은 상품을 PK 조회해 인덱스 순서대로 반환하는지, createProduct가 인덱스에 반영되는지 검증합니다.
+ * 인덱스는 커밋된 상품만 반영하므로, 검색되는 경우는 트랜잭션 밖에서 생성하고 @AfterEach에서 정리합니다.
+ */
+@SpringBootTest
+@Import(MyBatisProductServiceImpl.class)
+@ActiveProfiles("mybatis")
+@DisplayName("MyBatisProductServiceImpl 상품 검색 테스트")
+class MyBatisProductServiceImplSearchTest {
+
+    @Autowired
+    private MyBatisProductServiceImpl productService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM product WHERE name LIKE 'Indexed %'");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("트랜잭션 안에서 생성한 상품은 커밋 전까지 인덱스에 반영되지 않는다")
+    void testUncommittedProductIsNotIndexed() {
+        // Given: 시작 시 적재된 인덱스에 상품 생성 (테스트 종료 시 롤백)
+        productService.createProduct(product("Uncommitted Oak Desk"));
+
+        // When & Then
+        assertThat(productService.searchProducts("uncommitted", ProductNameMatch.PREFIX, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 생성한 상품은 바로 검색되고, 결과는 인덱스 순서를 따른다")
+    void testSearchReturnsProductsInIndexOrder() {
+        // Given
+        Product desk = productService.createProduct(product("Indexed Walnut Desk"));
+        Product lamp = productService.createProduct(product("Indexed Desk Lamp"));
+
+        // When
+        List<Product> prefix = productService.searchProducts("INDEXED", ProductNameMatch.PREFIX, 10);
+        List<Product> token = productService.searchProducts("desk indexed", ProductNameMatch.TOKEN, 10);
+        List<Product> exact = productService.searchProducts("indexed desk lamp", ProductNameMatch.EXACT, 10);
+
+        // Then: PREFIX는 이름 순, TOKEN/EXACT는 ID 순
+        assertThat(prefix).extracting(Product::getId).containsExactly(lamp.getId(), desk.getId());
+        assertThat(token).extracting(Product::getId).containsExactly(desk.getId(), lamp.getId());
+        assertThat(exact).extracting(Product::getName).containsExactly("Indexed Desk Lamp");
+    }
+
+    @Test
+    @DisplayName("빈 검색어는 IllegalArgumentException을 던진다")
+    void testBlankQueryThrows() {
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.searchProducts("  ", ProductNameMatch.PREFIX, 10));
+    }
+
+    private static Product product(String name) {
+        Product product = new Product();
+        product.setName(name);
+        product.setDescription("Search Description");
+        product.setPrice(10.0);
+        product.setStock(1);
+        return product;
+    }
+}
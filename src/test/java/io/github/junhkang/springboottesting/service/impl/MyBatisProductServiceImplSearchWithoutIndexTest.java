@@ -0,0 +1,68 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.ProductNameMatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 테스트 클래스: MyBatisProductServiceImplSearchWithoutIndexTest
+ *
+ * 이름 검색 인덱스를 끈 경우(products.search.index.enabled=false) DB 조회가 인덱스와 같은 기준
+ * (앞뒤 공백, 대소문자 무시)과 순서로 상품을 찾는지 검증합니다.
+ */
+@SpringBootTest(properties = "products.search.index.enabled=false")
+@Import(MyBatisProductServiceImpl.class)
+@ActiveProfiles("mybatis")
+@Transactional
+@DisplayName("MyBatisProductServiceImpl 상품 검색 테스트 (이름 검색 인덱스 없음)")
+class MyBatisProductServiceImplSearchWithoutIndexTest {
+
+    @Autowired
+    private MyBatisProductServiceImpl productService;
+
+    @Test
+    @DisplayName("EXACT/PREFIX는 인덱스처럼 앞뒤 공백과 대소문자를 무시한다")
+    void testSearchIgnoresCaseAndSurroundingSpaces() {
+        // Given
+        Product desk = productService.createProduct(product("Fallback Oak_Desk"));
+        Product lowerDesk = productService.createProduct(product("fallback oak_desk"));
+        Product lamp = productService.createProduct(product("Fallback OakXLamp"));
+
+        // When
+        List<Product> exact = productService.searchProducts("  FALLBACK OAK_DESK ", ProductNameMatch.EXACT, 10);
+        List<Product> prefix = productService.searchProducts(" fallback OAK", ProductNameMatch.PREFIX, 10);
+        List<Product> escaped = productService.searchProducts("fallback oak_", ProductNameMatch.PREFIX, 10);
+
+        // Then: EXACT는 ID 순, PREFIX는 정규화한 이름/ID 순, '_'는 문자 그대로 비교
+        assertThat(exact).extracting(Product::getId).containsExactly(desk.getId(), lowerDesk.getId());
+        assertThat(prefix).extracting(Product::getId).containsExactly(desk.getId(), lowerDesk.getId(), lamp.getId());
+        assertThat(escaped).extracting(Product::getId).containsExactly(desk.getId(), lowerDesk.getId());
+    }
+
+    @Test
+    @DisplayName("TOKEN 검색은 IllegalArgumentException을 던진다")
+    void testTokenSearchRequiresIndex() {
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.searchProducts("oak desk", ProductNameMatch.TOKEN, 10));
+    }
+
+    private static Product product(String name) {
+        Product product = new Product();
+        product.setName(name);
+        product.setDescription("Search Description");
+        product.setPrice(10.0);
+        product.setStock(1);
+        return product;
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -22,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 @SpringBootTest
 @Import(MyBatisUserServiceImpl.class)
 @ActiveProfiles("mybatis")
+@Transactional
 @DisplayName("MyBatisUserServiceImpl Test")
 class MyBatisUserServiceImplTest {
 
@@ -90,6 +92,27 @@ class MyBatisUserServiceImplTest {
 
             assertThat(exception.getMessage()).isEqualTo("User not found with id " + nonExistentId);
         }
+
+        @Test
+        @DisplayName("username으로 사용자 조회 - 인덱스에 없는 사용자는 DB에서 찾음")
+        void testGetUserByUsernameExists() {
+            // When: 서비스를 거치지 않고 저장한 사용자를 username으로 조회
+            User foundUser = userService.getUserByUsername(testUser.getUsername());
+
+            // Then
+            assertThat(foundUser.getId()).isEqualTo(testUser.getId());
+            assertThat(foundUser.getEmail()).isEqualTo(testUser.getEmail());
+        }
+
+        @Test
+        @DisplayName("username으로 사용자 조회 - 존재하지 않는 username")
+        void testGetUserByUsernameNotExists() {
+            ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
+                userService.getUserByUsername("no_such_user");
+            });
+
+            assertThat(exception.getMessage()).isEqualTo("User not found with username no_such_user");
+        }
     }
 
     @Nested
@@ -143,5 +166,21 @@ class MyBatisUserServiceImplTest {
 
             assertThat(exception.getMessage()).isEqualTo("User email is required.");
         }
+
+        @Test
+        @DisplayName("사용자 생성 테스트 - 잘못된 이메일 형식")
+        void testCreateUserInvalidEmail() {
+            // Given: '@'가 없는 이메일
+            User invalidEmailUser = new User();
+            invalidEmailUser.setUsername("invalid_email");
+            invalidEmailUser.setEmail("invalid-email");
+
+            // When & Then: 생성 시 IllegalArgumentException이 발생하는지 검증
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+                userService.createUser(invalidEmailUser);
+            });
+
+            assertThat(exception.getMessage()).isEqualTo("Invalid email format.");
+        }
     }
 }
\ No newline at end of file
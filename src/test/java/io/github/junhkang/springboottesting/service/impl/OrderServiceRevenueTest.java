@@ -0,0 +1,87 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.RevenueBucket;
+import io.github.junhkang.springboottesting.domain.RevenueGroup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: OrderServiceRevenueTest
+ *
+ * 매출 집계를 MyBatis(XML GROUP BY)와 JPA(JPQL GROUP BY) 구현으로 각각 실행해 결과가 같은지 검증합니다.
+ * 두 구현이 같은 데이터베이스를 보도록 한 컨텍스트에서 MyBatis 구현은 빈으로, JPA 구현은
+ * 프로파일과 무관하게 직접 생성(createBean)해서 비교하며, 집계 대상은 data.sql의 2024년 주문 5건입니다.
+ */
+@SpringBootTest
+@Import(MyBatisOrderServiceImpl.class)
+@ActiveProfiles("mybatis")
+@Transactional
+@DisplayName("매출 집계 MyBatis/JPA 일치 테스트")
+class OrderServiceRevenueTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2024, 12, 31, 23, 59);
+
+    @Autowired
+    private MyBatisOrderServiceImpl myBatisOrderService;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private JpaOrderServiceImpl jpaOrderService;
+
+    @BeforeEach
+    void setUp() {
+        jpaOrderService = applicationContext.getAutowireCapableBeanFactory().createBean(JpaOrderServiceImpl.class);
+    }
+
+    @ParameterizedTest
+    @EnumSource(RevenueGroup.class)
+    @DisplayName("두 구현의 집계 결과가 같다")
+    void testBothImplementationsAgree(RevenueGroup group) {
+        // When
+        List<RevenueBucket> myBatis = myBatisOrderService.getRevenue(group, START, END);
+        List<RevenueBucket> jpa = jpaOrderService.getRevenue(group, START, END);
+
+        // Then: 기준 값, 건수, 합계와 순서까지 동일
+        assertThat(myBatis).isNotEmpty();
+        assertThat(jpa).isEqualTo(myBatis);
+    }
+
+    @Test
+    @DisplayName("상태별 집계는 상태마다 건수와 금액 합계를 반환한다")
+    void testRevenueByStatus() {
+        // When
+        List<RevenueBucket> buckets = myBatisOrderService.getRevenue(RevenueGroup.STATUS, START, END);
+
+        // Then: CANCELED 1건(2400), COMPLETED 2건(200 + 500), PENDING 2건(3000 + 400)
+        assertThat(buckets).extracting(RevenueBucket::getKey).containsExactly("CANCELED", "COMPLETED", "PENDING");
+        assertThat(buckets).extracting(RevenueBucket::getOrderCount).containsExactly(1L, 2L, 2L);
+        assertThat(buckets).extracting(RevenueBucket::getRevenue).containsExactly(2400.0, 700.0, 3400.0);
+    }
+
+    @Test
+    @DisplayName("일별 집계의 기준 값은 yyyy-MM-dd 형식이고 기간 밖 주문은 제외된다")
+    void testRevenueByDay() {
+        // When: 1~3월만 조회
+        List<RevenueBucket> buckets = jpaOrderService.getRevenue(RevenueGroup.DAY, START, LocalDateTime.of(2024, 3, 31, 0, 0));
+
+        // Then
+        assertThat(buckets).extracting(RevenueBucket::getKey).containsExactly("2024-01-15", "2024-02-20", "2024-03-05");
+        assertThat(buckets).extracting(RevenueBucket::getRevenue).containsExactly(3000.0, 200.0, 2400.0);
+    }
+}
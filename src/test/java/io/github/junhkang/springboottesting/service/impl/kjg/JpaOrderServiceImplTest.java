@@ -239,7 +239,7 @@ class JpaOrderServiceImplTest {
 
 		@DisplayName("다양한 사용자 이름 및 이메일로 주문 생성 테스트")
 		@ParameterizedTest
-		@CsvSource({"test_user, test.user@example.com", "john_doe, john_doe@example.com"})
+		@CsvSource({"order_user, order.user@example.com", "jane_roe, jane_roe@example.com"})
 		void testCreateOrderWithDifferentUsers(String username, String email) {
 			// given
 			User user = new User();
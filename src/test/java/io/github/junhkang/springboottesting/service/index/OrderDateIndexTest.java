@@ -0,0 +1,110 @@
+package io.github.junhkang.springboottesting.service.index;
+
+import io.github.junhkang.springboottesting.domain.OrderSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 테스트 클래스: OrderDateIndexTest
+ *
+ * 버킷 경계에서의 포함/제외, 최초 적재, 커밋 후 추가를 검증합니다.
+ */
+@DisplayName("OrderDateIndex 테스트")
+class OrderDateIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 3, 1, 0, 0);
+
+    @Test
+    @DisplayName("양 끝 버킷은 실제 주문일로 걸러 내고 사이 버킷은 모두 포함한다")
+    void testFindIdsFiltersBoundaryBuckets() {
+        // Given: 시간 버킷, 10:00 ~ 13:59 사이 15분 간격 주문
+        OrderDateIndex index = new OrderDateIndex(ChronoUnit.HOURS);
+        for (int i = 0; i < 16; i++) {
+            index.add((long) i, BASE.plusHours(10).plusMinutes(15L * i));
+        }
+
+        // When: 10:20 ~ 12:40 조회
+        List<Long> ids = index.findIds(BASE.plusHours(10).plusMinutes(20), BASE.plusHours(12).plusMinutes(40), List::of);
+
+        // Then: 10:30(2) ~ 12:30(10)
+        assertThat(ids).containsExactly(2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+    }
+
+    @Test
+    @DisplayName("기간 양 끝과 같은 주문일도 포함하고, 시작이 끝보다 늦으면 빈 결과를 반환한다")
+    void testInclusiveBoundsAndEmptyRange() {
+        // Given
+        OrderDateIndex index = new OrderDateIndex(ChronoUnit.DAYS);
+        index.add(1L, BASE);
+        index.add(2L, BASE.plusDays(2));
+        index.add(3L, BASE.plusDays(3));
+
+        // When & Then
+        assertThat(index.findIds(BASE, BASE.plusDays(2), List::of)).containsExactly(1L, 2L);
+        assertThat(index.findIds(BASE.plusDays(2), BASE, List::of)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("첫 조회 때 한 번만 loader로 적재한다")
+    void testLoaderRunsOnce() {
+        // Given
+        OrderDateIndex index = new OrderDateIndex(ChronoUnit.HOURS);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<OrderSummary>> loader = () -> {
+            loads.incrementAndGet();
+            return List.of(summary(1L, BASE), summary(2L, BASE.plusDays(1)));
+        };
+
+        // When
+        List<Long> first = index.findIds(BASE, BASE.plusHours(1), loader);
+        List<Long> second = index.findIds(BASE, BASE.plusDays(1), loader);
+
+        // Then
+        assertThat(first).containsExactly(1L);
+        assertThat(second).containsExactly(1L, 2L);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 추가한 주문은 커밋된 뒤에 반영된다")
+    void testAddWaitsForCommit() {
+        // Given
+        OrderDateIndex index = new OrderDateIndex(ChronoUnit.HOURS);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When: 트랜잭션 안에서 추가
+            index.add(1L, BASE);
+
+            // Then: 커밋 전에는 보이지 않고, 커밋 후에 보임
+            assertThat(index.size()).isZero();
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCommit());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(index.findIds(BASE, BASE, List::of)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("버킷 단위는 HOURS 또는 DAYS만 허용한다")
+    void testRejectsOtherBucketUnits() {
+        assertThrows(IllegalArgumentException.class, () -> new OrderDateIndex(ChronoUnit.MINUTES));
+    }
+
+    private OrderSummary summary(Long id, LocalDateTime orderDate) {
+        OrderSummary summary = new OrderSummary();
+        summary.setId(id);
+        summary.setOrderDate(orderDate);
+        return summary;
+    }
+}
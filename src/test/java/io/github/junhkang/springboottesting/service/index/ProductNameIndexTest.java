@@ -0,0 +1,117 @@
+package io.github.junhkang.springboottesting.service.index;
+
+import io.github.junhkang.springboottesting.domain.ProductNameMatch;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: ProductNameIndexTest
+ *
+ * 일치/접두어/단어 검색 결과와 순서, 시작 시 적재와 이후 추가 반영을 검증합니다.
+ * 100만 건 p99 지연 측정은 -Dbenchmark=true로 실행할 때만 수행합니다.
+ */
+@Slf4j
+@DisplayName("ProductNameIndex 테스트")
+class ProductNameIndexTest {
+
+    private final ProductNameIndex index = indexOf(Map.of(
+            1L, "Oak Desk",
+            2L, "oak desk",
+            3L, "Oak Desk Lamp",
+            4L, "Walnut Desk",
+            5L, "Desk-Lamp, LED"));
+
+    @BeforeEach
+    void setUp() {
+        index.warmUp();
+    }
+
+    @Test
+    @DisplayName("EXACT는 대소문자와 앞뒤 공백을 무시하고 이름 전체가 같은 상품을 ID 순으로 반환한다")
+    void testExactMatch() {
+        assertThat(index.search("  OAK DESK ", ProductNameMatch.EXACT, 10)).containsExactly(1L, 2L);
+        assertThat(index.search("Oak", ProductNameMatch.EXACT, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("PREFIX는 이름 순, 같은 이름은 ID 순으로 limit건까지 반환한다")
+    void testPrefixMatch() {
+        assertThat(index.search("oak d", ProductNameMatch.PREFIX, 10)).containsExactly(1L, 2L, 3L);
+        assertThat(index.search("oak d", ProductNameMatch.PREFIX, 2)).containsExactly(1L, 2L);
+        assertThat(index.search("desk", ProductNameMatch.PREFIX, 10)).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("TOKEN은 검색어의 모든 단어가 이름에 있는 상품을 반환한다")
+    void testTokenMatch() {
+        assertThat(index.search("lamp desk", ProductNameMatch.TOKEN, 10)).containsExactly(3L, 5L);
+        assertThat(index.search("desk", ProductNameMatch.TOKEN, 3)).containsExactly(1L, 2L, 3L);
+        assertThat(index.search("led", ProductNameMatch.TOKEN, 10)).containsExactly(5L);
+        assertThat(index.search("desk chair", ProductNameMatch.TOKEN, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("시작 시 적재한 뒤 추가된 상품도 검색된다")
+    void testAddsNewProductsAfterWarmUp() {
+        // When: 트랜잭션 밖에서 추가하면 바로 반영
+        index.add(6L, "Oak Shelf");
+
+        // Then
+        assertThat(index.search("oak s", ProductNameMatch.PREFIX, 10)).containsExactly(6L);
+        assertThat(index.search("shelf", ProductNameMatch.TOKEN, 10)).containsExactly(6L);
+        assertThat(index.size()).isEqualTo(6);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("100만 건에서 검색 p99 지연 측정")
+    void benchmarkSearchLatencyOneMillionProducts() {
+        // Given: 형용사 × 재질 × 품목 조합으로 만든 100만 개의 이름
+        String[] adjectives = {"classic", "modern", "rustic", "compact", "deluxe", "vintage", "smart", "eco"};
+        String[] materials = {"oak", "walnut", "steel", "glass", "bamboo", "leather", "marble", "pine"};
+        String[] items = {"desk", "chair", "lamp", "shelf", "table", "sofa", "bench", "cabinet"};
+        Map<Long, String> names = new HashMap<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            names.put((long) i + 1, adjectives[i % 8] + " " + materials[(i / 8) % 8] + " " + items[(i / 64) % 8] + " " + i);
+        }
+        ProductNameIndex large = indexOf(names);
+        large.warmUp();
+
+        // When: 방식별로 10만 번씩 검색
+        String[] queries = {"modern oak desk 4242", "rustic walnut", "steel lamp", "eco bamboo sofa"};
+        long[] nanos = new long[300_000];
+        int n = 0;
+        for (ProductNameMatch match : ProductNameMatch.values()) {
+            for (int i = 0; i < 100_000; i++) {
+                long start = System.nanoTime();
+                large.search(queries[i % queries.length], match, 20);
+                nanos[n++] = System.nanoTime() - start;
+            }
+        }
+
+        // Then
+        Arrays.sort(nanos);
+        long p99 = nanos[(int) (nanos.length * 0.99)];
+        log.info("Product name search over {} products: p50={} us, p99={} us",
+                large.size(), nanos[nanos.length / 2] / 1_000, p99 / 1_000);
+        assertThat(p99).isLessThan(1_000_000L);
+    }
+
+    private static ProductNameIndex indexOf(Map<Long, String> names) {
+        return new ProductNameIndex() {
+            @Override
+            protected Map<Long, String> loadAll() {
+                return names;
+            }
+        };
+    }
+}
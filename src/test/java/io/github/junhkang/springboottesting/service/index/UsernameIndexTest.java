@@ -0,0 +1,92 @@
+package io.github.junhkang.springboottesting.service.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: UsernameIndexTest
+ *
+ * 시작 시 적재, 생성 시 추가, 인덱스에 없는 username의 DB 조회 대체를 검증합니다.
+ */
+@DisplayName("UsernameIndex 테스트")
+class UsernameIndexTest {
+
+    @Test
+    @DisplayName("적재된 username은 DB를 조회하지 않고 ID를 반환한다")
+    void testWarmedUsernameIsServedFromIndex() {
+        // Given
+        TableIndex index = new TableIndex(Map.of("alice", 1L, "bob", 2L));
+
+        // When
+        index.warmUp();
+
+        // Then
+        assertThat(index.findId("alice")).isEqualTo(1L);
+        assertThat(index.findId("bob")).isEqualTo(2L);
+        assertThat(index.lookups.get()).isZero();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("인덱스에 없으면 DB에서 찾아 추가하고, 없는 사용자는 null을 반환한다")
+    void testMissFallsBackToQuery() {
+        // Given: 적재 이후 서비스를 거치지 않고 추가된 사용자
+        TableIndex index = new TableIndex(Map.of("alice", 1L));
+        index.warmUp();
+        index.users.put("carol", 3L);
+
+        // When
+        Long first = index.findId("carol");
+        Long second = index.findId("carol");
+        Long missing = index.findId("nobody");
+
+        // Then: 두 번째 조회는 인덱스에서
+        assertThat(first).isEqualTo(3L);
+        assertThat(second).isEqualTo(3L);
+        assertThat(missing).isNull();
+        assertThat(index.lookups.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("추가/제거가 바로 반영된다")
+    void testAddAndRemove() {
+        // Given
+        TableIndex index = new TableIndex(Map.of());
+        index.warmUp();
+
+        // When
+        index.add(4L, "dave");
+
+        // Then
+        assertThat(index.findId("dave")).isEqualTo(4L);
+        index.remove("dave");
+        assertThat(index.findId("dave")).isNull();
+        assertThat(index.lookups.get()).isEqualTo(1);
+    }
+
+    private static class TableIndex extends UsernameIndex {
+        final Map<String, Long> users;
+        final AtomicInteger lookups = new AtomicInteger();
+
+        TableIndex(Map<String, Long> users) {
+            this.users = new HashMap<>(users);
+        }
+
+        @Override
+        protected Map<String, Long> loadAll() {
+            return new HashMap<>(users);
+        }
+
+        @Override
+        protected Long loadId(String username) {
+            lookups.incrementAndGet();
+            return users.get(username);
+        }
+    }
+}
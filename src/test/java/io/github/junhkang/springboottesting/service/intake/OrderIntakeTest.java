@@ -0,0 +1,143 @@
+package io.github.junhkang.springboottesting.service.intake;
+
+import io.github.junhkang.springboottesting.domain.OrderLine;
+import io.github.junhkang.springboottesting.domain.OrderLineResult;
+import io.github.junhkang.springboottesting.domain.OrderTicket;
+import io.github.junhkang.springboottesting.domain.OrderTicket.TicketStatus;
+import io.github.junhkang.springboottesting.exception.OrderIntakeRejectedException;
+import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import io.github.junhkang.springboottesting.service.OrderService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+
+/**
+ * 테스트 클래스: OrderIntakeTest
+ *
+ * OrderService를 목(mock)으로 대체하여 큐 접수, 배치 커밋, 티켓 상태 전이를 검증합니다.
+ */
+@DisplayName("OrderIntake 테스트")
+class OrderIntakeTest {
+
+    private final OrderService orderService = Mockito.mock(OrderService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OrderIntake intake;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (intake != null) {
+            intake.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("대기 중인 주문은 한 번의 createOrders 호출로 묶여 커밋되고 티켓에 결과가 기록된다")
+    void testQueuedOrdersAreGroupCommitted() throws Exception {
+        // Given: 첫 배치 커밋이 끝나지 않도록 막아 두고, 그 사이 추가 주문이 쌓이도록 설정
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        List<Integer> batchSizes = new ArrayList<>();
+        Mockito.when(orderService.createOrders(anyList())).thenAnswer(invocation -> {
+            List<OrderLine> lines = invocation.getArgument(0);
+            batchSizes.add(lines.size());
+            firstBatchStarted.countDown();
+            releaseFirstBatch.await(5, TimeUnit.SECONDS);
+            List<OrderLineResult> results = new ArrayList<>();
+            for (int i = 0; i < lines.size(); i++) {
+                results.add(lines.get(i).getQuantity() > 0
+                        ? OrderLineResult.succeeded(i, 100L + i)
+                        : OrderLineResult.failed(i, "Quantity must be greater than zero."));
+            }
+            return results;
+        });
+        intake = new OrderIntake(orderService, meterRegistry, 100, 10, 1000);
+
+        // When: 첫 주문이 처리되는 동안 주문 3건을 추가 접수
+        OrderTicket first = intake.submit(new OrderLine(1L, 1L, 1));
+        assertThat(firstBatchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        OrderTicket second = intake.submit(new OrderLine(1L, 1L, 2));
+        OrderTicket third = intake.submit(new OrderLine(1L, 1L, 0));
+        OrderTicket fourth = intake.submit(new OrderLine(1L, 1L, 3));
+        releaseFirstBatch.countDown();
+        awaitCompletion(fourth.getId());
+
+        // Then: 추가된 3건은 한 배치로 커밋되고, 각 티켓에 개별 결과가 반영됨
+        assertThat(batchSizes).containsExactly(1, 3);
+        assertThat(intake.getTicket(first.getId()).getStatus()).isEqualTo(TicketStatus.COMPLETED);
+        assertThat(intake.getTicket(second.getId()).getOrderId()).isEqualTo(100L);
+        assertThat(intake.getTicket(third.getId()).getStatus()).isEqualTo(TicketStatus.FAILED);
+        assertThat(intake.getTicket(third.getId()).getError()).isEqualTo("Quantity must be greater than zero.");
+        assertThat(intake.getTicket(fourth.getId()).getOrderId()).isEqualTo(102L);
+        assertThat(meterRegistry.get("orders.intake.batch.size").summary().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("orders.intake.commit.latency").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("배치 커밋이 예외로 실패하면 배치의 모든 티켓이 FAILED가 된다")
+    void testFailedCommitFailsAllTickets() throws Exception {
+        // Given: createOrders가 예외를 던지도록 설정
+        Mockito.when(orderService.createOrders(anyList()))
+                .thenThrow(new IllegalStateException("could not execute statement [insert into orders ...]"));
+        intake = new OrderIntake(orderService, meterRegistry, 100, 10, 1000);
+
+        // When: 주문 접수 후 처리 대기
+        OrderTicket ticket = intake.submit(new OrderLine(1L, 1L, 1));
+        awaitCompletion(ticket.getId());
+
+        // Then: 티켓은 실패 상태이며, 예외 메시지(SQL 등) 대신 일반 오류 메시지만 포함
+        OrderTicket result = intake.getTicket(ticket.getId());
+        assertThat(result.getStatus()).isEqualTo(TicketStatus.FAILED);
+        assertThat(result.getError()).isEqualTo(OrderIntake.PROCESSING_FAILED);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 접수를 거절한다")
+    void testSubmitRejectsWhenQueueIsFull() throws Exception {
+        // Given: writer가 첫 배치에서 멈춰 있고 큐 용량은 1
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Mockito.when(orderService.createOrders(anyList())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(OrderLineResult.succeeded(0, 1L));
+        });
+        intake = new OrderIntake(orderService, meterRegistry, 1, 10, 1000);
+        intake.submit(new OrderLine(1L, 1L, 1));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        intake.submit(new OrderLine(1L, 1L, 1));
+
+        // When & Then: 추가 접수 시 OrderIntakeRejectedException 발생, 큐 길이 메트릭은 1
+        assertThrows(OrderIntakeRejectedException.class, () -> intake.submit(new OrderLine(1L, 1L, 1)));
+        assertThat(meterRegistry.get("orders.intake.queue.depth").gauge().value()).isEqualTo(1.0);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 티켓 조회 시 ResourceNotFoundException 발생")
+    void testGetTicketNotFound() {
+        // Given
+        intake = new OrderIntake(orderService, meterRegistry, 10, 10, 1000);
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> intake.getTicket("unknown"));
+    }
+
+    private void awaitCompletion(String ticketId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (intake.getTicket(ticketId).getStatus() == TicketStatus.PENDING) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.junhkang.springboottesting.service.inventory;
+
+import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 테스트 클래스: InventoryLedgerTest
+ *
+ * DB 대신 Map으로 재고를 보관하는 원장 구현으로 예약/복구/flush 동작을 검증합니다.
+ */
+@DisplayName("InventoryLedger 테스트")
+class InventoryLedgerTest {
+
+    private InMemoryLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        ledger = new InMemoryLedger();
+        ledger.stock.put(1L, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ledger.shutdown();
+    }
+
+    @Test
+    @DisplayName("재고 범위 내 예약은 성공하고 초과 예약은 DB 접근 없이 거절된다")
+    void testReserveRejectsWithoutTouchingDatabase() {
+        // When: 재고 10개 중 7개 예약 후 5개 추가 예약
+        boolean first = ledger.reserve(1L, 7);
+        boolean second = ledger.reserve(1L, 5);
+
+        // Then: 두 번째 예약은 거절되고, DB 조회는 최초 1회뿐이며 DB 재고는 아직 그대로
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(ledger.getAvailable(1L)).isEqualTo(3);
+        assertThat(ledger.loads.get()).isEqualTo(1);
+        assertThat(ledger.stock.get(1L)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("flush 시 누적된 변경분만 DB에 반영된다")
+    void testFlushAppliesNetDelta() {
+        // Given: 4개 예약, 1개 복구
+        ledger.reserve(1L, 4);
+        ledger.release(1L, 1);
+
+        // When: flush
+        ledger.flush();
+        ledger.flush();
+
+        // Then: 순 변경분 -3이 한 번만 반영됨
+        assertThat(ledger.stock.get(1L)).isEqualTo(7);
+        assertThat(ledger.applies.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품은 ResourceNotFoundException을 던진다")
+    void testReserveUnknownProduct() {
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> ledger.reserve(999L, 1));
+
+        assertThat(exception.getMessage()).isEqualTo("Product not found with id 999");
+    }
+
+    @Test
+    @DisplayName("동시 예약 시 재고 이상으로 예약되지 않는다")
+    void testConcurrentReserveNeverOversells() throws InterruptedException {
+        // Given: 재고 10개에 100건의 동시 예약
+        AtomicInteger succeeded = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch done = new CountDownLatch(100);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            executor.submit(() -> {
+                if (ledger.reserve(1L, 1)) {
+                    succeeded.incrementAndGet();
+                }
+                done.countDown();
+            });
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        ledger.flush();
+
+        // Then
+        assertThat(succeeded.get()).isEqualTo(10);
+        assertThat(ledger.stock.get(1L)).isZero();
+        assertThat(ledger.loads.get()).isEqualTo(1);
+    }
+
+    private static class InMemoryLedger extends InventoryLedger {
+        private final Map<Long, Integer> stock = new ConcurrentHashMap<>();
+        private final AtomicInteger loads = new AtomicInteger();
+        private final AtomicInteger applies = new AtomicInteger();
+
+        InMemoryLedger() {
+            super(4, 60_000, null);
+        }
+
+        @Override
+        protected Integer loadStock(Long productId) {
+            loads.incrementAndGet();
+            return stock.get(productId);
+        }
+
+        @Override
+        protected void applyDelta(Long productId, int delta) {
+            applies.incrementAndGet();
+            stock.merge(productId, delta, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package io.github.junhkang.springboottesting.service.inventory;
+
+import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 테스트 클래스: StockBucketsTest
+ *
+ * DB 대신 Map으로 product 행과 버킷 행을 보관하는 구현으로 분할/차감/가져오기(steal)/복구 동작을 검증합니다.
+ */
+@DisplayName("StockBuckets 테스트")
+class StockBucketsTest {
+
+    private InMemoryBuckets buckets;
+
+    @BeforeEach
+    void setUp() {
+        buckets = new InMemoryBuckets(4);
+        buckets.rows.put(1L, 10);
+    }
+
+    @Test
+    @DisplayName("분할 시 product 행의 재고가 버킷에 고르게 옮겨진다")
+    void testSplitDistributesRowStock() {
+        // When
+        buckets.split(1L);
+
+        // Then: 10개를 4개 버킷에 3, 3, 2, 2로 나누고 product 행은 0
+        assertThat(buckets.buckets.get(1L)).containsExactly(Map.entry(0, 3), Map.entry(1, 3), Map.entry(2, 2), Map.entry(3, 2));
+        assertThat(buckets.rows.get(1L)).isZero();
+        assertThat(buckets.bucketStock(1L)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품은 분할할 수 없다")
+    void testSplitUnknownProduct() {
+        assertThrows(ResourceNotFoundException.class, () -> buckets.split(999L));
+    }
+
+    @Test
+    @DisplayName("분할하지 않은 상품은 product 행에서 차감한다")
+    void testTakeFromRowWhenNotSharded() {
+        // When & Then
+        assertThat(buckets.take(1L, 4)).isTrue();
+        assertThat(buckets.rows.get(1L)).isEqualTo(6);
+        assertThat(buckets.isSharded(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("담당 버킷이 부족하면 다른 버킷에서 가져온다")
+    void testTakeStealsFromSibling() {
+        // Given: 담당 버킷(0번)은 3개뿐
+        buckets.split(1L);
+        buckets.home = 0;
+
+        // When: 3개를 넘는 수량을 두 번 주문
+        boolean first = buckets.take(1L, 3);
+        boolean second = buckets.take(1L, 3);
+
+        // Then: 첫 주문은 담당 버킷, 두 번째는 재고가 충분한 1번 버킷에서 차감
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(buckets.buckets.get(1L)).containsExactly(Map.entry(0, 0), Map.entry(1, 0), Map.entry(2, 2), Map.entry(3, 2));
+    }
+
+    @Test
+    @DisplayName("어느 한 버킷으로도 부족하면 여러 버킷과 product 행에서 나눠 차감한다")
+    void testTakeGathersAcrossBucketsAndRow() {
+        // Given: 버킷 합계 10개, 이후 product 행에 5개 입고
+        buckets.split(1L);
+        buckets.rows.put(1L, 5);
+
+        // When: 12개 주문
+        boolean taken = buckets.take(1L, 12);
+
+        // Then: 버킷 10개를 모두 쓰고 나머지 2개를 product 행에서 차감
+        assertThat(taken).isTrue();
+        assertThat(buckets.bucketStock(1L)).isZero();
+        assertThat(buckets.rows.get(1L)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("전체 재고가 부족하면 부분 차감분을 되돌리고 실패한다")
+    void testTakeRestoresPartialTakesOnShortage() {
+        // Given
+        buckets.split(1L);
+
+        // When: 전체 재고(10개)보다 많은 11개 주문
+        boolean taken = buckets.take(1L, 11);
+
+        // Then: 실패하고 모든 버킷 재고가 원래대로 유지됨
+        assertThat(taken).isFalse();
+        assertThat(buckets.buckets.get(1L)).containsExactly(Map.entry(0, 3), Map.entry(1, 3), Map.entry(2, 2), Map.entry(3, 2));
+        assertThat(buckets.rows.get(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("분할된 상품의 복구 재고는 담당 버킷에 더해진다")
+    void testPutReturnsStockToHomeBucket() {
+        // Given
+        buckets.split(1L);
+        buckets.home = 2;
+
+        // When
+        buckets.put(1L, 5);
+
+        // Then
+        assertThat(buckets.buckets.get(1L).get(2)).isEqualTo(7);
+        assertThat(buckets.bucketStock(1L)).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("분할 트랜잭션이 롤백되면 분할되지 않은 상품으로 남는다")
+    void testRolledBackSplitIsNotMarkedSharded() {
+        // Given: 트랜잭션 안에서 분할
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            buckets.split(1L);
+
+            // When: 롤백으로 버킷 행과 product 행 재고가 원래대로 돌아감
+            buckets.buckets.remove(1L);
+            buckets.rows.put(1L, 10);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then: 주문은 없는 버킷이 아니라 product 행에서 차감
+        assertThat(buckets.isSharded(1L)).isFalse();
+        assertThat(buckets.take(1L, 4)).isTrue();
+        assertThat(buckets.rows.get(1L)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("재고 원장과 함께 활성화할 수 없다")
+    void testCannotBeEnabledWithLedger() {
+        assertThrows(IllegalStateException.class, () -> new InMemoryBuckets(4, true));
+    }
+
+    private static class InMemoryBuckets extends StockBuckets {
+        final Map<Long, Integer> rows = new HashMap<>();
+        final Map<Long, TreeMap<Integer, Integer>> buckets = new HashMap<>();
+        int home = 0;
+
+        InMemoryBuckets(int bucketCount) {
+            this(bucketCount, false);
+        }
+
+        InMemoryBuckets(int bucketCount, boolean ledgerEnabled) {
+            super(bucketCount, ledgerEnabled);
+        }
+
+        @Override
+        int homeBucket() {
+            return home;
+        }
+
+        @Override
+        protected Integer loadRowStock(Long productId) {
+            return rows.get(productId);
+        }
+
+        @Override
+        protected int decreaseRow(Long productId, int quantity) {
+            int stock = rows.getOrDefault(productId, 0);
+            if (stock < quantity) {
+                return 0;
+            }
+            rows.put(productId, stock - quantity);
+            return 1;
+        }
+
+        @Override
+        protected int increaseRow(Long productId, int quantity) {
+            rows.merge(productId, quantity, Integer::sum);
+            return 1;
+        }
+
+        @Override
+        protected Map<Integer, Integer> loadBuckets(Long productId) {
+            return new TreeMap<>(buckets.getOrDefault(productId, new TreeMap<>()));
+        }
+
+        @Override
+        protected void insertBucket(Long productId, int bucketIndex, int stock) {
+            buckets.computeIfAbsent(productId, id -> new TreeMap<>()).put(bucketIndex, stock);
+        }
+
+        @Override
+        protected int decreaseBucket(Long productId, int bucketIndex, int quantity) {
+            Map<Integer, Integer> productBuckets = buckets.get(productId);
+            if (productBuckets == null || productBuckets.getOrDefault(bucketIndex, 0) < quantity) {
+                return 0;
+            }
+            productBuckets.merge(bucketIndex, -quantity, Integer::sum);
+            return 1;
+        }
+
+        @Override
+        protected int increaseBucket(Long productId, int bucketIndex, int quantity) {
+            Map<Integer, Integer> productBuckets = buckets.get(productId);
+            if (productBuckets == null || !productBuckets.containsKey(bucketIndex)) {
+                return 0;
+            }
+            productBuckets.merge(bucketIndex, quantity, Integer::sum);
+            return 1;
+        }
+    }
+}
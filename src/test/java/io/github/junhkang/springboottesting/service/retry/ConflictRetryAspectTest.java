@@ -0,0 +1,133 @@
+package io.github.junhkang.springboottesting.service.retry;
+
+import io.github.junhkang.springboottesting.domain.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 테스트 클래스: ConflictRetryAspectTest
+ *
+ * 충돌을 지정한 횟수만큼 던지는 대상 객체에 애스펙트를 적용해 재시도 횟수와 메트릭을 검증합니다.
+ * 상품 7, 42만 ID로 태그하도록 설정합니다.
+ */
+@DisplayName("ConflictRetryAspect 테스트")
+class ConflictRetryAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConflictingService target;
+    private ConflictingService proxy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        target = new ConflictingService();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ConflictRetryAspect(meterRegistry, 3, 1, 5, Set.of(7L, 42L)));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("충돌이 최대 시도 횟수 안에서 해소되면 결과를 반환한다")
+    void testRetriesUntilSuccess() {
+        // Given: 두 번 충돌 후 성공
+        target.conflictsLeft = 2;
+
+        // When
+        String result = proxy.placeOrder(7L);
+
+        // Then: 3번 시도, 충돌 2회/재시도 2회가 상품 7로 기록됨
+        assertThat(result).isEqualTo("ok");
+        assertThat(target.attempts.get()).isEqualTo(3);
+        assertThat(meterRegistry.counter(ConflictRetryAspect.CONFLICTS, "operation", "placeOrder", "product", "7").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter(ConflictRetryAspect.RETRIES, "operation", "placeOrder", "product", "7").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘으면 마지막 예외를 던진다")
+    void testGivesUpAfterMaxAttempts() {
+        // Given: 계속 충돌
+        target.conflictsLeft = Integer.MAX_VALUE;
+
+        // When & Then
+        assertThrows(OptimisticLockingFailureException.class, () -> proxy.placeOrder(7L));
+        assertThat(target.attempts.get()).isEqualTo(3);
+        assertThat(meterRegistry.counter(ConflictRetryAspect.EXHAUSTED, "operation", "placeOrder", "product", "7").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("낙관적 락 실패가 상품 엔티티에서 나면 그 상품 ID로 기록한다")
+    void testTagsProductFromOptimisticLockFailure() {
+        // Given: 상품 42의 버전 충돌 1회
+        target.conflictsLeft = 1;
+        target.conflictingProductId = 42L;
+
+        // When
+        proxy.cancel(1L);
+
+        // Then
+        assertThat(meterRegistry.counter(ConflictRetryAspect.CONFLICTS, "operation", "cancel", "product", "42").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("지정되지 않은 상품의 충돌은 other로 합산한다")
+    void testUntrackedProductsShareOneTag() {
+        // Given: 지정되지 않은 두 상품에서 각각 충돌 1회
+        target.conflictsLeft = 1;
+        proxy.placeOrder(8L);
+        target.conflictsLeft = 1;
+        proxy.placeOrder(9L);
+
+        // Then: 상품별 미터가 생기지 않고 하나의 카운터에 합산됨
+        assertThat(meterRegistry.counter(ConflictRetryAspect.CONFLICTS, "operation", "placeOrder", "product", "other").count()).isEqualTo(2);
+        assertThat(meterRegistry.find(ConflictRetryAspect.CONFLICTS).counters()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("백오프는 상한을 넘지 않는다")
+    void testBackoffIsBounded() {
+        ConflictRetryAspect aspect = new ConflictRetryAspect(meterRegistry, 10, 10, 200, Set.of());
+
+        for (int attempt = 1; attempt <= 30; attempt++) {
+            assertThat(aspect.backoffMillis(attempt)).isBetween(0L, 200L);
+        }
+    }
+
+    static class ConflictingService {
+        private final AtomicInteger attempts = new AtomicInteger();
+        private int conflictsLeft;
+        private Long conflictingProductId;
+
+        @RetryOnConflict
+        public String placeOrder(Long productId) {
+            return attempt();
+        }
+
+        @RetryOnConflict
+        public String cancel(Long id) {
+            return attempt();
+        }
+
+        private String attempt() {
+            attempts.incrementAndGet();
+            if (conflictsLeft-- > 0) {
+                if (conflictingProductId != null) {
+                    throw new ObjectOptimisticLockingFailureException(Product.class, conflictingProductId);
+                }
+                throw new OptimisticLockingFailureException("conflict");
+            }
+            return "ok";
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.junhkang.springboottesting.service.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: BoundedTtlCacheTest
+ *
+ * 시간을 직접 조정할 수 있는 clock으로 TTL 만료, 최대 크기 제한, 조회 시점 항목과 비교한 교체를 검증합니다.
+ */
+@DisplayName("BoundedTtlCache 테스트")
+class BoundedTtlCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger evictions = new AtomicInteger();
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 조회되지 않고 제거 수가 기록된다")
+    void testEntryExpiresAfterTtl() {
+        // Given: TTL 60초
+        BoundedTtlCache<String, Long> cache = cache(60, 10);
+        cache.put("key", 1L);
+
+        // When & Then: 59초 후에는 조회되고, 61초 후에는 만료
+        now.addAndGet(TimeUnit.SECONDS.toNanos(59));
+        assertThat(cache.get("key").value()).isEqualTo(1L);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertThat(cache.get("key")).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(evictions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 먼저 들어온 항목부터 제거된다")
+    void testOldestEntryIsEvictedWhenFull() {
+        // Given: 최대 2개
+        BoundedTtlCache<String, Long> cache = cache(60, 2);
+
+        // When: 3개 저장
+        cache.put("a", 1L);
+        cache.put("b", 2L);
+        cache.put("c", 3L);
+
+        // Then: 첫 번째 항목만 제거됨
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b").value()).isEqualTo(2L);
+        assertThat(cache.get("c").value()).isEqualTo(3L);
+        assertThat(evictions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 이후 다른 항목으로 바뀌었으면 교체하지 않는다")
+    void testReplaceLosesToNewerEntry() {
+        // Given: 빈 자리와 값이 같은 무효화 표시 두 개
+        BoundedTtlCache<String, Long> cache = cache(60, 10);
+        BoundedTtlCache.Entry<Long> absent = cache.get("key");
+        cache.put("key", null);
+        BoundedTtlCache.Entry<Long> marker = cache.get("key");
+        cache.put("key", null);
+
+        // When & Then: 값이 같아도 동일한 항목이 아니면 교체되지 않음
+        assertThat(cache.replace("key", absent, 1L)).isFalse();
+        assertThat(cache.replace("key", marker, 1L)).isFalse();
+        assertThat(cache.replace("key", cache.get("key"), 1L)).isTrue();
+        assertThat(cache.get("key").value()).isEqualTo(1L);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    private BoundedTtlCache<String, Long> cache(long ttlSeconds, int maxSize) {
+        return new BoundedTtlCache<>(ttlSeconds, maxSize, now::get, evictions::incrementAndGet);
+    }
+}
@@ -0,0 +1,148 @@
+package io.github.junhkang.springboottesting.service.validation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: EmailValidatorTest
+ *
+ * 기존 정규식({@code ^[A-Za-z0-9+_.-]+@(.+)$})과 같은 문자열만 허용하는지, 경계 사례와 무작위로 만든 문자열로 비교합니다.
+ * 무작위 문자열은 허용 문자, '@', 줄 종결 문자, 비ASCII 문자, 서로게이트를 섞어 만들고 시드를 고정해 재현 가능하게 합니다.
+ * 정규식 대비 처리 시간 측정은 -Dbenchmark=true로 실행할 때만 수행합니다.
+ */
+@Slf4j
+@DisplayName("EmailValidator 테스트")
+class EmailValidatorTest {
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
+
+    // 허용 문자와 그 경계(허용 범위 바로 앞/뒤 문자), 특수 문자를 섞은 알파벳
+    private static final char[] ALPHABET = (
+            "aAzZ09+_.-@" + "@@" + "`{[/:,!#%* " + "\n\r\u0085\u2028\u2029\t\u000B\f"
+                    + "\u00E9\u00DF\uD55C\u00A0\uFEFF" + "\uD83D\uDE00\uD800\uDC00"
+    ).toCharArray();
+
+    @Test
+    @DisplayName("경계 사례에서 정규식과 같은 결과를 낸다")
+    void testEdgeCases() {
+        List<String> cases = List.of(
+                "", "@", "a@", "@b", "a@b", "a@@", "a@@b", "a@b@c", "a.b+c_d-e@example.com",
+                "A@B", "0@0", "a b@c", "a@b c", "\u00E9@b", "a@\u00E9", "a@b\n", "a@\nb", "a@b\r\n", "a\n@b",
+                "a@b\u0085", "a@b\u2028", "a@b\u2029", "a@b\t", "a@\uD83D\uDE00", "a@\uD800", "\uD800@b",
+                "a`@b", "a{@b", "a[@b", "a/@b", "a:@b", "a,@b", "a@ ", " a@b");
+        for (String email : cases) {
+            assertThat(EmailValidator.isValid(email)).as(printable(email)).isEqualTo(EMAIL_PATTERN.matcher(email).matches());
+        }
+        assertThat(EmailValidator.isValid(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("무작위 문자열 20만 개에서 정규식과 같은 결과를 낸다")
+    void testEquivalentToRegexOnRandomInput() {
+        Random random = new Random(20241016L);
+        int accepted = 0;
+        for (int i = 0; i < 200_000; i++) {
+            String email = randomEmail(random);
+            boolean expected = EMAIL_PATTERN.matcher(email).matches();
+            assertThat(EmailValidator.isValid(email)).as(printable(email)).isEqualTo(expected);
+            if (expected) {
+                accepted++;
+            }
+        }
+        // 허용/거부 양쪽이 충분히 섞여 있어야 의미 있는 비교
+        assertThat(accepted).isBetween(20_000, 180_000);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("정규식 대비 처리 시간 측정")
+    void benchmarkAgainstRegex() {
+        Random random = new Random(7L);
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            emails.add(random.nextInt(4) == 0 ? randomEmail(random) : "user" + i + ".name+tag@example" + i + ".com");
+        }
+        for (int warmup = 0; warmup < 20; warmup++) {
+            runRegex(emails);
+            runValidator(emails);
+        }
+
+        long regexNanos = 0;
+        long validatorNanos = 0;
+        int rounds = 100;
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            int regexAccepted = runRegex(emails);
+            regexNanos += System.nanoTime() - start;
+            start = System.nanoTime();
+            int validatorAccepted = runValidator(emails);
+            validatorNanos += System.nanoTime() - start;
+            assertThat(validatorAccepted).isEqualTo(regexAccepted);
+        }
+        long checks = (long) rounds * emails.size();
+        log.info("Email validation: regex={} ns/op, validator={} ns/op", regexNanos / checks, validatorNanos / checks);
+    }
+
+    private static int runRegex(List<String> emails) {
+        int accepted = 0;
+        for (String email : emails) {
+            if (EMAIL_PATTERN.matcher(email).matches()) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+
+    private static int runValidator(List<String> emails) {
+        int accepted = 0;
+        for (String email : emails) {
+            if (EmailValidator.isValid(email)) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+
+    // 절반은 "허용 문자열@나머지" 골격에 잡음을 넣고, 나머지는 알파벳에서 완전히 무작위로 뽑는다
+    private static String randomEmail(Random random) {
+        StringBuilder email = new StringBuilder();
+        if (random.nextBoolean()) {
+            appendRandom(email, random, "abcXYZ019+_.-", random.nextInt(4));
+            email.append('@');
+            appendRandom(email, random, "example.com", random.nextInt(4));
+            int noise = random.nextInt(3);
+            for (int i = 0; i < noise; i++) {
+                email.insert(random.nextInt(email.length() + 1), ALPHABET[random.nextInt(ALPHABET.length)]);
+            }
+        } else {
+            int length = random.nextInt(8);
+            for (int i = 0; i < length; i++) {
+                email.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+            }
+        }
+        return email.toString();
+    }
+
+    private static void appendRandom(StringBuilder builder, Random random, String chars, int count) {
+        for (int i = 0; i < count; i++) {
+            builder.append(chars.charAt(random.nextInt(chars.length())));
+        }
+    }
+
+    private static String printable(String email) {
+        StringBuilder result = new StringBuilder();
+        for (char c : email.toCharArray()) {
+            result.append(c >= 0x20 && c < 0x7F ? String.valueOf(c) : String.format("\\u%04X", (int) c));
+        }
+        return result.toString();
+    }
+}